@@ -2,29 +2,48 @@ package gg.admin.repo.manage;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisZSetCommands;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import gg.data.manage.redis.RedisPenaltyUser;
 import gg.data.manage.type.PenaltyKey;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 패널티 유저를 PenaltyKey.USER_ADMIN + intraId 에 저장하고, 두 ZSET 으로 색인한다.
+ * <p>
+ *     - PenaltyKey.RELEASE_INDEX : release time 순 목록 <br/>
+ *     - PenaltyKey.INTRA_ID_INDEX : intraId 사전순 목록 (prefix 검색) <br/>
+ *     목록은 KEYS 없이 색인에서 intraId 를 한 페이지만 꺼내고 MGET 한 번으로 조회한다. <br/>
+ *     색인 쓰기와 만료된 유저 정리는 PenaltyUserIndexRedisRepository 가 맡는다.
+ * </p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class PenaltyUserAdminRedisRepository {
+	private static final String LEX_MAX = "\uffff";
+
 	private final RedisTemplate<String, RedisPenaltyUser> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final PenaltyUserIndexRedisRepository penaltyUserIndexRedisRepository;
 
 	public void addPenaltyUser(RedisPenaltyUser penaltyUser, LocalDateTime releaseTime) {
 		LocalDateTime now = LocalDateTime.now();
 		Duration duration = Duration.between(now, releaseTime);
 		redisTemplate.opsForValue().set(PenaltyKey.USER_ADMIN + penaltyUser.getIntraId(), penaltyUser,
 			duration.getSeconds(), TimeUnit.SECONDS);
+		penaltyUserIndexRedisRepository.add(penaltyUser.getIntraId(), releaseTime);
 	}
 
 	public Optional<RedisPenaltyUser> findByIntraId(String intraId) {
@@ -32,18 +51,33 @@ public class PenaltyUserAdminRedisRepository {
 		return Optional.ofNullable(penaltyUser);
 	}
 
-	public List<RedisPenaltyUser> findAll() {
-		Set<String> penaltyUserKeys = redisTemplate.keys(PenaltyKey.ALL + "*");
-		List<RedisPenaltyUser> users = penaltyUserKeys.stream().map(key -> redisTemplate.opsForValue().get(key))
-			.collect(Collectors.toList());
-		return users;
+	/**
+	 * 패널티 중인 유저를 release time 이 빠른 순으로 조회한다.
+	 */
+	public List<RedisPenaltyUser> findAll(Pageable pageable) {
+		penaltyUserIndexRedisRepository.removeExpired();
+		long start = pageable.getOffset();
+		Set<String> intraIds = stringRedisTemplate.opsForZSet()
+			.range(PenaltyKey.RELEASE_INDEX, start, start + pageable.getPageSize() - 1);
+		return findAllByIntraIds(intraIds);
 	}
 
-	public List<RedisPenaltyUser> findAllByKeyword(String keyword) {
-		Set<String> penaltyUserKeys = redisTemplate.keys(PenaltyKey.ALL + "*" + keyword + "*");
-		List<RedisPenaltyUser> users = penaltyUserKeys.stream().map(key -> redisTemplate.opsForValue().get(key))
-			.collect(Collectors.toList());
-		return users;
+	/**
+	 * intraId 가 prefix 로 시작하는 패널티 유저를 intraId 순으로 조회한다.
+	 */
+	public List<RedisPenaltyUser> findAllByKeyword(String prefix, Pageable pageable) {
+		penaltyUserIndexRedisRepository.removeExpired();
+		RedisZSetCommands.Range range = RedisZSetCommands.Range.range().gte(prefix).lt(prefix + LEX_MAX);
+		RedisZSetCommands.Limit limit = RedisZSetCommands.Limit.limit()
+			.offset((int)pageable.getOffset()).count(pageable.getPageSize());
+		Set<String> intraIds = stringRedisTemplate.opsForZSet().rangeByLex(PenaltyKey.INTRA_ID_INDEX, range, limit);
+		return findAllByIntraIds(intraIds);
+	}
+
+	public long countAll() {
+		penaltyUserIndexRedisRepository.removeExpired();
+		Long count = stringRedisTemplate.opsForZSet().zCard(PenaltyKey.RELEASE_INDEX);
+		return Objects.isNull(count) ? 0L : count;
 	}
 
 	public void deletePenaltyInUser(RedisPenaltyUser penaltyUser, Integer penaltyTime) {
@@ -52,9 +86,41 @@ public class PenaltyUserAdminRedisRepository {
 		Duration duration = Duration.between(LocalDateTime.now(), newReleaseTime);
 		if (duration.isNegative()) {
 			redisTemplate.delete(PenaltyKey.USER_ADMIN + penaltyUser.getIntraId());
+			penaltyUserIndexRedisRepository.remove(List.of(penaltyUser.getIntraId()));
 			return;
 		}
 		redisTemplate.opsForValue().set(PenaltyKey.USER_ADMIN + penaltyUser.getIntraId(), penaltyUser,
 			duration.getSeconds(), TimeUnit.SECONDS);
+		penaltyUserIndexRedisRepository.add(penaltyUser.getIntraId(), newReleaseTime);
+	}
+
+	/**
+	 * 색인의 intraId 순서대로 패널티 유저를 MGET 한 번으로 조회한다. 값이 없는 intraId 는 색인에서 지운다.
+	 */
+	private List<RedisPenaltyUser> findAllByIntraIds(Set<String> intraIds) {
+		if (Objects.isNull(intraIds) || intraIds.isEmpty()) {
+			return List.of();
+		}
+		List<String> ids = new ArrayList<>(intraIds);
+		List<RedisPenaltyUser> values = redisTemplate.opsForValue().multiGet(ids.stream()
+			.map(intraId -> PenaltyKey.USER_ADMIN + intraId)
+			.collect(Collectors.toList()));
+		if (Objects.isNull(values)) {
+			return List.of();
+		}
+		List<RedisPenaltyUser> users = new ArrayList<>(ids.size());
+		List<String> stale = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			RedisPenaltyUser user = values.get(i);
+			if (Objects.isNull(user)) {
+				stale.add(ids.get(i));
+			} else {
+				users.add(user);
+			}
+		}
+		if (!stale.isEmpty()) {
+			penaltyUserIndexRedisRepository.remove(stale);
+		}
+		return users;
 	}
 }
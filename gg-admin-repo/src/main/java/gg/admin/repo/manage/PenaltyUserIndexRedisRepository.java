@@ -0,0 +1,53 @@
+package gg.admin.repo.manage;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import gg.data.manage.type.PenaltyKey;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 패널티 유저 색인(PenaltyKey.RELEASE_INDEX, PenaltyKey.INTRA_ID_INDEX)을 관리한다.
+ * <p>
+ *     관리자 패널티와 자동 패널티 모두 이 저장소로 색인을 쓴다. <br/>
+ *     패널티 값은 TTL 로 사라지므로, 색인에 쓸 때마다 release time 이 지난 유저를 함께 지워 색인이 계속 커지지 않게 한다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PenaltyUserIndexRedisRepository {
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void add(String intraId, LocalDateTime releaseTime) {
+		removeExpired();
+		double score = releaseTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		stringRedisTemplate.opsForZSet().add(PenaltyKey.RELEASE_INDEX, intraId, score);
+		stringRedisTemplate.opsForZSet().add(PenaltyKey.INTRA_ID_INDEX, intraId, 0);
+	}
+
+	public void remove(List<String> intraIds) {
+		Object[] members = intraIds.toArray();
+		stringRedisTemplate.opsForZSet().remove(PenaltyKey.RELEASE_INDEX, members);
+		stringRedisTemplate.opsForZSet().remove(PenaltyKey.INTRA_ID_INDEX, members);
+	}
+
+	/**
+	 * release time 이 지난 유저를 두 색인에서 지운다.
+	 */
+	public void removeExpired() {
+		double now = System.currentTimeMillis();
+		Set<String> expired = stringRedisTemplate.opsForZSet()
+			.rangeByScore(PenaltyKey.RELEASE_INDEX, Double.NEGATIVE_INFINITY, now);
+		if (Objects.isNull(expired) || expired.isEmpty()) {
+			return;
+		}
+		stringRedisTemplate.opsForZSet().remove(PenaltyKey.INTRA_ID_INDEX, expired.toArray());
+		stringRedisTemplate.opsForZSet().removeRangeByScore(PenaltyKey.RELEASE_INDEX, Double.NEGATIVE_INFINITY, now);
+	}
+}
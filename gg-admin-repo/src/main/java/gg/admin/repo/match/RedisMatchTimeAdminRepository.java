@@ -1,11 +1,14 @@
 package gg.admin.repo.match;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -19,11 +22,19 @@ public class RedisMatchTimeAdminRepository {
 	private final RedisTemplate<String, RedisMatchUser> redisTemplate;
 
 	public Map<LocalDateTime, List<RedisMatchUser>> getAllEnrolledSlots() {
-		Set<String> keys = redisTemplate.keys(MatchKey.getAllTime() + "*");
+		byte[] indexKey = MatchKey.getTimeIndex().getBytes(StandardCharsets.UTF_8);
+		double now = MatchKey.getScore(LocalDateTime.now());
+		Set<byte[]> members = redisTemplate.execute((RedisCallback<Set<byte[]>>)connection ->
+			connection.zRangeByScore(indexKey, now, Double.POSITIVE_INFINITY));
+		if (members == null) {
+			return Collections.emptyMap();
+		}
 		int prefixIdx = MatchKey.getAllTime().length();
 
-		return keys.stream().collect(Collectors.toMap(
-			key -> LocalDateTime.parse(key.substring(prefixIdx)),
-			key -> redisTemplate.opsForList().range(key, 0, -1)));
+		return members.stream()
+			.map(member -> new String(member, StandardCharsets.UTF_8))
+			.collect(Collectors.toMap(
+				key -> LocalDateTime.parse(key.substring(prefixIdx)),
+				key -> redisTemplate.opsForList().range(key, 0, -1)));
 	}
 }
@@ -0,0 +1,46 @@
+package gg.admin.repo.noti;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import gg.data.noti.type.NotiType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA 의 IDENTITY 전략으로는 batch insert 가 되지 않아 JDBC 로 공지 알림을 한 번에 추가한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotiAdminJdbcRepository {
+	private static final String INSERT_NOTI = "INSERT INTO noti "
+		+ "(user_id, noti_type, message, is_checked, created_at, modified_at) VALUES ";
+	private static final String NOTI_VALUES = "(?, ?, ?, false, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 유저들에게 같은 공지 알림을 multi-row INSERT 한 번으로 추가한다.
+	 *
+	 * @param message 공지 내용
+	 * @param userIds 알림을 받을 유저 id
+	 * @return 추가된 row 수
+	 */
+	public int insertAnnounceNotis(String message, List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		String type = NotiType.ANNOUNCE.name();
+		List<Object> args = new ArrayList<>(userIds.size() * 5);
+		for (Long userId : userIds) {
+			Collections.addAll(args, userId, type, message, now, now);
+		}
+		String sql = INSERT_NOTI + String.join(", ", Collections.nCopies(userIds.size(), NOTI_VALUES));
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+}
@@ -1,12 +1,16 @@
 package gg.admin.repo.user;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import gg.data.user.User;
+import gg.data.user.type.RoleType;
 
 public interface UserAdminRepository extends JpaRepository<User, Long> {
 	Optional<User> findByIntraId(String intraId);
@@ -16,4 +20,22 @@ public interface UserAdminRepository extends JpaRepository<User, Long> {
 	Page<User> findByIntraId(Pageable pageable, String intraId);
 
 	Page<User> findAll(Pageable pageable);
+
+	/**
+	 * roleType 이 아닌 유저를 lastId 다음부터 id 순으로 조회한다.
+	 */
+	@Query("SELECT u.id AS id, u.intraId AS intraId, u.textColor AS textColor FROM User u "
+		+ "WHERE u.roleType <> :roleType AND u.id > :lastId ORDER BY u.id")
+	List<UserRankSeedDto> findRankSeedsAfter(@Param("roleType") RoleType roleType, @Param("lastId") Long lastId,
+		Pageable pageable);
+
+	/**
+	 * roleType 이 아닌 유저의 알림 설정을 lastId 다음부터 id 순으로 조회한다.
+	 */
+	@Query("SELECT u.id AS id, u.intraId AS intraId, u.snsNotiOpt AS snsNotiOpt FROM User u "
+		+ "WHERE u.roleType <> :roleType AND u.id > :lastId ORDER BY u.id")
+	List<UserNotiTargetDto> findNotiTargetsAfter(@Param("roleType") RoleType roleType, @Param("lastId") Long lastId,
+		Pageable pageable);
+
+	long countByRoleTypeNot(RoleType roleType);
 }
@@ -0,0 +1,15 @@
+package gg.admin.repo.user;
+
+import gg.data.user.type.SnsType;
+
+/**
+ * 전체 공지 알림을 보낼 때 필요한 유저 정보
+ */
+public interface UserNotiTargetDto {
+
+	Long getId();
+
+	String getIntraId();
+
+	SnsType getSnsNotiOpt();
+}
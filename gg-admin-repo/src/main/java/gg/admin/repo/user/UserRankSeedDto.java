@@ -0,0 +1,13 @@
+package gg.admin.repo.user;
+
+/**
+ * 새 시즌 rank 를 만들 때 필요한 유저 정보
+ */
+public interface UserRankSeedDto {
+
+	Long getId();
+
+	String getIntraId();
+
+	String getTextColor();
+}
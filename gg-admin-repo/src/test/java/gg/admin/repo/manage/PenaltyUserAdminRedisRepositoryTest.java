@@ -0,0 +1,101 @@
+package gg.admin.repo.manage;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import gg.data.manage.redis.RedisPenaltyUser;
+import gg.data.manage.type.PenaltyKey;
+import gg.utils.annotation.IntegrationTest;
+
+@IntegrationTest
+class PenaltyUserAdminRedisRepositoryTest {
+	@Autowired
+	PenaltyUserAdminRedisRepository penaltyUserAdminRedisRepository;
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+
+	@AfterEach
+	void clear() {
+		stringRedisTemplate.delete(stringRedisTemplate.keys(PenaltyKey.ALL + "*"));
+	}
+
+	@Test
+	@DisplayName("release time 순으로 페이지를 나눠 조회한다")
+	void findAllByReleaseTime() {
+		LocalDateTime now = LocalDateTime.now();
+		addPenaltyUser("user3", now.plusHours(3));
+		addPenaltyUser("user1", now.plusHours(1));
+		addPenaltyUser("user2", now.plusHours(2));
+
+		List<RedisPenaltyUser> first = penaltyUserAdminRedisRepository.findAll(PageRequest.of(0, 2));
+		List<RedisPenaltyUser> second = penaltyUserAdminRedisRepository.findAll(PageRequest.of(1, 2));
+
+		assertThat(first).extracting(RedisPenaltyUser::getIntraId).containsExactly("user1", "user2");
+		assertThat(second).extracting(RedisPenaltyUser::getIntraId).containsExactly("user3");
+		assertThat(penaltyUserAdminRedisRepository.countAll()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("intraId prefix 로 검색한다")
+	void findAllByPrefix() {
+		LocalDateTime now = LocalDateTime.now();
+		addPenaltyUser("abc", now.plusHours(1));
+		addPenaltyUser("abd", now.plusHours(1));
+		addPenaltyUser("xabc", now.plusHours(1));
+
+		List<RedisPenaltyUser> users = penaltyUserAdminRedisRepository.findAllByKeyword("ab", PageRequest.of(0, 10));
+
+		assertThat(users).extracting(RedisPenaltyUser::getIntraId).containsExactly("abc", "abd");
+	}
+
+	@Test
+	@DisplayName("패널티가 끝났거나 값이 사라진 유저는 조회할 때 색인에서 지운다")
+	void removeExpiredLazily() {
+		LocalDateTime now = LocalDateTime.now();
+		addPenaltyUser("alive", now.plusHours(1));
+		addPenaltyUser("released", now.plusHours(1));
+		addPenaltyUser("evicted", now.plusHours(1));
+		RedisPenaltyUser released = penaltyUserAdminRedisRepository.findByIntraId("released").get();
+		penaltyUserAdminRedisRepository.deletePenaltyInUser(released, 120);
+		stringRedisTemplate.delete(PenaltyKey.USER_ADMIN + "evicted");
+
+		List<RedisPenaltyUser> users = penaltyUserAdminRedisRepository.findAll(PageRequest.of(0, 10));
+
+		assertThat(users).extracting(RedisPenaltyUser::getIntraId).containsExactly("alive");
+		assertThat(stringRedisTemplate.opsForZSet().range(PenaltyKey.INTRA_ID_INDEX, 0, -1))
+			.containsExactly("alive");
+	}
+
+	@Test
+	@DisplayName("색인에 쓸 때 release time 이 지난 유저를 함께 지운다")
+	void removeExpiredOnWrite() {
+		LocalDateTime now = LocalDateTime.now();
+		stringRedisTemplate.opsForZSet().add(PenaltyKey.RELEASE_INDEX, "expired",
+			System.currentTimeMillis() - 60_000);
+		stringRedisTemplate.opsForZSet().add(PenaltyKey.INTRA_ID_INDEX, "expired", 0);
+
+		addPenaltyUser("alive", now.plusHours(1));
+
+		assertThat(stringRedisTemplate.opsForZSet().range(PenaltyKey.RELEASE_INDEX, 0, -1))
+			.containsExactly("alive");
+		assertThat(stringRedisTemplate.opsForZSet().range(PenaltyKey.INTRA_ID_INDEX, 0, -1))
+			.containsExactly("alive");
+	}
+
+	private void addPenaltyUser(String intraId, LocalDateTime releaseTime) {
+		LocalDateTime now = LocalDateTime.now();
+		int penaltyTime = (int)Duration.between(now, releaseTime).toMinutes();
+		penaltyUserAdminRedisRepository.addPenaltyUser(
+			new RedisPenaltyUser(intraId, penaltyTime, releaseTime, now, "test"), releaseTime);
+	}
+}
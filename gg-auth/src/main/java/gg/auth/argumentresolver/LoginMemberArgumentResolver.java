@@ -9,16 +9,13 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import gg.auth.UserDto;
-import gg.auth.utils.AuthTokenProvider;
 import gg.auth.utils.HeaderUtil;
-import gg.data.user.User;
-import gg.repo.user.UserRepository;
+import gg.auth.utils.LoginUserCache;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
-	private final UserRepository userRepository;
-	private final AuthTokenProvider tokenProvider;
+	private final LoginUserCache loginUserCache;
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
@@ -32,9 +29,6 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
 		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 		HttpServletRequest request = (HttpServletRequest)webRequest.getNativeRequest();
 		String accessToken = HeaderUtil.getAccessToken(request);
-		Long loginUserId = tokenProvider.getUserIdFromAccessToken(accessToken);
-		User user = userRepository.findById(loginUserId).orElseThrow();
-		UserDto userDto = UserDto.from(user);
-		return userDto;
+		return loginUserCache.getLoginUser(accessToken).orElseThrow();
 	}
 }
@@ -7,18 +7,16 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import gg.auth.argumentresolver.LoginMemberArgumentResolver;
-import gg.auth.utils.AuthTokenProvider;
-import gg.repo.user.UserRepository;
+import gg.auth.utils.LoginUserCache;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
 @RequiredArgsConstructor
 public class AuthWebConfig implements WebMvcConfigurer {
-	private final UserRepository userRepository;
-	private final AuthTokenProvider tokenProvider;
+	private final LoginUserCache loginUserCache;
 
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-		resolvers.add(new LoginMemberArgumentResolver(userRepository, tokenProvider));
+		resolvers.add(new LoginMemberArgumentResolver(loginUserCache));
 	}
 }
@@ -75,11 +75,15 @@ public class AuthTokenProvider {
 	}
 
 	public Long getUserIdFromAccessToken(String accessToken) {
-		Claims claims = getClaims(accessToken, key);
+		Claims claims = getAccessTokenClaims(accessToken);
 		if (claims == null) {
 			return null;
 		}
 		return Long.valueOf(claims.getSubject());
 	}
 
+	public Claims getAccessTokenClaims(String accessToken) {
+		return getClaims(accessToken, key);
+	}
+
 }
@@ -0,0 +1,124 @@
+package gg.auth.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.auth.UserDto;
+import gg.repo.user.UserRepository;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 유저 캐시.
+ * <p>
+ *     TokenAuthenticationFilter 와 LoginMemberArgumentResolver 가 함께 사용한다. <br/>
+ *     access token -> userId (토큰 검증 결과), userId -> UserDto 두 단계로 저장하고,
+ *     각각 최대 MAX_SIZE 개까지 TTL 동안 유지한다. <br/>
+ *     권한, 라켓/알림 설정, 카카오 연동처럼 UserDto 에 담긴 값이 바뀌면 evict 로 해당 유저를 지워야 한다.
+ *     트랜잭션 안에서 호출하면 커밋 후에 지워서, 커밋 전에 이전 값이 다시 캐시되지 않게 한다. <br/>
+ *     경험치, 코인처럼 자주 바뀌는 값은 TTL 동안 이전 값일 수 있다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserCache {
+	private static final int MAX_SIZE = 10_000;
+	private static final long TTL_MILLIS = 60_000L;
+
+	private final Map<String, CacheEntry<Long>> userIdByToken = lruMap();
+	private final Map<Long, CacheEntry<UserDto>> userById = lruMap();
+	private final AuthTokenProvider tokenProvider;
+	private final UserRepository userRepository;
+
+	/**
+	 * access token 의 유저를 조회한다.
+	 *
+	 * @param accessToken access token
+	 * @return 토큰이 유효하지 않거나 유저가 없으면 empty
+	 */
+	public Optional<UserDto> getLoginUser(String accessToken) {
+		Long userId = getUserId(accessToken);
+		if (userId == null) {
+			return Optional.empty();
+		}
+		long now = currentTimeMillis();
+		CacheEntry<UserDto> cached = userById.get(userId);
+		if (cached != null && cached.isAlive(now)) {
+			return Optional.of(cached.value);
+		}
+		Optional<UserDto> user = userRepository.findById(userId).map(UserDto::from);
+		user.ifPresent(userDto -> userById.put(userId, new CacheEntry<>(userDto, now + TTL_MILLIS)));
+		return user;
+	}
+
+	/**
+	 * 유저 정보가 바뀌었을 때 캐시에서 지운다.
+	 * 진행중인 트랜잭션이 있으면 커밋 후에 지운다.
+	 *
+	 * @param userId 유저 id
+	 */
+	public void evict(Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			userById.remove(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				userById.remove(userId);
+			}
+		});
+	}
+
+	private Long getUserId(String accessToken) {
+		if (accessToken == null) {
+			return null;
+		}
+		long now = currentTimeMillis();
+		CacheEntry<Long> cached = userIdByToken.get(accessToken);
+		if (cached != null && cached.isAlive(now)) {
+			return cached.value;
+		}
+		Claims claims = tokenProvider.getAccessTokenClaims(accessToken);
+		if (claims == null) {
+			return null;
+		}
+		Long userId = Long.valueOf(claims.getSubject());
+		long expiresAt = now + TTL_MILLIS;
+		if (claims.getExpiration() != null) {
+			expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+		}
+		userIdByToken.put(accessToken, new CacheEntry<>(userId, expiresAt));
+		return userId;
+	}
+
+	long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	private static <K, V> Map<K, V> lruMap() {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > MAX_SIZE;
+			}
+		});
+	}
+
+	@AllArgsConstructor
+	private static class CacheEntry<T> {
+		private final T value;
+		private final long expiresAt;
+
+		boolean isAlive(long now) {
+			return now < expiresAt;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package gg.auth.utils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.auth.UserDto;
+import gg.data.user.User;
+import gg.data.user.type.RacketType;
+import gg.data.user.type.RoleType;
+import gg.data.user.type.SnsType;
+import gg.repo.user.UserRepository;
+import gg.utils.annotation.UnitTest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@UnitTest
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginUserCacheUnitTest {
+	@Mock
+	AuthTokenProvider tokenProvider;
+	@Mock
+	UserRepository userRepository;
+
+	LoginUserCache loginUserCache;
+	long now = 1_000_000L;
+
+	@BeforeEach
+	void init() {
+		loginUserCache = spy(new LoginUserCache(tokenProvider, userRepository));
+		willAnswer(invocation -> now).given(loginUserCache).currentTimeMillis();
+		given(tokenProvider.getAccessTokenClaims(anyString()))
+			.willAnswer(invocation -> claims(invocation.getArgument(0), null));
+		given(userRepository.findById(anyLong()))
+			.willAnswer(invocation -> Optional.of(user(invocation.getArgument(0))));
+	}
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 토큰은 토큰 검증과 유저 조회를 한 번만 한다")
+	void tokenToUser() {
+		UserDto first = loginUserCache.getLoginUser("1").orElseThrow();
+		UserDto second = loginUserCache.getLoginUser("1").orElseThrow();
+
+		assertThat(first.getId()).isEqualTo(1L);
+		assertThat(second).isSameAs(first);
+		verify(tokenProvider, times(1)).getAccessTokenClaims("1");
+		verify(userRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 토큰은 유저를 조회하지 않는다")
+	void invalidToken() {
+		given(tokenProvider.getAccessTokenClaims("invalid")).willReturn(null);
+
+		assertThat(loginUserCache.getLoginUser("invalid")).isEmpty();
+		assertThat(loginUserCache.getLoginUser(null)).isEmpty();
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 토큰 검증과 유저 조회를 다시 한다")
+	void ttl() {
+		long ttlMillis = (long)ReflectionTestUtils.getField(LoginUserCache.class, "TTL_MILLIS");
+		loginUserCache.getLoginUser("1");
+
+		now += ttlMillis - 1;
+		loginUserCache.getLoginUser("1");
+		verify(tokenProvider, times(1)).getAccessTokenClaims("1");
+		verify(userRepository, times(1)).findById(1L);
+
+		now += 1;
+		loginUserCache.getLoginUser("1");
+		verify(tokenProvider, times(2)).getAccessTokenClaims("1");
+		verify(userRepository, times(2)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("토큰 만료 시간이 TTL 보다 빠르면 만료 시간까지만 토큰을 캐시한다")
+	void tokenExpiration() {
+		given(tokenProvider.getAccessTokenClaims("1")).willReturn(claims("1", new Date(now + 10)));
+		loginUserCache.getLoginUser("1");
+
+		now += 10;
+		loginUserCache.getLoginUser("1");
+
+		verify(tokenProvider, times(2)).getAccessTokenClaims("1");
+		verify(userRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 유저를 지운다")
+	void lruBound() {
+		int maxSize = (int)ReflectionTestUtils.getField(LoginUserCache.class, "MAX_SIZE");
+		loginUserCache.getLoginUser("1");
+		loginUserCache.getLoginUser("2");
+		loginUserCache.getLoginUser("1");
+		for (long userId = 3; userId <= maxSize + 1; userId++) {
+			loginUserCache.getLoginUser(String.valueOf(userId));
+		}
+
+		loginUserCache.getLoginUser("1");
+		loginUserCache.getLoginUser("2");
+
+		verify(userRepository, times(1)).findById(1L);
+		verify(userRepository, times(2)).findById(2L);
+	}
+
+	@Test
+	@DisplayName("evict 하면 다음 요청에서 유저를 다시 조회한다")
+	void evict() {
+		loginUserCache.getLoginUser("1");
+
+		loginUserCache.evict(1L);
+		loginUserCache.getLoginUser("1");
+
+		verify(tokenProvider, times(1)).getAccessTokenClaims("1");
+		verify(userRepository, times(2)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 evict 하면 커밋 후에 지운다")
+	void evictAfterCommit() {
+		loginUserCache.getLoginUser("1");
+		TransactionSynchronizationManager.initSynchronization();
+
+		loginUserCache.evict(1L);
+		loginUserCache.getLoginUser("1");
+		verify(userRepository, times(1)).findById(1L);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		loginUserCache.getLoginUser("1");
+		verify(userRepository, times(2)).findById(1L);
+	}
+
+	private Claims claims(String subject, Date expiration) {
+		Claims claims = Jwts.claims().setSubject(subject);
+		claims.setExpiration(expiration);
+		return claims;
+	}
+
+	private User user(Long userId) {
+		User user = new User(String.valueOf(userId), "", "", RacketType.SHAKEHAND, RoleType.USER, 0,
+			SnsType.NONE, null);
+		ReflectionTestUtils.setField(user, "id", userId);
+		return user;
+	}
+}
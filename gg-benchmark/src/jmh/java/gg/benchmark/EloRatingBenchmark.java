@@ -0,0 +1,37 @@
+package gg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import gg.pingpong.api.global.utils.EloRating;
+
+/**
+ * 랭크 게임 결과 입력 시 양쪽 유저의 ppp 변화량 계산 성능.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EloRatingBenchmark {
+	private int myPpp = 1000;
+	private int enemyPpp = 1120;
+
+	@Benchmark
+	public int pppChangeOfGame() {
+		int winnerChange = EloRating.pppChange(myPpp, enemyPpp, true, false);
+		int loserChange = EloRating.pppChange(enemyPpp, myPpp, false, false);
+		return winnerChange + loserChange;
+	}
+
+	@Benchmark
+	public int pppChangeOfOneSideGame() {
+		int winnerChange = EloRating.pppChange(myPpp, enemyPpp, true, true);
+		int loserChange = EloRating.pppChange(enemyPpp, myPpp, false, true);
+		return winnerChange + loserChange;
+	}
+}
@@ -0,0 +1,53 @@
+package gg.benchmark;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gg.utils.file.ImageResizingUtil;
+
+/**
+ * 프로필, 아이템 이미지 업로드 시 ImageResizingUtil 로 jpeg 를 줄이는 성능.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageResizingUtilBenchmark {
+	@Param({"256", "1024"})
+	private int size;
+
+	private byte[] imageBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		for (int y = 0; y < size; y += 8) {
+			graphics.setColor(new Color(y % 256, (y * 3) % 256, (y * 7) % 256));
+			graphics.fillRect(0, y, size, 8);
+		}
+		graphics.dispose();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpeg", outputStream);
+		imageBytes = outputStream.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] resizeHalf() throws IOException {
+		return ImageResizingUtil.resizeImageBytes(imageBytes, 0.5);
+	}
+}
@@ -0,0 +1,76 @@
+package gg.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gg.data.pingpong.match.RedisMatchUser;
+import gg.data.pingpong.match.type.Option;
+import gg.data.pingpong.match.type.SlotStatus;
+import gg.pingpong.api.user.match.utils.MatchCalculator;
+
+/**
+ * 슬롯 큐 크기별 MatchCalculator.findEnemy, findEnemyStatus 성능.
+ * <p>
+ *     큐에는 NORMAL, RANK, BOTH 유저가 섞여 있고, 요청한 유저와 ppp 차이가 큰 RANK 유저가 앞쪽에 많도록 만든다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchCalculatorBenchmark {
+	private static final int PPP_GAP = 150;
+	private static final int PLAYER_PPP = 1000;
+
+	@Param({"2", "20", "200"})
+	private int queueSize;
+
+	private List<RedisMatchUser> queue;
+	private MatchCalculator normalCalculator;
+	private MatchCalculator rankCalculator;
+	private MatchCalculator bothCalculator;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		Option[] options = {Option.NORMAL, Option.RANK, Option.BOTH};
+		queue = new ArrayList<>();
+		for (long i = 0; i < queueSize; i++) {
+			int ppp = PLAYER_PPP + (random.nextBoolean() ? 1 : -1) * random.nextInt(PPP_GAP * 3);
+			queue.add(new RedisMatchUser(i, ppp, options[random.nextInt(options.length)]));
+		}
+		normalCalculator = new MatchCalculator(PPP_GAP, new RedisMatchUser(-1L, PLAYER_PPP, Option.NORMAL));
+		rankCalculator = new MatchCalculator(PPP_GAP, new RedisMatchUser(-1L, PLAYER_PPP, Option.RANK));
+		bothCalculator = new MatchCalculator(PPP_GAP, new RedisMatchUser(-1L, PLAYER_PPP, Option.BOTH));
+	}
+
+	@Benchmark
+	public Object findEnemyNormal() {
+		return normalCalculator.findEnemy(queue);
+	}
+
+	@Benchmark
+	public Object findEnemyRank() {
+		return rankCalculator.findEnemy(queue);
+	}
+
+	@Benchmark
+	public Object findEnemyBoth() {
+		return bothCalculator.findEnemy(queue);
+	}
+
+	@Benchmark
+	public SlotStatus findEnemyStatusRank() {
+		return rankCalculator.findEnemyStatus(queue);
+	}
+}
@@ -0,0 +1,106 @@
+package gg.benchmark;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.redis.testcontainers.RedisContainer;
+
+import gg.data.pingpong.rank.redis.RankRedis;
+import gg.repo.rank.redis.RankRedisRepository;
+import gg.utils.RedisKeyManager;
+
+/**
+ * 랭킹 페이지 조회에 쓰는 RankRedisRepository 의 ZSET 범위 조회 성능.
+ * <p>
+ *     테스트와 같은 redis 이미지를 Testcontainers 로 띄우고, RedisConfig 와 같은 직렬화 설정을 사용한다. <br/>
+ *     allRanksByIterator 는 시즌 전체를 ZSET 순서대로 chunk 단위로 읽는 경우이다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankRedisRepositoryBenchmark {
+	private static final Long SEASON_ID = 1L;
+	private static final int PAGE_SIZE = 20;
+	private static final int CHUNK_SIZE = 500;
+
+	@Param({"1000", "10000"})
+	private int userCount;
+
+	private RedisContainer redisContainer;
+	private LettuceConnectionFactory connectionFactory;
+	private RankRedisRepository rankRedisRepository;
+	private String zSetKey;
+	private String hashKey;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		redisContainer = new RedisContainer(DockerImageName.parse("redis:5.0.3-alpine")).withExposedPorts(6379);
+		redisContainer.start();
+		connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(),
+			redisContainer.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+		redisTemplate.setHashKeySerializer(new GenericJackson2JsonRedisSerializer());
+		redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		rankRedisRepository = new RankRedisRepository(redisTemplate);
+
+		zSetKey = RedisKeyManager.getZSetKey(SEASON_ID);
+		hashKey = RedisKeyManager.getHashKey(SEASON_ID);
+		for (long userId = 1; userId <= userCount; userId++) {
+			int ppp = 1000 + (int)((userId * 7919) % 1000) - 500;
+			RankRedis rank = RankRedis.from(userId, "user" + userId, "#000000", ppp, "");
+			rankRedisRepository.addRankData(hashKey, userId, rank);
+			rankRedisRepository.addToZSet(zSetKey, userId, ppp);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		connectionFactory.destroy();
+		redisContainer.stop();
+	}
+
+	@Benchmark
+	public List<Long> firstPageUserIds() {
+		return rankRedisRepository.getUserIdsByRangeFromZSet(zSetKey, 0, PAGE_SIZE - 1);
+	}
+
+	@Benchmark
+	public List<RankRedis> middlePageRanks() {
+		long start = userCount / 2;
+		return rankRedisRepository.findRanksByRange(zSetKey, hashKey, start, start + PAGE_SIZE - 1);
+	}
+
+	@Benchmark
+	public int allRanksByIterator() {
+		Iterator<RankRedis> ranks = rankRedisRepository.iterateRanksOrderByPppDesc(zSetKey, hashKey, CHUNK_SIZE);
+		int count = 0;
+		while (ranks.hasNext()) {
+			ranks.next();
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,102 @@
+package gg.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.manage.SlotManagement;
+import gg.data.pingpong.match.RedisMatchTime;
+import gg.data.pingpong.match.RedisMatchUser;
+import gg.data.pingpong.match.type.Option;
+import gg.data.pingpong.rank.redis.RankRedis;
+import gg.data.pingpong.season.Season;
+import gg.pingpong.api.user.match.controller.response.SlotStatusResponseListDto;
+import gg.pingpong.api.user.match.utils.SlotGenerator;
+
+/**
+ * MatchFindService.getAllMatchStatus 와 같은 순서로 슬롯 보드를 만드는 성능.
+ * <p>
+ *     슬롯 간격(gameInterval)이 짧을수록 보드가 커진다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlotGeneratorBenchmark {
+	private static final int PPP_GAP = 150;
+
+	@Param({"10", "15", "30"})
+	private int gameInterval;
+
+	private RankRedis user;
+	private SlotManagement slotManagement;
+	private Season season;
+	private List<Game> games;
+	private Set<RedisMatchTime> myMatchTimes;
+	private List<LocalDateTime> enrolledTimes;
+	private List<List<RedisMatchUser>> enrolledUsers;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime hour = LocalDateTime.of(now.getYear(), now.getMonth(), now.getDayOfMonth(), now.getHour(), 0);
+		user = RankRedis.from(1L, "bench", "#000000", 1000, "");
+		slotManagement = SlotManagement.builder()
+			.pastSlotTime(1)
+			.futureSlotTime(12)
+			.openMinute(5)
+			.gameInterval(gameInterval)
+			.startTime(now.minusDays(1))
+			.build();
+		season = Season.builder()
+			.seasonName("bench")
+			.startTime(now.minusDays(1))
+			.endTime(now.plusDays(30))
+			.startPpp(1000)
+			.pppGap(PPP_GAP)
+			.build();
+		games = new ArrayList<>();
+		myMatchTimes = new HashSet<>();
+		enrolledTimes = new ArrayList<>();
+		enrolledUsers = new ArrayList<>();
+		for (LocalDateTime time = hour.plusHours(1); time.isBefore(hour.plusHours(12));
+			time = time.plusMinutes(gameInterval)) {
+			int kind = random.nextInt(4);
+			if (kind == 0) {
+				games.add(new Game(season, gg.data.pingpong.game.type.Mode.NORMAL, time, gameInterval));
+			} else if (kind == 1 && myMatchTimes.size() < 3) {
+				myMatchTimes.add(new RedisMatchTime(time, Option.BOTH));
+			} else if (kind == 2) {
+				enrolledTimes.add(time);
+				enrolledUsers.add(List.of(new RedisMatchUser(2L, 1000 + random.nextInt(PPP_GAP * 2), Option.RANK)));
+			}
+		}
+	}
+
+	@Benchmark
+	public SlotStatusResponseListDto buildSlotBoard() {
+		SlotGenerator slotGenerator = new SlotGenerator(user, slotManagement, season, Option.BOTH);
+		slotGenerator.addPastSlots();
+		slotGenerator.addMatchedSlots(games);
+		for (int i = 0; i < enrolledTimes.size(); i++) {
+			slotGenerator.groupEnrolledSlot(enrolledTimes.get(i), enrolledUsers.get(i));
+		}
+		slotGenerator.addMySlots(myMatchTimes);
+		return slotGenerator.getResponseListDto();
+	}
+}
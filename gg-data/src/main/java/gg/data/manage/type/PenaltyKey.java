@@ -4,4 +4,8 @@ public class PenaltyKey {
 	public static final String ALL = "PENALTY:";
 	public static final String USER = "PENALTY:USER:";
 	public static final String USER_ADMIN = "PENALTY:USER:ADMIN:";
+	// intraId 를 release time 으로 정렬한 ZSET
+	public static final String RELEASE_INDEX = "PENALTY:INDEX:RELEASE";
+	// intraId 를 사전순으로 정렬한 ZSET (score 0)
+	public static final String INTRA_ID_INDEX = "PENALTY:INDEX:INTRA_ID";
 }
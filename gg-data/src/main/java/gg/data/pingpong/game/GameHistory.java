@@ -0,0 +1,119 @@
+package gg.data.pingpong.game;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+import gg.data.BaseTimeEntity;
+import gg.data.pingpong.game.type.Mode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 끝난 게임 목록 조회용 기록.
+ * <p>
+ *     게임 결과가 입력될 때 참여한 유저마다 한 행씩 저장한다. 유저 자신의 팀과 상대 팀을 같이 가지고 있어
+ *     team, team_user, user 를 조인하지 않고 intraId 로 바로 찾을 수 있다. <br/>
+ *     프로필 이미지, 경험치, 전적처럼 계속 바뀌는 값은 저장하지 않고 조회할 때 user, ranks 에서 가져온다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "game_history", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_game_history_game_id_user_id", columnNames = {"game_id", "user_id"})
+}, indexes = {
+	@Index(name = "idx_game_history_intra_id_mode_start_time", columnList = "intra_id, mode, start_time"),
+	@Index(name = "idx_game_history_intra_id_season_id_mode_start_time",
+		columnList = "intra_id, season_id, mode, start_time")
+})
+public class GameHistory extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@NotNull
+	@Column(name = "game_id")
+	private Long gameId;
+
+	@NotNull
+	@Column(name = "season_id")
+	private Long seasonId;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "mode", length = 10)
+	private Mode mode;
+
+	@NotNull
+	@Column(name = "start_time")
+	private LocalDateTime startTime;
+
+	@NotNull
+	@Column(name = "user_id")
+	private Long userId;
+
+	@NotNull
+	@Column(name = "intra_id", length = 30)
+	private String intraId;
+
+	@NotNull
+	@Column(name = "team_id")
+	private Long teamId;
+
+	@Column(name = "score")
+	private Integer score;
+
+	@Column(name = "win")
+	private Boolean win;
+
+	@NotNull
+	@Column(name = "enemy_user_id")
+	private Long enemyUserId;
+
+	@NotNull
+	@Column(name = "enemy_intra_id", length = 30)
+	private String enemyIntraId;
+
+	@NotNull
+	@Column(name = "enemy_team_id")
+	private Long enemyTeamId;
+
+	@Column(name = "enemy_score")
+	private Integer enemyScore;
+
+	@Column(name = "enemy_win")
+	private Boolean enemyWin;
+
+	public GameHistory(Game game, TeamUser teamUser, TeamUser enemyTeamUser) {
+		this.gameId = game.getId();
+		this.seasonId = game.getSeason().getId();
+		this.mode = game.getMode();
+		this.startTime = game.getStartTime();
+		this.userId = teamUser.getUser().getId();
+		this.intraId = teamUser.getUser().getIntraId();
+		this.teamId = teamUser.getTeam().getId();
+		this.enemyUserId = enemyTeamUser.getUser().getId();
+		this.enemyIntraId = enemyTeamUser.getUser().getIntraId();
+		this.enemyTeamId = enemyTeamUser.getTeam().getId();
+		updateScore(teamUser.getTeam(), enemyTeamUser.getTeam());
+	}
+
+	public void updateScore(Team team, Team enemyTeam) {
+		this.score = team.getScore();
+		this.win = team.getWin();
+		this.enemyScore = enemyTeam.getScore();
+		this.enemyWin = enemyTeam.getWin();
+	}
+}
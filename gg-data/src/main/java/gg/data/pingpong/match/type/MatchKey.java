@@ -1,6 +1,7 @@
 package gg.data.pingpong.match.type;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import lombok.Getter;
 
@@ -8,6 +9,9 @@ import lombok.Getter;
 public class MatchKey {
 	public static final String USER = "MATCH:USER:";
 	public static final String TIME = "MATCH:TIME:";
+	public static final String USER_INDEX = "MATCH:USER_INDEX:";
+	public static final String TIME_INDEX = "MATCH:TIME_INDEX";
+	public static final String LOCK = "MATCH:LOCK:";
 	private static final String conjunctive = ":";
 
 	public static String getUserTime(Long userId, LocalDateTime startTime) {
@@ -25,4 +29,27 @@ public class MatchKey {
 	public static String getAllTime() {
 		return TIME;
 	}
+
+	public static String getUserIndex(Long userId) {
+		return USER_INDEX + userId;
+	}
+
+	public static String getTimeIndex() {
+		return TIME_INDEX;
+	}
+
+	public static String getTimeLock(LocalDateTime startTime) {
+		return LOCK + "TIME:" + startTime;
+	}
+
+	public static String getUserLock(Long userId) {
+		return LOCK + "USER:" + userId;
+	}
+
+	/**
+	 * 인덱스 sorted set 에서 사용하는 startTime 의 score
+	 */
+	public static double getScore(LocalDateTime startTime) {
+		return startTime.toEpochSecond(ZoneOffset.UTC);
+	}
 }
@@ -8,6 +8,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -28,7 +29,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "ranks")
+@Table(name = "ranks", indexes = {
+	@Index(name = "idx_ranks_season_id_ppp", columnList = "season_id, ppp")
+})
 @DynamicUpdate
 public class Rank extends BaseTimeEntity implements Serializable {
 	@Id
@@ -0,0 +1,102 @@
+package gg.data.pingpong.rank;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+import gg.data.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시즌별 ppp 랭킹 스냅샷.
+ * <p>
+ *     랭크 게임 결과가 반영될 때마다 갱신되며, 정렬 기준은
+ *     ppp desc, 시즌 내 마지막 게임 시간(last_game_at) asc, total_exp desc 이다.
+ *     ranking 은 RANK() 와 같이 자신보다 앞선 유저 수 + 1 이다.
+ * </p>
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rank_snapshot", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_rank_snapshot_season_id_user_id", columnNames = {"season_id", "user_id"})
+}, indexes = {
+	@Index(name = "idx_rank_snapshot_season_id_ranking", columnList = "season_id, ranking"),
+	@Index(name = "idx_rank_snapshot_season_id_ppp", columnList = "season_id, ppp, last_game_at")
+})
+public class RankSnapshot extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@NotNull
+	@Column(name = "season_id")
+	private Long seasonId;
+
+	@NotNull
+	@Column(name = "user_id")
+	private Long userId;
+
+	@NotNull
+	@Column(name = "ranking")
+	private Integer ranking;
+
+	@NotNull
+	@Column(name = "ppp")
+	private Integer ppp;
+
+	@NotNull
+	@Column(name = "last_game_at")
+	private LocalDateTime lastGameAt;
+
+	@NotNull
+	@Column(name = "total_exp")
+	private Integer totalExp;
+
+	public RankSnapshot(Long seasonId, Long userId, Integer ranking, Integer ppp, LocalDateTime lastGameAt,
+		Integer totalExp) {
+		this.seasonId = seasonId;
+		this.userId = userId;
+		this.ranking = ranking;
+		this.ppp = ppp;
+		this.lastGameAt = lastGameAt;
+		this.totalExp = totalExp;
+	}
+
+	public void updateRanking(Integer ranking, Integer ppp, LocalDateTime lastGameAt, Integer totalExp) {
+		this.ranking = ranking;
+		this.ppp = ppp;
+		this.lastGameAt = lastGameAt;
+		this.totalExp = totalExp;
+	}
+
+	/**
+	 * 주어진 정렬 키와 같은 순위 키를 가지는지 확인한다.
+	 */
+	public boolean hasSameKey(Integer ppp, LocalDateTime lastGameAt, Integer totalExp) {
+		return this.ppp.equals(ppp) && this.lastGameAt.isEqual(lastGameAt) && this.totalExp.equals(totalExp);
+	}
+
+	/**
+	 * 주어진 정렬 키보다 이 스냅샷이 앞선 순위인지 확인한다.
+	 */
+	public boolean isRankedAbove(Integer ppp, LocalDateTime lastGameAt, Integer totalExp) {
+		if (!this.ppp.equals(ppp)) {
+			return this.ppp > ppp;
+		}
+		if (!this.lastGameAt.isEqual(lastGameAt)) {
+			return this.lastGameAt.isBefore(lastGameAt);
+		}
+		return this.totalExp > totalExp;
+	}
+}
@@ -46,6 +46,10 @@ public class RankRedis implements Serializable {
 		this.statusMessage = msg;
 	}
 
+	public void updateTextColor(String textColor) {
+		this.textColor = textColor;
+	}
+
 	public static RankRedis from(Long id, String intraId, String textColor, Integer ppp, String tierImageUri) {
 		RankRedis rankRedis = RankRedis.builder()
 			.userId(id)
@@ -1,12 +1,16 @@
 package gg.party.api.user.room.service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,46 +32,57 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class RoomFindService {
+	private static final int ROOM_PAGE_SIZE = 100;
+	private static final int FINISH_ROOM_LIMIT = 10;
+
 	private final RoomRepository roomRepository;
 	private final UserRoomRepository userRoomRepository;
 	private final CommentRepository commentRepository;
 
 	/**
 	 * 시작하지 않은 방과 시작한 방을 모두 조회한다
+	 * 정렬과 끝난 방 개수 제한은 DB 에서 처리하고, 방은 (정렬 기준, id) 커서로 ROOM_PAGE_SIZE 개씩 나눠 읽는다
 	 * @return 시작하지 않은 방 (최신순) + 시작한 방(끝나는 시간이 빠른 순) 전체 List
 	 */
 	@Transactional(readOnly = true)
 	public RoomListResDto findRoomList() {
-		List<RoomType> statuses = Arrays.asList(RoomType.OPEN, RoomType.START, RoomType.FINISH);
-		List<Room> rooms = roomRepository.findByStatusIn(statuses);
+		List<Room> openRooms = findAllByKeyset(
+			pageable -> roomRepository.findByStatusOrderByCreatedAtDesc(RoomType.OPEN, pageable),
+			(last, pageable) -> roomRepository.findByStatusOrderByCreatedAtDescAfter(RoomType.OPEN,
+				last.getCreatedAt(), last.getId(), pageable));
 
-		List<Room> openRooms = rooms.stream()
-			.filter(room -> room.getStatus().equals(RoomType.OPEN))
-			.sorted(Comparator.comparing(Room::getCreatedAt).reversed())
-			.collect(Collectors.toList());
+		List<Room> startRooms = findAllByKeyset(
+			pageable -> roomRepository.findByStatusOrderByStartDateDesc(RoomType.START, pageable),
+			(last, pageable) -> roomRepository.findByStatusOrderByStartDateDescAfter(RoomType.START,
+				last.getStartDate(), last.getId(), pageable));
 
-		List<Room> startRooms = rooms.stream()
-			.filter(room -> room.getStatus().equals(RoomType.START))
-			.sorted(Comparator.comparing(Room::getStartDate).reversed())
-			.collect(Collectors.toList());
-
-		List<Room> finishRooms = rooms.stream()
-			.filter(room -> room.getStatus().equals(RoomType.FINISH))
-			.sorted(Comparator.comparing(Room::getStartDate).reversed())
-			.limit(10)
-			.collect(Collectors.toList());
+		List<Room> finishRooms = roomRepository.findByStatusOrderByStartDateDesc(RoomType.FINISH,
+			PageRequest.of(0, FINISH_ROOM_LIMIT));
 
-		List<Room> combinedRooms = Stream.of(openRooms, startRooms, finishRooms)
+		List<RoomResDto> roomListResDto = Stream.of(openRooms, startRooms, finishRooms)
 			.flatMap(List::stream)
-			.collect(Collectors.toList());
-
-		List<RoomResDto> roomListResDto = combinedRooms.stream()
 			.map(RoomResDto::new)
 			.collect(Collectors.toList());
 
 		return new RoomListResDto(roomListResDto);
 	}
 
+	/**
+	 * 첫 페이지를 읽고, 페이지가 가득 차 있는 동안 마지막 방을 커서로 다음 페이지를 읽는다
+	 */
+	private List<Room> findAllByKeyset(Function<Pageable, List<Room>> firstPage,
+		BiFunction<Room, Pageable, List<Room>> nextPage) {
+		Pageable pageable = PageRequest.of(0, ROOM_PAGE_SIZE);
+		List<Room> rooms = new ArrayList<>();
+		List<Room> page = firstPage.apply(pageable);
+		rooms.addAll(page);
+		while (page.size() == ROOM_PAGE_SIZE) {
+			page = nextPage.apply(page.get(page.size() - 1), pageable);
+			rooms.addAll(page);
+		}
+		return rooms;
+	}
+
 	/**
 	 * 현재 참여중인 방을 모두 조회한다(만든 방 포함)
 	 * 시작한 방 뒤에 시작하지 않은 방이 오게 작성
@@ -20,7 +20,6 @@ import gg.pingpong.api.admin.game.controller.response.GameLogListAdminResponseDt
 import gg.pingpong.api.admin.game.dto.GameUserLogAdminReqDto;
 import gg.pingpong.api.admin.game.dto.RankGamePPPModifyReqDto;
 import gg.pingpong.api.admin.game.service.GameAdminService;
-import gg.pingpong.api.user.rank.redis.RankRedisService;
 import gg.utils.dto.PageRequestDto;
 import gg.utils.exception.ErrorCode;
 import gg.utils.exception.custom.InvalidParameterException;
@@ -31,7 +30,6 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/pingpong/admin/games")
 public class GameAdminController {
 	private final GameAdminService gameAdminService;
-	private final RankRedisService rankRedisService;
 
 	@GetMapping
 	public GameLogListAdminResponseDto gameFindBySeasonId(@ModelAttribute @Valid PageRequestDto pageRequestDto) {
@@ -68,7 +66,6 @@ public class GameAdminController {
 			throw new InvalidParameterException("점수를 잘못 입력했습니다.", ErrorCode.VALID_FAILED);
 		}
 		gameAdminService.rankResultEdit(reqDto, gameId);
-		rankRedisService.updateAllTier(gameId);
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 }
@@ -1,6 +1,5 @@
 package gg.pingpong.api.admin.game.service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -9,8 +8,9 @@ import javax.persistence.EntityManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,7 +31,10 @@ import gg.data.user.User;
 import gg.pingpong.api.admin.game.controller.response.GameLogListAdminResponseDto;
 import gg.pingpong.api.admin.game.dto.GameLogAdminDto;
 import gg.pingpong.api.admin.game.dto.RankGamePPPModifyReqDto;
+import gg.pingpong.api.user.game.service.GameHistoryService;
+import gg.pingpong.api.user.rank.dto.TierBoundaryDto;
 import gg.pingpong.api.user.rank.redis.RankRedisService;
+import gg.pingpong.api.user.rank.service.RankSnapshotService;
 import gg.pingpong.api.user.rank.service.TierService;
 import gg.pingpong.api.user.season.dto.CurSeason;
 import gg.pingpong.api.user.season.service.SeasonService;
@@ -59,6 +62,8 @@ public class GameAdminService {
 	private final TeamUserAdminRepository teamUserAdminRepository;
 	private final RedisMatchUserRepository redisMatchUserRepository;
 	private final TierService tierService;
+	private final RankSnapshotService rankSnapshotService;
+	private final GameHistoryService gameHistoryService;
 	private final SeasonService seasonService;
 	private final EntityManager entityManager;
 
@@ -105,19 +110,11 @@ public class GameAdminService {
 	@Transactional(readOnly = true)
 	public GameLogListAdminResponseDto findGamesByIntraId(String intraId, Pageable pageable) {
 		User user = userAdminRepository.findByIntraId(intraId).orElseThrow(UserNotFoundException::new);
-		List<PChange> pChangeList = pChangeRepository.findAllByUserIdGameModeIn(user.getId(),
-			List.of(Mode.NORMAL, Mode.RANK));
-		List<Game> gameList = new ArrayList<>();
-
-		for (PChange pChange : pChangeList) {
-			gameList.add(pChange.getGame());
-		}
-
-		int start = (int)pageable.getOffset();
-		int end = Math.min((start + pageable.getPageSize()), gameList.size());
-		Page<Game> games = new PageImpl<>(gameList.subList(start, end), pageable, gameList.size());
-		return new GameLogListAdminResponseDto(
-			getGameLogList(games.getContent().stream().map(Game::getId).collect(Collectors.toList())),
+		Pageable latestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+			Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+		Page<Long> games = pChangeRepository.findGameIdsByUserIdAndGameModeIn(user.getId(),
+			List.of(Mode.NORMAL, Mode.RANK), latestFirst);
+		return new GameLogListAdminResponseDto(getGameLogList(games.getContent()),
 			games.getTotalPages());
 	}
 
@@ -134,8 +131,7 @@ public class GameAdminService {
 		@CacheEvict(value = "rankGameListByIntra", allEntries = true),
 		@CacheEvict(value = "rankGameList", allEntries = true),
 		@CacheEvict(value = "allGameList", allEntries = true),
-		@CacheEvict(value = "allGameListByUser", allEntries = true),
-		@CacheEvict(value = "ranking", allEntries = true)
+		@CacheEvict(value = "allGameListByUser", allEntries = true)
 	})
 	public void rankResultEdit(RankGamePPPModifyReqDto reqDto, Long gameId) {
 		// 게임이 두명 다 가장 마지막 게임인지 확인 (그 game에 해당하는 팀이 맞는지 확인)
@@ -149,6 +145,7 @@ public class GameAdminService {
 			.equals(curSeason.getId())) {
 			throw new NotRecentlyGameException();
 		}
+		TierBoundaryDto tierBoundary = tierService.findTierBoundary(game.getSeason());
 		// pchange 가져와서 rank ppp 이전 값을 가지고 새 점수를 바탕으로 다시 계산
 		// user 1
 		List<PChange> pChanges = pChangeAdminRepository.findByTeamUser(teamUsers.get(0).getUser().getId());
@@ -167,8 +164,11 @@ public class GameAdminService {
 		for (int i = 0; i < teamUsers.size(); i++) {
 			updateScore(reqDto, teamUsers.get(i));
 		}
-		rankRedisService.updateAdminRankData(teamUsers.get(0), teamUsers.get(1), game, rankRedis1, rankRedis2);
-		tierService.updateAllTier(game.getSeason());
+		gameHistoryService.record(game, teamUsers);
+		rankRedisService.updateAdminRankData(teamUsers.get(0), teamUsers.get(1), game, rankRedis1, rankRedis2,
+			tierBoundary);
+		rankSnapshotService.refreshUserRanks(game.getSeason(),
+			List.of(teamUsers.get(0).getUser().getId(), teamUsers.get(1).getUser().getId()));
 	}
 
 	private RankRedis rollbackGameResult(Season season, TeamUser teamUser, List<PChange> pChanges) {
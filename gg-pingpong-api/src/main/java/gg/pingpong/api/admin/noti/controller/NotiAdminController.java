@@ -1,5 +1,7 @@
 package gg.pingpong.api.admin.noti.controller;
 
+import javax.validation.Valid;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -7,13 +9,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import gg.pingpong.api.admin.noti.controller.request.NotiListAdminRequestDto;
+import gg.pingpong.api.admin.noti.controller.request.SendAllNotiAdminRequestDto;
 import gg.pingpong.api.admin.noti.controller.request.SendNotiAdminRequestDto;
+import gg.pingpong.api.admin.noti.controller.response.NotiJobAdminResponseDto;
 import gg.pingpong.api.admin.noti.controller.response.NotiListAdminResponseDto;
 import gg.pingpong.api.admin.noti.service.NotiAdminService;
 import lombok.AllArgsConstructor;
@@ -45,4 +50,16 @@ public class NotiAdminController {
 		notiAdminService.sendAnnounceNotiToUser(sendNotiAdminRequestDto);
 		return new ResponseEntity(HttpStatus.CREATED);
 	}
+
+	@PostMapping("/all")
+	public ResponseEntity<NotiJobAdminResponseDto> sendNotiToAll(
+		@RequestBody @Valid SendAllNotiAdminRequestDto sendAllNotiAdminRequestDto) {
+		return new ResponseEntity<>(notiAdminService.sendAnnounceNotiToAll(sendAllNotiAdminRequestDto),
+			HttpStatus.ACCEPTED);
+	}
+
+	@GetMapping("/jobs/{jobId}")
+	public NotiJobAdminResponseDto getAnnounceJob(@PathVariable String jobId) {
+		return notiAdminService.getAnnounceJob(jobId);
+	}
 }
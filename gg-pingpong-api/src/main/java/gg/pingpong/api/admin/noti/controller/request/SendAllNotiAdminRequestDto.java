@@ -0,0 +1,18 @@
+package gg.pingpong.api.admin.noti.controller.request;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SendAllNotiAdminRequestDto {
+
+	@NotNull
+	@Size(max = 255)
+	private String message;
+}
@@ -0,0 +1,20 @@
+package gg.pingpong.api.admin.noti.controller.response;
+
+import gg.pingpong.api.admin.noti.dto.NotiJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 공지 알림 전송 작업의 진행 상황
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotiJobAdminResponseDto {
+	private String jobId;
+	private NotiJobStatus status;
+	private Long total;
+	private Long inserted;
+	private Long slackQueued;
+}
@@ -0,0 +1,5 @@
+package gg.pingpong.api.admin.noti.dto;
+
+public enum NotiJobStatus {
+	RUNNING, DONE, FAILED
+}
@@ -11,10 +11,14 @@ import gg.auth.UserDto;
 import gg.data.noti.Noti;
 import gg.data.noti.type.NotiType;
 import gg.data.user.User;
+import gg.data.user.type.RoleType;
+import gg.pingpong.api.admin.noti.controller.request.SendAllNotiAdminRequestDto;
 import gg.pingpong.api.admin.noti.controller.request.SendNotiAdminRequestDto;
+import gg.pingpong.api.admin.noti.controller.response.NotiJobAdminResponseDto;
 import gg.pingpong.api.admin.noti.controller.response.NotiListAdminResponseDto;
 import gg.pingpong.api.admin.noti.dto.NotiAdminDto;
 import gg.pingpong.api.user.noti.service.SnsNotiService;
+import gg.utils.exception.noti.NotiJobNotFoundException;
 import gg.utils.exception.user.UserNotFoundException;
 import lombok.AllArgsConstructor;
 
@@ -24,6 +28,8 @@ public class NotiAdminService {
 	private final NotiAdminRepository notiAdminRepository;
 	private final UserAdminRepository userAdminRepository;
 	private final SnsNotiService snsNotiService;
+	private final NotiAnnounceJobStore notiAnnounceJobStore;
+	private final NotiAnnounceJobRunner notiAnnounceJobRunner;
 
 	/**
 	 * 유저에게 알림을 전송합니다.
@@ -41,6 +47,29 @@ public class NotiAdminService {
 		snsNotiService.sendSnsNotification(noti, UserDto.from(user));
 	}
 
+	/**
+	 * 게스트를 제외한 모든 유저에게 공지 알림을 전송하는 작업을 시작합니다.
+	 * 알림 추가와 슬랙 전송은 비동기로 진행되고, 반환된 작업 id 로 진행 상황을 조회할 수 있습니다.
+	 * @param sendAllNotiAdminRequestDto 전체 알림 요청 Dto
+	 * @return 시작된 작업의 진행 상황
+	 */
+	public NotiJobAdminResponseDto sendAnnounceNotiToAll(SendAllNotiAdminRequestDto sendAllNotiAdminRequestDto) {
+		long total = userAdminRepository.countByRoleTypeNot(RoleType.GUEST);
+		String jobId = notiAnnounceJobStore.create(total);
+		notiAnnounceJobRunner.run(jobId, sendAllNotiAdminRequestDto.getMessage());
+		return notiAnnounceJobStore.find(jobId);
+	}
+
+	/**
+	 * 전체 공지 알림 전송 작업의 진행 상황을 조회합니다.
+	 * @param jobId 작업 id
+	 * @return 작업의 진행 상황
+	 * @exception NotiJobNotFoundException 작업이 없거나 만료된 경우
+	 */
+	public NotiJobAdminResponseDto getAnnounceJob(String jobId) {
+		return notiAnnounceJobStore.find(jobId);
+	}
+
 	/**
 	 * 전체 알림 목록을 조회합니다.
 	 * @param pageable 알림 목록 페이지
@@ -0,0 +1,76 @@
+package gg.pingpong.api.admin.noti.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import gg.admin.repo.noti.NotiAdminJdbcRepository;
+import gg.admin.repo.user.UserAdminRepository;
+import gg.admin.repo.user.UserNotiTargetDto;
+import gg.data.noti.Noti;
+import gg.data.noti.type.NotiType;
+import gg.data.user.type.RoleType;
+import gg.data.user.type.SnsType;
+import gg.pingpong.api.admin.noti.dto.NotiJobStatus;
+import gg.pingpong.api.user.noti.service.NotiService;
+import gg.utils.sns.MessageSender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 공지 알림을 유저 CHUNK_SIZE 명씩 나눠 보낸다.
+ * <p>
+ *     알림은 chunk 마다 multi-row INSERT 한 번으로 추가하고, 슬랙 메시지는 MessageSender.sendBulk 로 큐에 넣기만 한다. <br/>
+ *     sendBulk 는 기다리지 않으므로 큐가 가득 차서 넣지 못한 메시지는 세지 않는다. <br/>
+ *     chunk 마다 NotiAnnounceJobStore 에 진행 상황을 남긴다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotiAnnounceJobRunner {
+	private static final int CHUNK_SIZE = 1000;
+
+	private final UserAdminRepository userAdminRepository;
+	private final NotiAdminJdbcRepository notiAdminJdbcRepository;
+	private final NotiAnnounceJobStore notiAnnounceJobStore;
+	private final NotiService notiService;
+	private final MessageSender messageSender;
+
+	@Async("asyncExecutor")
+	public void run(String jobId, String message) {
+		String slackMessage = notiService.getMessage(new Noti(null, NotiType.ANNOUNCE, message, false));
+		Long lastId = 0L;
+		try {
+			while (true) {
+				List<UserNotiTargetDto> targets = userAdminRepository.findNotiTargetsAfter(RoleType.GUEST, lastId,
+					PageRequest.of(0, CHUNK_SIZE));
+				if (targets.isEmpty()) {
+					break;
+				}
+				int inserted = notiAdminJdbcRepository.insertAnnounceNotis(message,
+					targets.stream().map(UserNotiTargetDto::getId).collect(Collectors.toList()));
+				List<String> slackTargets = targets.stream()
+					.filter(target -> target.getSnsNotiOpt() == SnsType.SLACK || target.getSnsNotiOpt() == SnsType.BOTH)
+					.map(UserNotiTargetDto::getIntraId)
+					.collect(Collectors.toList());
+				int slackQueued = 0;
+				if (messageSender.sendBulk(slackTargets, slackMessage)) {
+					slackQueued = slackTargets.size();
+				} else {
+					log.warn("announce noti job {} : {} slack messages dropped", jobId, slackTargets.size());
+				}
+				notiAnnounceJobStore.addProgress(jobId, inserted, slackQueued);
+				lastId = targets.get(targets.size() - 1).getId();
+				log.info("announce noti job {} : sent to users up to id {}", jobId, lastId);
+			}
+			notiAnnounceJobStore.finish(jobId, NotiJobStatus.DONE);
+		} catch (RuntimeException e) {
+			log.error("announce noti job {} failed after user id {}", jobId, lastId, e);
+			notiAnnounceJobStore.finish(jobId, NotiJobStatus.FAILED);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package gg.pingpong.api.admin.noti.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import gg.pingpong.api.admin.noti.controller.response.NotiJobAdminResponseDto;
+import gg.pingpong.api.admin.noti.dto.NotiJobStatus;
+import gg.utils.exception.noti.NotiJobNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 공지 알림 전송 작업의 진행 상황을 Redis hash 에 저장한다.
+ * <p>
+ *     작업은 asyncExecutor 에서 실행되고, 관리자는 다른 서버로 요청해도 같은 진행 상황을 조회할 수 있다. <br/>
+ *     진행 상황은 하루 뒤에 만료된다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotiAnnounceJobStore {
+	private static final String KEY_PREFIX = "noti:announce:job:";
+	private static final Duration TTL = Duration.ofDays(1);
+	private static final String STATUS = "status";
+	private static final String TOTAL = "total";
+	private static final String INSERTED = "inserted";
+	private static final String SLACK_QUEUED = "slackQueued";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 새 작업을 RUNNING 상태로 저장한다.
+	 *
+	 * @param total 알림을 받을 유저 수
+	 * @return 작업 id
+	 */
+	public String create(long total) {
+		String jobId = UUID.randomUUID().toString();
+		String key = KEY_PREFIX + jobId;
+		stringRedisTemplate.opsForHash().putAll(key, Map.of(
+			STATUS, NotiJobStatus.RUNNING.name(),
+			TOTAL, String.valueOf(total),
+			INSERTED, "0",
+			SLACK_QUEUED, "0"));
+		stringRedisTemplate.expire(key, TTL);
+		return jobId;
+	}
+
+	public void addProgress(String jobId, long inserted, long slackQueued) {
+		HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+		hash.increment(KEY_PREFIX + jobId, INSERTED, inserted);
+		hash.increment(KEY_PREFIX + jobId, SLACK_QUEUED, slackQueued);
+	}
+
+	public void finish(String jobId, NotiJobStatus status) {
+		stringRedisTemplate.opsForHash().put(KEY_PREFIX + jobId, STATUS, status.name());
+	}
+
+	/**
+	 * 작업의 진행 상황을 조회한다.
+	 *
+	 * @param jobId 작업 id
+	 * @return 진행 상황
+	 * @exception NotiJobNotFoundException 작업이 없거나 만료된 경우
+	 */
+	public NotiJobAdminResponseDto find(String jobId) {
+		HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+		Map<String, String> job = hash.entries(KEY_PREFIX + jobId);
+		if (job.isEmpty()) {
+			throw new NotiJobNotFoundException();
+		}
+		return new NotiJobAdminResponseDto(jobId, NotiJobStatus.valueOf(job.get(STATUS)),
+			Long.valueOf(job.get(TOTAL)), Long.valueOf(job.get(INSERTED)), Long.valueOf(job.get(SLACK_QUEUED)));
+	}
+}
@@ -3,51 +3,62 @@ package gg.pingpong.api.admin.rank.service;
 import static gg.data.user.type.RoleType.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import gg.admin.repo.user.UserAdminRepository;
-import gg.data.pingpong.rank.Rank;
+import gg.admin.repo.user.UserRankSeedDto;
 import gg.data.pingpong.rank.Tier;
-import gg.data.pingpong.season.Season;
-import gg.data.user.User;
 import gg.pingpong.api.admin.season.dto.SeasonAdminDto;
+import gg.repo.rank.RankJdbcRepository;
 import gg.repo.rank.RankRepository;
 import gg.repo.rank.TierRepository;
-import gg.repo.season.SeasonRepository;
 import gg.utils.exception.season.SeasonForbiddenException;
 import gg.utils.exception.season.SeasonTimeBeforeException;
 import gg.utils.exception.tier.TierNotFoundException;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class RankAdminService {
+	private static final int CHUNK_SIZE = 1000;
+
 	private final RankRepository rankRepository;
+	private final RankJdbcRepository rankJdbcRepository;
 	private final UserAdminRepository userAdminRepository;
-	private final SeasonRepository seasonRepository;
 	private final TierRepository tierRepository;
 
+	/**
+	 * 게스트가 아닌 모든 유저의 새 시즌 rank 를 추가한다.
+	 * 유저는 CHUNK_SIZE 명씩 id 순으로 읽고, chunk 마다 multi-row INSERT 한 번으로 저장한다.
+	 */
 	@Transactional
 	public void addAllUserRankByNewSeason(SeasonAdminDto seasonAdminDto) {
 		if (LocalDateTime.now().isAfter(seasonAdminDto.getStartTime())) {
 			throw new SeasonTimeBeforeException();
 		}
-		List<User> users = userAdminRepository.findAll();
-
-		List<Rank> ranks = new ArrayList<>();
-		Season season = seasonRepository.findById(seasonAdminDto.getSeasonId()).get();
+		Long seasonId = seasonAdminDto.getSeasonId();
 		Tier tier = tierRepository.findStartTier().orElseThrow(TierNotFoundException::new);
-		users.forEach(user -> {
-			if (user.getRoleType() != GUEST) {
-				Rank userRank = Rank.from(user, season, seasonAdminDto.getStartPpp(), tier);
-				ranks.add(userRank);
-			}
-		});
-		rankRepository.saveAll(ranks);
+		long begin = System.currentTimeMillis();
+		int inserted = 0;
+		PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+		List<UserRankSeedDto> users = userAdminRepository.findRankSeedsAfter(GUEST, 0L, chunk);
+		while (!users.isEmpty()) {
+			List<Long> userIds = users.stream().map(UserRankSeedDto::getId).collect(Collectors.toList());
+			inserted += rankJdbcRepository.insertNewSeasonRanks(seasonId, tier.getId(),
+				seasonAdminDto.getStartPpp(), userIds);
+			log.info("season {} rank insert : {} users, {} ms", seasonId, inserted,
+				System.currentTimeMillis() - begin);
+			Long lastId = userIds.get(userIds.size() - 1);
+			users = users.size() < CHUNK_SIZE ? List.of()
+				: userAdminRepository.findRankSeedsAfter(GUEST, lastId, chunk);
+		}
 	}
 
 	@Transactional
@@ -3,43 +3,61 @@ package gg.pingpong.api.admin.rank.service;
 import static gg.data.user.type.RoleType.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import gg.admin.repo.user.UserAdminRepository;
+import gg.admin.repo.user.UserRankSeedDto;
 import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.rank.redis.RankRedis;
-import gg.data.user.User;
 import gg.pingpong.api.admin.season.dto.SeasonAdminDto;
 import gg.repo.rank.TierRepository;
 import gg.repo.rank.redis.RankRedisRepository;
-import gg.repo.user.UserRepository;
 import gg.utils.RedisKeyManager;
 import gg.utils.exception.tier.TierNotFoundException;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class RankRedisAdminService {
-	private final UserRepository userRepository;
+	private static final int CHUNK_SIZE = 1000;
+
+	private final UserAdminRepository userAdminRepository;
 	private final RankRedisRepository rankRedisRepository;
 	private final TierRepository tierRepository;
 
+	/**
+	 * 게스트가 아닌 모든 유저의 새 시즌 rank 를 redis hash 에 추가한다.
+	 * 유저는 CHUNK_SIZE 명씩 id 순으로 읽고, chunk 마다 HSET 한 번으로 저장한다.
+	 * 아직 경기하지 않은 유저는 랭킹에 나오지 않으므로 ZSET 에는 추가하지 않는다.
+	 */
 	@Transactional
 	public void addAllUserRankByNewSeason(SeasonAdminDto seasonAdminDto) {
-		List<User> users = userRepository.findAll();
-
-		String redisHashKey = RedisKeyManager.getHashKey(seasonAdminDto.getSeasonId());
+		Long seasonId = seasonAdminDto.getSeasonId();
+		String redisHashKey = RedisKeyManager.getHashKey(seasonId);
 		Tier tier = tierRepository.findStartTier().orElseThrow(TierNotFoundException::new);
-
-		users.forEach(user -> {
-			if (user.getRoleType() != GUEST) {
-				RankRedis userRank = RankRedis.from(user.getId(), user.getIntraId(), user.getTextColor(),
-					seasonAdminDto.getStartPpp(), tier.getImageUri());
-
-				rankRedisRepository.addRankData(redisHashKey, user.getId(), userRank);
-			}
-		});
+		long begin = System.currentTimeMillis();
+		int added = 0;
+		PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+		List<UserRankSeedDto> users = userAdminRepository.findRankSeedsAfter(GUEST, 0L, chunk);
+		while (!users.isEmpty()) {
+			List<RankRedis> userRanks = users.stream()
+				.map(user -> RankRedis.from(user.getId(), user.getIntraId(), user.getTextColor(),
+					seasonAdminDto.getStartPpp(), tier.getImageUri()))
+				.collect(Collectors.toList());
+			rankRedisRepository.addAllRankData(redisHashKey, userRanks);
+			added += userRanks.size();
+			log.info("season {} redis rank add : {} users, {} ms", seasonId, added,
+				System.currentTimeMillis() - begin);
+			Long lastId = users.get(users.size() - 1).getId();
+			users = users.size() < CHUNK_SIZE ? List.of()
+				: userAdminRepository.findRankSeedsAfter(GUEST, lastId, chunk);
+		}
 	}
 
 	@Transactional
@@ -50,10 +68,10 @@ public class RankRedisAdminService {
 	}
 
 	public void updateRankUser(String hashKey, String zsetKey, Long userId, RankRedis userRank) {
-		rankRedisRepository.updateRankData(hashKey, userId, userRank);
 		if (userPlayedRank(userRank)) {
-			rankRedisRepository.deleteFromZSet(zsetKey, userId);
-			rankRedisRepository.addToZSet(zsetKey, userId, userRank.getPpp());
+			rankRedisRepository.updateRankDataAndScore(hashKey, zsetKey, userId, userRank);
+		} else {
+			rankRedisRepository.updateRankData(hashKey, userId, userRank);
 		}
 	}
 
@@ -13,6 +13,7 @@ import gg.data.user.User;
 import gg.pingpong.api.admin.store.controller.response.CoinPolicyAdminListResponseDto;
 import gg.pingpong.api.admin.store.controller.response.CoinPolicyAdminResponseDto;
 import gg.pingpong.api.admin.store.dto.CoinPolicyAdminAddDto;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
 import gg.utils.exception.user.UserNotFoundException;
 import lombok.AllArgsConstructor;
 
@@ -21,6 +22,7 @@ import lombok.AllArgsConstructor;
 public class CoinPolicyAdminService {
 	private final CoinPolicyAdminRepository coinPolicyAdminRepository;
 	private final UserAdminRepository userAdminRepository;
+	private final CoinPolicyCache coinPolicyCache;
 
 	/**
 	 * 코인 정책을 페이지별로 조회합니다.
@@ -37,7 +39,7 @@ public class CoinPolicyAdminService {
 	}
 
 	/**
-	 * 새로운 코인 정책을 추가합니다.
+	 * 새로운 코인 정책을 추가하고 코인 정책 캐시를 지웁니다.
 	 * @param userDto 유저 Dto
 	 * @param addDto 새로 추가 할 코인 정책 Dto
 	 * @exception UserNotFoundException 유저가 존재하지 않을 경우
@@ -49,5 +51,6 @@ public class CoinPolicyAdminService {
 		CoinPolicy coinPolicy = CoinPolicy.from(user, addDto.getAttendance(), addDto.getNormal(),
 			addDto.getRankWin(), addDto.getRankLose());
 		coinPolicyAdminRepository.save(coinPolicy);
+		coinPolicyCache.evict();
 	}
 }
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +16,7 @@ import org.springframework.web.multipart.MultipartFile;
 import gg.admin.repo.season.SeasonAdminRepository;
 import gg.admin.repo.user.UserAdminRepository;
 import gg.admin.repo.user.UserImageAdminRepository;
+import gg.auth.utils.LoginUserCache;
 import gg.data.pingpong.rank.Rank;
 import gg.data.pingpong.rank.redis.RankRedis;
 import gg.data.pingpong.season.Season;
@@ -50,34 +53,36 @@ public class UserAdminService {
 	private final AsyncNewUserImageUploader asyncNewUserImageUploader;
 	private final UserFindService userFindService;
 	private final UserImageAdminRepository userImageAdminRepository;
+	private final LoginUserCache loginUserCache;
 
 	@Transactional(readOnly = true)
 	public UserSearchAdminResponseDto searchAll(Pageable pageable) {
 		Page<User> userPage = userAdminRepository.findAll(pageable);
-		List<UserSearchAdminDto> userSearchAdminDtos = new ArrayList<UserSearchAdminDto>();
-		for (User user : userPage.getContent()) {
-			userSearchAdminDtos.add(new UserSearchAdminDto(user, userFindService.getUserStatusMessage(user)));
-		}
-		return new UserSearchAdminResponseDto(userSearchAdminDtos, userPage.getTotalPages());
+		return toSearchResponse(userPage);
 	}
 
 	@Transactional(readOnly = true)
 	public UserSearchAdminResponseDto searchByIntraId(Pageable pageable, String intraId) {
 		Page<User> userPage = userAdminRepository.findByIntraId(pageable, intraId);
-		List<UserSearchAdminDto> userSearchAdminDtos = new ArrayList<UserSearchAdminDto>();
-		for (User user : userPage.getContent()) {
-			userSearchAdminDtos.add(new UserSearchAdminDto(user, userFindService.getUserStatusMessage(user)));
-		}
-		return new UserSearchAdminResponseDto(userSearchAdminDtos, userPage.getTotalPages());
+		return toSearchResponse(userPage);
 	}
 
 	/* 문자열을 포함하는 intraId를 가진 유저 찾기 */
 	@Transactional(readOnly = true)
 	public UserSearchAdminResponseDto findByPartsOfIntraId(String intraId, Pageable pageable) {
 		Page<User> userPage = userAdminRepository.findByIntraIdContains(pageable, intraId);
+		return toSearchResponse(userPage);
+	}
+
+	/**
+	 * 페이지의 유저들의 상태 메시지를 한 번에 조회해 응답을 만든다.
+	 */
+	private UserSearchAdminResponseDto toSearchResponse(Page<User> userPage) {
+		List<Long> userIds = userPage.getContent().stream().map(User::getId).collect(Collectors.toList());
+		Map<Long, String> statusMessages = userFindService.getUserStatusMessages(userIds);
 		List<UserSearchAdminDto> userSearchAdminDtos = new ArrayList<UserSearchAdminDto>();
 		for (User user : userPage.getContent()) {
-			userSearchAdminDtos.add(new UserSearchAdminDto(user, userFindService.getUserStatusMessage(user)));
+			userSearchAdminDtos.add(new UserSearchAdminDto(user, statusMessages.get(user.getId())));
 		}
 		return new UserSearchAdminResponseDto(userSearchAdminDtos, userPage.getTotalPages());
 	}
@@ -107,6 +112,7 @@ public class UserAdminService {
 
 		user.modifyUserDetail(userUpdateAdminRequestDto.getEmail(), userUpdateAdminRequestDto.getRacketType(),
 			RoleType.of(userUpdateAdminRequestDto.getRoleType()), userUpdateAdminRequestDto.getCoin());
+		loginUserCache.evict(user.getId());
 		if (userImageFile != null) {
 			asyncNewUserImageUploader.update(intraId, userImageFile);
 		}
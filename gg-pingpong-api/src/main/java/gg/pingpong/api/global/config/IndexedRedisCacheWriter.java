@@ -0,0 +1,72 @@
+package gg.pingpong.api.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import gg.pingpong.api.global.utils.CacheKeyIndex;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시에 값을 쓸 때 key 를 CacheKeyIndex 에 같이 기록하는 RedisCacheWriter.
+ */
+@RequiredArgsConstructor
+public class IndexedRedisCacheWriter implements RedisCacheWriter {
+	private final RedisCacheWriter delegate;
+	private final CacheKeyIndex cacheKeyIndex;
+
+	@Override
+	public void put(String name, byte[] key, byte[] value, Duration ttl) {
+		delegate.put(name, key, value, ttl);
+		index(key, ttl);
+	}
+
+	@Override
+	public byte[] get(String name, byte[] key) {
+		return delegate.get(name, key);
+	}
+
+	@Override
+	public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+		byte[] existing = delegate.putIfAbsent(name, key, value, ttl);
+		if (Objects.isNull(existing)) {
+			index(key, ttl);
+		}
+		return existing;
+	}
+
+	@Override
+	public void remove(String name, byte[] key) {
+		delegate.remove(name, key);
+	}
+
+	@Override
+	public void clean(String name, byte[] pattern) {
+		delegate.clean(name, pattern);
+	}
+
+	@Override
+	public void clearStatistics(String name) {
+		delegate.clearStatistics(name);
+	}
+
+	@Override
+	public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+		return new IndexedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), cacheKeyIndex);
+	}
+
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return delegate.getCacheStatistics(cacheName);
+	}
+
+	private void index(byte[] key, Duration ttl) {
+		if (Objects.nonNull(ttl)) {
+			cacheKeyIndex.add(new String(key, StandardCharsets.UTF_8), ttl);
+		}
+	}
+}
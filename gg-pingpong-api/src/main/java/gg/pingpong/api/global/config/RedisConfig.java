@@ -1,6 +1,7 @@
 package gg.pingpong.api.global.config;
 
 import java.time.Duration;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.ListOperations;
@@ -20,6 +22,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.session.data.redis.config.ConfigureRedisAction;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import gg.pingpong.api.global.utils.CacheKeyIndex;
+
 /**
  * Redis 설정
  */
@@ -28,6 +32,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableRedisRepositories
 @EnableTransactionManagement
 public class RedisConfig {
+	private static final Set<String> GAME_CACHE_NAMES = Set.of("normalGameListByIntra", "normalGameList",
+		"rankGameListByIntra", "rankGameList", "allGameList", "allGameListByUser", "ranking", "expRanking");
 
 	/**
 	 * Redis Host
@@ -58,19 +64,24 @@ public class RedisConfig {
 	 * 캐시 관리자
 	 * <p>
 	 * RedisCacheManager 를 통해 Redis 에 대한 캐시를 관리한다. 캐시의 기본 설정을 변경하기 위해 RedisCacheConfiguration 을 사용한다.
+	 * 통계를 켜고 캐시를 미리 만들어 두면 actuator 가 cache.gets(result=hit|miss) 지표로 노출한다.
+	 * 캐시에 쓴 key 는 CacheKeyIndex 에 기록해서 key 단위로 지울 수 있게 한다.
 	 *
 	 * @param connectionFactory
+	 * @param cacheKeyIndex
 	 * @return
 	 */
 	@Bean
-	public CacheManager gameCacheManager(RedisConnectionFactory connectionFactory) {
-		RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.RedisCacheManagerBuilder
-			.fromConnectionFactory(redisConnectionFactory());
+	public CacheManager gameCacheManager(RedisConnectionFactory connectionFactory, CacheKeyIndex cacheKeyIndex) {
+		RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(new IndexedRedisCacheWriter(
+			RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory()), cacheKeyIndex));
 		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
 			.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
 				new GenericJackson2JsonRedisSerializer())) // Value Serializer 변경
 			.entryTtl(Duration.ofMinutes(30)); // 캐시 수명
-		builder.cacheDefaults(configuration);
+		builder.cacheDefaults(configuration)
+			.initialCacheNames(GAME_CACHE_NAMES)
+			.enableStatistics();
 		return builder.build();
 	}
 
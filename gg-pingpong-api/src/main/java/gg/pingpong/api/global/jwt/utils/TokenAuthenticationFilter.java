@@ -18,11 +18,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import gg.auth.utils.AuthTokenProvider;
+import gg.auth.UserDto;
 import gg.auth.utils.HeaderUtil;
-import gg.data.user.User;
+import gg.auth.utils.LoginUserCache;
 import gg.pingpong.api.global.security.UserPrincipal;
-import gg.repo.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,8 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Component
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
-	private final AuthTokenProvider tokenProvider;
-	private final UserRepository userRepository;
+	private final LoginUserCache loginUserCache;
 
 	@Override
 	protected void doFilterInternal(
@@ -55,15 +53,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
 	private OAuth2AuthenticationToken validate(HttpServletRequest request) {
 		String accessToken = HeaderUtil.getAccessToken(request);
-		Long userId = tokenProvider.getUserIdFromAccessToken(accessToken);
-		//access token 검증
-		if (userId != null) {
-			User loginUser = userRepository.findById(userId)
-				.orElseThrow(() -> new RuntimeException("user not found in db"));
-			UserDetails userDetails = UserPrincipal.create(loginUser);
-			return new OAuth2AuthenticationToken((OAuth2User)userDetails, userDetails.getAuthorities(), "42");
-		}
-		throw new RuntimeException("token not validated");
+		//access token 검증, 유저 조회는 LoginUserCache 를 거친다.
+		UserDto loginUser = loginUserCache.getLoginUser(accessToken)
+			.orElseThrow(() -> new RuntimeException("token not validated"));
+		UserDetails userDetails = UserPrincipal.create(loginUser);
+		return new OAuth2AuthenticationToken((OAuth2User)userDetails, userDetails.getAuthorities(), "42");
 	}
 
 }
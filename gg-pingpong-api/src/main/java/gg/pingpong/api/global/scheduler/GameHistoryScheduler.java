@@ -0,0 +1,25 @@
+package gg.pingpong.api.global.scheduler;
+
+import org.springframework.stereotype.Component;
+
+import gg.pingpong.api.user.game.service.GameHistoryService;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class GameHistoryScheduler extends AbstractScheduler {
+	private final GameHistoryService gameHistoryService;
+
+	public GameHistoryScheduler(GameHistoryService gameHistoryService) {
+		this.gameHistoryService = gameHistoryService;
+		this.setCron("0 40 4 * * *");
+	}
+
+	@Override
+	public Runnable runnable() {
+		return () -> {
+			log.info("GameHistoryScheduler start");
+			gameHistoryService.backfill();
+		};
+	}
+}
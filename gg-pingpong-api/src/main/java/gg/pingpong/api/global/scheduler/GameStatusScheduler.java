@@ -5,13 +5,19 @@ import org.springframework.stereotype.Component;
 import gg.pingpong.api.user.game.service.GameStatusService;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 게임 상태 변경과 알림은 GameStatusTimer 가 시간에 맞춰 처리한다.
+ * 이 스케줄러는 다른 서버에서 생긴 게임이나 놓친 변경을 위해 5분마다 상태를 맞추고 예약을 다시 잡는다.
+ */
 @Component
 @Slf4j
 public class GameStatusScheduler extends AbstractScheduler {
 	private final GameStatusService gameStatusService;
+	private final GameStatusTimer gameStatusTimer;
 
-	public GameStatusScheduler(GameStatusService gameStatusService) {
+	public GameStatusScheduler(GameStatusService gameStatusService, GameStatusTimer gameStatusTimer) {
 		this.gameStatusService = gameStatusService;
+		this.gameStatusTimer = gameStatusTimer;
 		this.setCron("0 */5 * * * *");
 	}
 
@@ -23,8 +29,7 @@ public class GameStatusScheduler extends AbstractScheduler {
 			gameStatusService.updateBeforeToLiveStatus();
 			// LIVE -> WAIT
 			gameStatusService.updateLiveToWaitStatus();
-			// imminent Noti
-			gameStatusService.imminentGame();
+			gameStatusTimer.wakeUp();
 		};
 	}
 }
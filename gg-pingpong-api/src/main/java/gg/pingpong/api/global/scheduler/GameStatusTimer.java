@@ -0,0 +1,118 @@
+package gg.pingpong.api.global.scheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.pingpong.api.user.game.service.GameStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 시작, 종료, 알림 시간에 맞춰 GameStatusService 를 호출한다.
+ * <p>
+ *     다음 상태 변경 시간과 다음 알림 시간을 DB 에서 구해 한 번씩만 예약하고, 실행이 끝나면 다음 시간을 다시 예약한다. <br/>
+ *     게임이 생기거나 지워지면 wakeUp 으로 예약을 다시 잡는다. <br/>
+ *     예약과 실행은 모두 스레드 하나에서 차례로 처리하므로 따로 동기화하지 않는다.
+ * </p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GameStatusTimer {
+	private static final long MIN_DELAY_MILLIS = 1_000L;
+
+	private final GameStatusService gameStatusService;
+	private final ThreadPoolTaskScheduler timer = new ThreadPoolTaskScheduler();
+	private ScheduledFuture<?> statusChange;
+	private ScheduledFuture<?> imminentNoti;
+
+	@PostConstruct
+	public void init() {
+		timer.setPoolSize(1);
+		timer.setThreadNamePrefix("game-status-timer-");
+		timer.initialize();
+		timer.execute(this::reschedule);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		timer.shutdown();
+	}
+
+	/**
+	 * 게임이 생기거나 지워졌을 때 트랜잭션 커밋 후에 예약을 다시 잡는다.
+	 */
+	public void wakeUp() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			timer.execute(this::reschedule);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				timer.execute(GameStatusTimer.this::reschedule);
+			}
+		});
+	}
+
+	private void reschedule() {
+		cancel(statusChange);
+		cancel(imminentNoti);
+		statusChange = null;
+		imminentNoti = null;
+		try {
+			gameStatusService.findNextStatusChangeTime()
+				.ifPresent(time -> statusChange = timer.schedule(this::changeStatus, toInstant(time)));
+			gameStatusService.findNextImminentNotiTime()
+				.ifPresent(time -> imminentNoti = timer.schedule(() -> sendImminentNoti(time), toInstant(time)));
+		} catch (RuntimeException e) {
+			log.error("GameStatusTimer reschedule failed", e);
+		}
+	}
+
+	private void changeStatus() {
+		try {
+			// BEFORE -> LIVE
+			gameStatusService.updateBeforeToLiveStatus();
+			// LIVE -> WAIT
+			gameStatusService.updateLiveToWaitStatus();
+		} catch (RuntimeException e) {
+			log.error("GameStatusTimer status change failed", e);
+		}
+		reschedule();
+	}
+
+	private void sendImminentNoti(LocalDateTime notiTime) {
+		try {
+			gameStatusService.imminentGame(notiTime);
+		} catch (RuntimeException e) {
+			log.error("GameStatusTimer imminent noti failed", e);
+		}
+		reschedule();
+	}
+
+	private static void cancel(ScheduledFuture<?> future) {
+		if (future != null) {
+			future.cancel(false);
+		}
+	}
+
+	/**
+	 * 이미 지난 시간이면 MIN_DELAY_MILLIS 뒤로 잡는다. 분 단위로 판단하는 상태 변경이 아직 안 된 경우 계속 다시 실행되지 않게 한다.
+	 */
+	private static Instant toInstant(LocalDateTime time) {
+		Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+		Instant earliest = Instant.now().plusMillis(MIN_DELAY_MILLIS);
+		return instant.isBefore(earliest) ? earliest : instant;
+	}
+}
@@ -0,0 +1,31 @@
+package gg.pingpong.api.global.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import gg.pingpong.api.user.rank.service.RankSnapshotService;
+import gg.repo.season.SeasonRepository;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class RankSnapshotScheduler extends AbstractScheduler {
+	private final RankSnapshotService rankSnapshotService;
+	private final SeasonRepository seasonRepository;
+
+	public RankSnapshotScheduler(RankSnapshotService rankSnapshotService, SeasonRepository seasonRepository) {
+		this.rankSnapshotService = rankSnapshotService;
+		this.seasonRepository = seasonRepository;
+		this.setCron("0 30 4 * * *");
+	}
+
+	@Override
+	public Runnable runnable() {
+		return () -> {
+			log.info("RankSnapshotScheduler start");
+			seasonRepository.findCurrentSeason(LocalDateTime.now())
+				.ifPresent(season -> rankSnapshotService.checkConsistency(season.getId()));
+		};
+	}
+}
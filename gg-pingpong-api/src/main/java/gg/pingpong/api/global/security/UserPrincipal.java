@@ -10,6 +10,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import gg.auth.UserDto;
 import gg.data.user.User;
 import gg.data.user.type.RoleType;
 import lombok.Getter;
@@ -28,14 +29,11 @@ public class UserPrincipal implements OAuth2User, UserDetails {
 	}
 
 	public static UserPrincipal create(User user) {
-		List<GrantedAuthority> authorities = new ArrayList<>();
-		if (user.getRoleType().getKey().equals("ROLE_USER")) {
-			authorities.add(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-		} else if (user.getRoleType().getKey().equals("ROLE_ADMIN")) {
-			authorities.add(new SimpleGrantedAuthority(RoleType.USER.getKey()));
-			authorities.add(new SimpleGrantedAuthority(RoleType.ADMIN.getKey()));
-		}
-		return new UserPrincipal(user.getId(), user.getIntraId(), authorities);
+		return new UserPrincipal(user.getId(), user.getIntraId(), createAuthorities(user.getRoleType()));
+	}
+
+	public static UserPrincipal create(UserDto user) {
+		return new UserPrincipal(user.getId(), user.getIntraId(), createAuthorities(user.getRoleType()));
 	}
 
 	public static UserPrincipal create(User user, Map<String, Object> attributes) {
@@ -44,6 +42,17 @@ public class UserPrincipal implements OAuth2User, UserDetails {
 		return userPrincipal;
 	}
 
+	private static List<GrantedAuthority> createAuthorities(RoleType roleType) {
+		List<GrantedAuthority> authorities = new ArrayList<>();
+		if (roleType.getKey().equals("ROLE_USER")) {
+			authorities.add(new SimpleGrantedAuthority(RoleType.USER.getKey()));
+		} else if (roleType.getKey().equals("ROLE_ADMIN")) {
+			authorities.add(new SimpleGrantedAuthority(RoleType.USER.getKey()));
+			authorities.add(new SimpleGrantedAuthority(RoleType.ADMIN.getKey()));
+		}
+		return authorities;
+	}
+
 	public void setAttributes(Map<String, Object> attributes) {
 		this.attributes = attributes;
 	}
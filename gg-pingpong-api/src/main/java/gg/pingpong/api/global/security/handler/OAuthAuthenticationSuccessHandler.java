@@ -14,6 +14,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import gg.auth.properties.AppProperties;
 import gg.auth.utils.AuthTokenProvider;
+import gg.auth.utils.LoginUserCache;
 import gg.data.user.User;
 import gg.data.user.type.RoleType;
 import gg.pingpong.api.global.jwt.utils.TokenHeaders;
@@ -34,6 +35,7 @@ public class OAuthAuthenticationSuccessHandler extends SimpleUrlAuthenticationSu
 	private final AppProperties appProperties;
 	private final ApplicationYmlRead applicationYmlRead;
 	private final CookieUtil cookieUtil;
+	private final LoginUserCache loginUserCache;
 
 	@Transactional
 	@Override
@@ -113,6 +115,8 @@ public class OAuthAuthenticationSuccessHandler extends SimpleUrlAuthenticationSu
 		// 쿠키 시간 설정
 		long refreshTokenExpiry = appProperties.getAuth().getRefreshTokenExpiry();
 		userRepository.delete(deletedUser);
+		loginUserCache.evict(remainedUser.getId());
+		loginUserCache.evict(deletedUser.getId());
 
 		// token 설정
 		String accessToken = tokenProvider.createToken(remainedUser.getId());
@@ -0,0 +1,106 @@
+package gg.pingpong.api.global.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * gameCacheManager 의 캐시 key 를 색인(Redis sorted set)에 기록하고, 색인에 있는 key 만 지운다.
+ * <p>
+ *     캐시 key 는 cacheName::key 형식이고, key 를 ':' 로 나눈 첫 구간과 마지막 구간별로 색인을 둔다. <br/>
+ *     - 첫 구간 색인 : cacheName::index:first:{첫 구간} (유저별 목록의 intraId, 전체 목록의 pageNumber, 랭킹의 seasonId) <br/>
+ *     - 마지막 구간 색인 : cacheName::index:last:{마지막 구간} (게임 목록의 status) <br/>
+ *     score 는 캐시 만료 시각이고, 색인에 쓸 때마다 만료된 key 를 함께 지워 색인이 계속 커지지 않게 한다. <br/>
+ *     지울 때는 Redis 전체 key 를 SCAN 하지 않고 색인에 있는 key 만 지운다.
+ *     색인도 cacheName:: 으로 시작하므로 캐시를 clear 하면 같이 지워진다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheKeyIndex {
+	private static final String CACHE_KEY_SEPARATOR = "::";
+	private static final String KEY_SEPARATOR = ":";
+	private static final String INDEX = "index:";
+	private static final String FIRST_INDEX = INDEX + "first:";
+	private static final String LAST_INDEX = INDEX + "last:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 캐시에 쓴 key 를 색인에 기록한다.
+	 *
+	 * @param cacheKey cacheName::key 형식의 redis key
+	 * @param ttl 캐시 수명
+	 */
+	public void add(String cacheKey, Duration ttl) {
+		int separator = cacheKey.indexOf(CACHE_KEY_SEPARATOR);
+		if (separator < 0 || ttl.isZero() || ttl.isNegative()) {
+			return;
+		}
+		String cacheName = cacheKey.substring(0, separator);
+		String key = cacheKey.substring(separator + CACHE_KEY_SEPARATOR.length());
+		if (key.startsWith(INDEX)) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		String[] parts = key.split(KEY_SEPARATOR);
+		for (String index : List.of(firstIndex(cacheName, parts[0]), lastIndex(cacheName, parts[parts.length - 1]))) {
+			stringRedisTemplate.opsForZSet().removeRangeByScore(index, Double.NEGATIVE_INFINITY, now);
+			stringRedisTemplate.opsForZSet().add(index, cacheKey, now + ttl.toMillis());
+			stringRedisTemplate.expire(index, ttl);
+		}
+	}
+
+	/**
+	 * key 의 첫 구간이 firstPart 인 캐시를 지운다.
+	 */
+	public void evictByFirstPart(String cacheName, String firstPart) {
+		evict(firstIndex(cacheName, firstPart), key -> true);
+	}
+
+	/**
+	 * key 의 첫 구간이 firstPart 이고 keyFilter 를 만족하는 캐시를 지운다.
+	 *
+	 * @param keyFilter cacheName::firstPart: 뒤의 key 를 받는다
+	 */
+	public void evictByFirstPart(String cacheName, String firstPart, Predicate<String> keyFilter) {
+		String prefix = cacheName + CACHE_KEY_SEPARATOR + firstPart + KEY_SEPARATOR;
+		evict(firstIndex(cacheName, firstPart),
+			key -> key.startsWith(prefix) && keyFilter.test(key.substring(prefix.length())));
+	}
+
+	/**
+	 * key 의 마지막 구간이 lastPart 인 캐시를 지운다.
+	 */
+	public void evictByLastPart(String cacheName, String lastPart) {
+		evict(lastIndex(cacheName, lastPart), key -> true);
+	}
+
+	private void evict(String index, Predicate<String> keyFilter) {
+		Set<String> cacheKeys = stringRedisTemplate.opsForZSet()
+			.rangeByScore(index, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+		if (Objects.isNull(cacheKeys) || cacheKeys.isEmpty()) {
+			return;
+		}
+		List<String> evicted = cacheKeys.stream().filter(keyFilter).collect(Collectors.toList());
+		if (!evicted.isEmpty()) {
+			stringRedisTemplate.delete(evicted);
+		}
+	}
+
+	private static String firstIndex(String cacheName, String firstPart) {
+		return cacheName + CACHE_KEY_SEPARATOR + FIRST_INDEX + firstPart;
+	}
+
+	private static String lastIndex(String cacheName, String lastPart) {
+		return cacheName + CACHE_KEY_SEPARATOR + LAST_INDEX + lastPart;
+	}
+}
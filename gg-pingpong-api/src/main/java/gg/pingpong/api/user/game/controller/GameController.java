@@ -30,7 +30,6 @@ import gg.pingpong.api.user.game.controller.response.GamePChangeResultResDto;
 import gg.pingpong.api.user.game.dto.GameTeamInfo;
 import gg.pingpong.api.user.game.service.GameFindService;
 import gg.pingpong.api.user.game.service.GameService;
-import gg.pingpong.api.user.rank.redis.RankRedisService;
 import gg.utils.exception.ErrorCode;
 import gg.utils.exception.custom.BusinessException;
 import gg.utils.exception.custom.InvalidParameterException;
@@ -44,7 +43,6 @@ import lombok.RequiredArgsConstructor;
 public class GameController {
 	private final GameService gameService;
 	private final GameFindService gameFindService;
-	private final RankRedisService rankRedisService;
 
 	/**
 	 * 전체 게임 목록 조회 API
@@ -104,7 +102,6 @@ public class GameController {
 		if (!gameService.createRankResult(reqDto, user.getId())) {
 			throw new ScoreNotMatchedException();
 		}
-		rankRedisService.updateAllTier(reqDto.getGameId());
 		return new ResponseEntity<>(HttpStatus.CREATED);
 	}
 
@@ -0,0 +1,75 @@
+package gg.pingpong.api.user.game.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.data.pingpong.game.type.Mode;
+import gg.pingpong.api.global.utils.CacheKeyIndex;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * gameCacheManager 의 게임 목록 캐시를 key 단위로 지운다.
+ * <p>
+ *     게임이 끝나면 전체 목록은 첫 페이지만, 유저별 목록은 경기한 유저의 key 만 지운다. <br/>
+ *     지울 key 는 CacheKeyIndex 의 첫 구간 색인에서 찾으므로, GameFindService 의 @Cacheable key 는 아래 형식을 따라야 한다. <br/>
+ *     - 전체 목록 : pageNumber:... <br/>
+ *     - 유저별 목록 : intraId:... <br/>
+ *     게임 상태가 BEFORE -> LIVE -> WAIT 로 바뀌면 진행중인 게임을 포함한 목록(status 가 LIVE 인 key)만
+ *     마지막 구간 색인에서 찾아 지운다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class GameCacheService {
+	private static final String FIRST_PAGE = "0";
+	private static final String LIVE_STATUS = "LIVE";
+
+	private final CacheKeyIndex cacheKeyIndex;
+
+	/**
+	 * 끝난 게임이 보이는 목록 캐시를 트랜잭션 커밋 후에 지운다.
+	 *
+	 * @param mode 끝난 게임의 모드 (RANK, NORMAL)
+	 * @param intraIds 게임에 참여한 유저의 intraId
+	 */
+	public void evictGameLists(Mode mode, Collection<String> intraIds) {
+		List<String> intraIdList = List.copyOf(intraIds);
+		afterCommit(() -> {
+			cacheKeyIndex.evictByFirstPart("allGameList", FIRST_PAGE);
+			cacheKeyIndex.evictByFirstPart(mode == Mode.RANK ? "rankGameList" : "normalGameList", FIRST_PAGE);
+			for (String intraId : intraIdList) {
+				cacheKeyIndex.evictByFirstPart("allGameListByUser", intraId);
+				cacheKeyIndex.evictByFirstPart(mode == Mode.RANK ? "rankGameListByIntra" : "normalGameListByIntra",
+					intraId);
+			}
+		});
+	}
+
+	/**
+	 * 진행중인 게임을 포함한 목록 캐시를 트랜잭션 커밋 후에 지운다.
+	 * 끝난 게임만 보여주는 목록은 상태가 END 로 바뀔 때 evictGameLists 로 지운다.
+	 */
+	public void evictLiveGameLists() {
+		afterCommit(() -> {
+			cacheKeyIndex.evictByLastPart("allGameList", LIVE_STATUS);
+			cacheKeyIndex.evictByLastPart("allGameListByUser", LIVE_STATUS);
+		});
+	}
+
+	private void afterCommit(Runnable eviction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eviction.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eviction.run();
+			}
+		});
+	}
+}
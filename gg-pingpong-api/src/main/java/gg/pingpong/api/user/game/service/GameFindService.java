@@ -16,15 +16,24 @@ import gg.data.pingpong.game.type.Mode;
 import gg.data.pingpong.game.type.StatusType;
 import gg.pingpong.api.user.game.controller.response.GameListResDto;
 import gg.pingpong.api.user.game.controller.response.GameResultResDto;
+import gg.repo.game.GameHistoryRepository;
 import gg.repo.game.GameRepository;
 import gg.repo.game.out.GameTeamUser;
 import gg.utils.exception.game.GameNotExistException;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 게임 목록 캐시 key 는 GameCacheService 가 지울 수 있도록
+ * 전체 목록은 pageNumber, 유저별 목록은 intraId 로 시작한다.
+ * <p>
+ *     유저별 끝난 게임 목록은 뷰 대신 game_history 에서 intraId 인덱스로 조회한다.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 public class GameFindService {
 	private final GameRepository gameRepository;
+	private final GameHistoryRepository gameHistoryRepository;
 
 	/**
 	 * 특정 User의 NORMAL 모드의 END 상태의 게임 목록 조회
@@ -33,11 +42,11 @@ public class GameFindService {
 	 * @return GameListResDto - games isLast
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable(value = "normalGameListByIntra", cacheManager = "gameCacheManager")
+	@Cacheable(value = "normalGameListByIntra", cacheManager = "gameCacheManager",
+		key = "#intra + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort")
 	public GameListResDto normalGameListByIntra(Pageable pageable, String intra) {
-		Slice<Long> games = gameRepository.findGamesByUserAndModeAndStatus(intra, Mode.NORMAL.name(),
-			StatusType.END.name(), pageable);
-		return new GameListResDto(getNormalGameResultList(games.getContent()), games.isLast());
+		Slice<Long> games = gameHistoryRepository.findGameIdsByIntraIdAndModeIn(intra, List.of(Mode.NORMAL), pageable);
+		return new GameListResDto(getHistoryResultList(games.getContent()), games.isLast());
 	}
 
 	/**
@@ -46,7 +55,8 @@ public class GameFindService {
 	 * @return
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable(value = "normalGameList", cacheManager = "gameCacheManager")
+	@Cacheable(value = "normalGameList", cacheManager = "gameCacheManager",
+		key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort")
 	public GameListResDto getNormalGameList(Pageable pageable) {
 		Slice<Game> games = gameRepository.findAllByModeAndStatus(Mode.NORMAL, StatusType.END, pageable);
 		return new GameListResDto(
@@ -62,11 +72,12 @@ public class GameFindService {
 	 * @return GameListResDto - games isLast
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable(value = "rankGameListByIntra", cacheManager = "gameCacheManager")
+	@Cacheable(value = "rankGameListByIntra", cacheManager = "gameCacheManager",
+		key = "#intra + ':' + #seasonId + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort")
 	public GameListResDto rankGameListByIntra(Pageable pageable, Long seasonId, String intra) {
-		Slice<Long> games = gameRepository.findGamesByUserAndModeAndSeason(intra, Mode.RANK.name(), seasonId,
-			StatusType.END.name(), pageable);
-		return new GameListResDto(getGameResultList(games.getContent()), games.isLast());
+		Slice<Long> games = gameHistoryRepository.findGameIdsByIntraIdAndSeasonIdAndMode(intra, seasonId, Mode.RANK,
+			pageable);
+		return new GameListResDto(getHistoryResultList(games.getContent()), games.isLast());
 	}
 
 	/**
@@ -76,7 +87,8 @@ public class GameFindService {
 	 * @return GameListResDto - games isLast
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable(value = "rankGameList", cacheManager = "gameCacheManager")
+	@Cacheable(value = "rankGameList", cacheManager = "gameCacheManager",
+		key = "#pageable.pageNumber + ':' + #seasonId + ':' + #pageable.pageSize + ':' + #pageable.sort")
 	public GameListResDto rankGameList(Pageable pageable, Long seasonId) {
 		Slice<Game> games = gameRepository.findAllByModeAndStatusAndSeasonId(Mode.RANK, StatusType.END, seasonId,
 			pageable);
@@ -98,7 +110,7 @@ public class GameFindService {
 	@Transactional(readOnly = true)
 	@Cacheable(value = "allGameList",
 		cacheManager = "gameCacheManager",
-		key = "#pageable.pageNumber + #pageable.pageSize + #pageable.sort.toString() + #status")
+		key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort + ':' + #status")
 	public GameListResDto allGameList(Pageable pageable, String status) {
 		Slice<Game> games;
 		if (status != null && status.equals("LIVE")) {
@@ -123,13 +135,14 @@ public class GameFindService {
 	 */
 	@Transactional(readOnly = true)
 	@Cacheable(value = "allGameListByUser", cacheManager = "gameCacheManager",
-		key = "#pageable.pageNumber + #pageable.pageSize + #pageable.sort.toString() + #status + #intra")
+		key = "#intra + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort + ':' + #status")
 	public GameListResDto allGameListUser(Pageable pageable, String intra, String status) {
-		List<String> statusTypes = new ArrayList<>(List.of(StatusType.END.name()));
-		if (status != null && status.equals("LIVE")) {
-			statusTypes.add(StatusType.LIVE.name());
-			statusTypes.add(StatusType.WAIT.name());
+		if (status == null || !status.equals("LIVE")) {
+			Slice<Long> games = gameHistoryRepository.findGameIdsByIntraIdAndModeIn(intra,
+				Arrays.asList(Mode.RANK, Mode.NORMAL), pageable);
+			return new GameListResDto(getHistoryResultList(games.getContent()), games.isLast());
 		}
+		List<String> statusTypes = List.of(StatusType.END.name(), StatusType.LIVE.name(), StatusType.WAIT.name());
 		Slice<Long> games = gameRepository.findGamesByUserAndModeInAndStatusIn(intra,
 			Arrays.asList(Mode.RANK.name(), Mode.NORMAL.name()), statusTypes, pageable);
 		return new GameListResDto(getGameResultList(games.getContent()), games.isLast());
@@ -153,6 +166,14 @@ public class GameFindService {
 		return teamViews.stream().map(GameResultResDto::new).collect(Collectors.toList());
 	}
 
+	private List<GameResultResDto> getHistoryResultList(List<Long> games) {
+		if (games.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<GameTeamUser> teamViews = gameHistoryRepository.findTeamsByGameIdIn(games);
+		return teamViews.stream().map(GameResultResDto::new).collect(Collectors.toList());
+	}
+
 	private List<GameResultResDto> getNormalGameResultList(List<Long> games) {
 		List<GameTeamUser> teamViews = gameRepository.findTeamsByGameIsInAndNormalMode(games);
 		return teamViews.stream().map(GameResultResDto::new).collect(Collectors.toList());
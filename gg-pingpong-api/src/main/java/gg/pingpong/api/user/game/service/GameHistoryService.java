@@ -0,0 +1,73 @@
+package gg.pingpong.api.user.game.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.GameHistory;
+import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
+import gg.repo.game.GameHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 끝난 게임 목록 조회용 game_history 를 관리한다.
+ * <p>
+ *     RANK, NORMAL 게임이 END 가 될 때 record 로 두 유저의 기록을 만든다. <br/>
+ *     관리자가 점수를 수정하면 record 를 다시 호출해 점수를 덮어쓴다. 토너먼트 게임은 목록에서 조회하지 않으므로 기록하지 않는다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameHistoryService {
+	private static final Set<Mode> RECORDED_MODES = Set.of(Mode.RANK, Mode.NORMAL);
+
+	private final GameHistoryRepository gameHistoryRepository;
+
+	/**
+	 * 게임에 참여한 두 유저의 기록을 저장한다. 이미 기록이 있으면 점수만 갱신한다.
+	 * RANK, NORMAL 이 아닌 게임은 저장하지 않는다.
+	 *
+	 * @param game 결과가 입력된 게임
+	 * @param teamUsers 게임에 참여한 두 유저
+	 */
+	@Transactional
+	public void record(Game game, List<TeamUser> teamUsers) {
+		if (!RECORDED_MODES.contains(game.getMode()) || teamUsers.size() != 2) {
+			return;
+		}
+		Map<Long, GameHistory> histories = gameHistoryRepository.findAllByGameId(game.getId()).stream()
+			.collect(Collectors.toMap(GameHistory::getUserId, Function.identity()));
+		save(game, teamUsers.get(0), teamUsers.get(1), histories);
+		save(game, teamUsers.get(1), teamUsers.get(0), histories);
+	}
+
+	/**
+	 * 기록이 없는 끝난 RANK, NORMAL 게임의 기록을 만든다.
+	 * 배포 중 이전 버전 서버가 입력한 결과처럼 record 를 거치지 않은 게임을 채운다.
+	 */
+	@Transactional
+	public void backfill() {
+		int inserted = gameHistoryRepository.insertMissingEndGames();
+		if (inserted > 0) {
+			log.info("game history backfilled: {} rows", inserted);
+		}
+	}
+
+	private void save(Game game, TeamUser teamUser, TeamUser enemyTeamUser, Map<Long, GameHistory> histories) {
+		GameHistory history = histories.get(teamUser.getUser().getId());
+		if (history == null) {
+			gameHistoryRepository.save(new GameHistory(game, teamUser, enemyTeamUser));
+			return;
+		}
+		history.updateScore(teamUser.getTeam(), enemyTeamUser.getTeam());
+	}
+}
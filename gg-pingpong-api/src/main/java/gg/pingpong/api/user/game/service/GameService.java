@@ -2,15 +2,17 @@ package gg.pingpong.api.user.game.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import gg.data.pingpong.game.Game;
 import gg.data.pingpong.game.PChange;
 import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
 import gg.data.pingpong.game.type.StatusType;
 import gg.data.pingpong.match.type.TournamentMatchStatus;
 import gg.data.pingpong.season.Season;
@@ -26,13 +28,14 @@ import gg.pingpong.api.user.game.controller.response.GamePPPChangeResultResDto;
 import gg.pingpong.api.user.game.dto.GameTeamInfo;
 import gg.pingpong.api.user.match.service.MatchTournamentService;
 import gg.pingpong.api.user.rank.redis.RankRedisService;
-import gg.pingpong.api.user.rank.service.TierService;
+import gg.pingpong.api.user.rank.service.RankSnapshotService;
 import gg.pingpong.api.user.store.dto.UserGameCoinResultDto;
 import gg.pingpong.api.user.store.service.UserCoinChangeService;
 import gg.repo.game.GameRepository;
 import gg.repo.game.PChangeRepository;
 import gg.repo.game.TeamUserRepository;
 import gg.repo.game.out.GameTeamUserInfo;
+import gg.repo.game.out.UserGameCount;
 import gg.repo.tournarment.TournamentGameRepository;
 import gg.utils.exception.ErrorCode;
 import gg.utils.exception.custom.InvalidParameterException;
@@ -54,9 +57,11 @@ public class GameService {
 	private final PChangeRepository pChangeRepository;
 	private final GameFindService gameFindService;
 	private final UserCoinChangeService userCoinChangeService;
-	private final TierService tierService;
 	private final TournamentGameRepository tournamentGameRepository;
 	private final MatchTournamentService matchTournamentService;
+	private final RankSnapshotService rankSnapshotService;
+	private final GameCacheService gameCacheService;
+	private final GameHistoryService gameHistoryService;
 
 	/**
 	 * 게임 정보를 가져온다.
@@ -81,14 +86,7 @@ public class GameService {
 	 * @return Boolean 입력 성공 여부
 	 */
 	@Transactional
-	@Caching(evict = {
-		@CacheEvict(value = "rankGameListByIntra", allEntries = true),
-		@CacheEvict(value = "rankGameList", allEntries = true),
-		@CacheEvict(value = "allGameList", allEntries = true),
-		@CacheEvict(value = "allGameListByUser", allEntries = true),
-		@CacheEvict(value = "ranking", allEntries = true),
-		@CacheEvict(value = "expRanking", allEntries = true)
-	})
+	@CacheEvict(value = "expRanking", allEntries = true)
 	public Boolean createRankResult(RankResultReqDto scoreDto, Long userId) {
 		// 현재 게임 id
 		Game game = gameFindService.findGameWithPessimisticLockById(scoreDto.getGameId());
@@ -128,14 +126,7 @@ public class GameService {
 	 * @throws PChangeNotExistException pchange 정보가 없을 때
 	 */
 	@Transactional
-	@Caching(evict = {
-		@CacheEvict(value = "normalGameListByIntra", allEntries = true),
-		@CacheEvict(value = "normalGameList", allEntries = true),
-		@CacheEvict(value = "allGameList", allEntries = true),
-		@CacheEvict(value = "allGameListByUser", allEntries = true),
-		@CacheEvict(value = "ranking", allEntries = true),
-		@CacheEvict(value = "expRanking", allEntries = true)
-	})
+	@CacheEvict(value = "expRanking", allEntries = true)
 	public Boolean normalExpResult(NormalResultReqDto normalResultReqDto, Long loginUserId) {
 		Game game = gameFindService.findGameWithPessimisticLockById(normalResultReqDto.getGameId());
 		List<TeamUser> teamUsers = teamUserRepository.findAllByGameId(game.getId());
@@ -143,6 +134,7 @@ public class GameService {
 			&& (game.getStatus() == StatusType.WAIT || game.getStatus() == StatusType.LIVE)) {
 			expUpdates(game, teamUsers);
 			savePChange(game, teamUsers, loginUserId);
+			gameCacheService.evictGameLists(Mode.NORMAL, getIntraIds(teamUsers));
 			return true;
 		} else if (teamUsers.size() == 2 && game.getStatus() == StatusType.END) {
 			updatePchangeIsChecked(game, loginUserId);
@@ -193,15 +185,16 @@ public class GameService {
 	}
 
 	public void expUpdates(Game game, List<TeamUser> teamUsers) {
-		LocalDateTime time = getToday(game.getStartTime());
+		Map<Long, Integer> gamePerDays = countTodayGames(game.getStartTime(), teamUsers);
 		for (TeamUser tu :
 			teamUsers) {
-			expUpdate(tu, time);
+			expUpdate(tu, gamePerDays.getOrDefault(tu.getUser().getId(), 0));
 		}
 		if (game.getStatus() == StatusType.LIVE) {
 			game.updateStatus();
 		}
 		game.updateStatus();
+		gameHistoryService.record(game, teamUsers);
 	}
 
 	/**
@@ -229,13 +222,28 @@ public class GameService {
 			rankRedisService.getUserPpp(team1UserId, game.getSeason().getId()), team1UserId.equals(loginUserId));
 		pChangeService.addPChange(game, teamUsers.get(1).getUser(),
 			rankRedisService.getUserPpp(team2UserId, game.getSeason().getId()), team2UserId.equals(loginUserId));
+		rankSnapshotService.refreshUserRanks(game.getSeason(), List.of(team1UserId, team2UserId));
 	}
 
-	private void expUpdate(TeamUser teamUser, LocalDateTime time) {
-		Integer gamePerDay = teamUserRepository.findByDateAndUser(time, teamUser.getUser().getId());
+	/**
+	 * 게임에 참여한 유저들의 오늘 끝난 게임 수를 한 번에 조회한다.
+	 * 게임 lock 을 잡고 있는 동안 유저마다 조회하지 않도록 한 쿼리로 묶는다.
+	 * @return userId -> 오늘 끝난 게임 수, 끝난 게임이 없는 유저는 없음
+	 */
+	private Map<Long, Integer> countTodayGames(LocalDateTime gameTime, List<TeamUser> teamUsers) {
+		List<Long> userIds = teamUsers.stream().map(tu -> tu.getUser().getId()).collect(Collectors.toList());
+		return teamUserRepository.countGamesByDateAndUserIds(getToday(gameTime), userIds).stream()
+			.collect(Collectors.toMap(UserGameCount::getUserId, count -> count.getGameCount().intValue()));
+	}
+
+	private void expUpdate(TeamUser teamUser, int gamePerDay) {
 		teamUser.getUser().addExp(ExpLevelCalculator.getExpPerGame() + (ExpLevelCalculator.getExpBonus() * gamePerDay));
 	}
 
+	private static List<String> getIntraIds(List<TeamUser> teamUsers) {
+		return teamUsers.stream().map(teamUser -> teamUser.getUser().getIntraId()).collect(Collectors.toList());
+	}
+
 	private static LocalDateTime getToday(LocalDateTime gameTime) {
 		return LocalDateTime.of(gameTime.getYear(), gameTime.getMonthValue(), gameTime.getDayOfMonth(), 0, 0);
 	}
@@ -276,7 +284,9 @@ public class GameService {
 				scoreDto.getMyTeamScore() < scoreDto.getEnemyTeamScore());
 			expUpdates(game, teams);
 			rankRedisService.updateRankRedis(myTeam, enemyTeam, game);
-			tierService.updateAllTier(game.getSeason());
+			rankSnapshotService.refreshUserRanks(game.getSeason(),
+				List.of(myTeam.getUser().getId(), enemyTeam.getUser().getId()));
+			gameCacheService.evictGameLists(Mode.RANK, getIntraIds(teams));
 		} else {
 			// score 가 이미 입력됨
 			return false;
@@ -1,16 +1,16 @@
 package gg.pingpong.api.user.game.service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import gg.data.noti.Noti;
 import gg.data.noti.type.NotiType;
-import gg.data.pingpong.game.Game;
 import gg.data.pingpong.game.type.StatusType;
 import gg.data.pingpong.manage.SlotManagement;
 import gg.pingpong.api.user.noti.dto.UserNotiDto;
@@ -35,59 +35,84 @@ public class GameStatusService {
 	private final NotiService notiService;
 	private final UserService userService;
 	private final SlotManagementRepository slotManagementRepository;
+	private final GameCacheService gameCacheService;
 
 	/**
 	 * <p>game before 중에 현재 시작 시간인 경우 LIVE로 update</p>
 	 */
 	@Transactional
-	@Caching(evict = {
-		@CacheEvict(value = "allGameList", allEntries = true),
-	})
 	public void updateBeforeToLiveStatus() {
-		List<Game> game = gameRepository.findAllByStatusAndStartTimeLessThanEqual(StatusType.BEFORE, getTime(0));
-		if (!game.isEmpty()) {
-			cacheDelete();
-		}
-		for (Game g : game) {
-			g.updateStatus();
+		List<Long> gameIds = gameRepository.findIdsByStatusAndStartTimeLessThanEqual(StatusType.BEFORE, getTime(0));
+		if (gameIds.isEmpty()) {
+			return;
 		}
+		gameRepository.updateStatusByIds(gameIds, StatusType.BEFORE, StatusType.LIVE);
+		cacheDelete();
 	}
 
+	/**
+	 * <p>진행중인 게임이 보이는 게임 목록 캐시만 지운다.</p>
+	 */
 	void cacheDelete() {
+		gameCacheService.evictLiveGameLists();
 	}
 
 	/**
 	 * <p>game live 중에 종료 시간인 경우 wait 로 update</p>
 	 */
 	@Transactional
-	@Caching(evict = {
-		@CacheEvict(value = "allGameList", allEntries = true),
-	})
 	public void updateLiveToWaitStatus() {
-		LocalDateTime endTime = getTime(1);
-		List<Game> game = gameRepository.findAllByStatusAndEndTimeLessThanEqual(StatusType.LIVE, endTime);
-		if (!game.isEmpty()) {
-			cacheDelete();
-		}
-		for (Game g : game) {
-			g.updateStatus();
+		List<Long> gameIds = gameRepository.findIdsByStatusAndEndTimeLessThanEqual(StatusType.LIVE, getTime(1));
+		if (gameIds.isEmpty()) {
+			return;
 		}
+		gameRepository.updateStatusByIds(gameIds, StatusType.LIVE, StatusType.WAIT);
+		cacheDelete();
+	}
+
+	/**
+	 * <p>다음으로 게임 상태를 바꿔야 하는 시간</p>
+	 * BEFORE 게임은 시작 시간에, LIVE 게임은 종료 1분 전에 바뀐다.
+	 * @return 바꿀 게임이 없으면 empty, 이미 지난 게임이 있으면 지난 시간
+	 */
+	@Transactional(readOnly = true)
+	public Optional<LocalDateTime> findNextStatusChangeTime() {
+		Optional<LocalDateTime> beforeToLive = gameRepository.findFirstStartTimeByStatus(StatusType.BEFORE);
+		Optional<LocalDateTime> liveToWait = gameRepository.findFirstEndTimeByStatus(StatusType.LIVE)
+			.map(endTime -> endTime.minusMinutes(1));
+		return Stream.of(beforeToLive, liveToWait)
+			.flatMap(Optional::stream)
+			.min(Comparator.naturalOrder());
+	}
+
+	/**
+	 * <p>아직 지나지 않은 다음 알림 시간 (가장 먼저 시작하는 게임의 시작 openMinute 분 전)</p>
+	 * @return 알림을 보낼 게임이나 슬롯 정책이 없으면 empty
+	 */
+	@Transactional(readOnly = true)
+	public Optional<LocalDateTime> findNextImminentNotiTime() {
+		LocalDateTime now = LocalDateTime.now();
+		return slotManagementRepository.findCurrent(now)
+			.flatMap(slotManagement -> gameRepository.findFirstStartTimeByStatusAfter(StatusType.BEFORE,
+					now.plusMinutes(slotManagement.getOpenMinute()))
+				.map(startTime -> startTime.minusMinutes(slotManagement.getOpenMinute())));
 	}
 
 	/**
-	 * <p>게임이 제대로 성사되었다면 알림을 보낸다.</p>
+	 * <p>notiTime 으로부터 openMinute 분 뒤에 시작하는 게임이 제대로 성사되었다면 알림을 보낸다.</p>
+	 * @param notiTime findNextImminentNotiTime 으로 구한 알림 시간
 	 */
 	@Transactional
-	public void imminentGame() {
+	public void imminentGame(LocalDateTime notiTime) {
 		SlotManagement slotManagement = slotManagementRepository.findCurrent(LocalDateTime.now())
 			.orElseThrow(SlotNotFoundException::new);
-		List<GameUser> games = gameRepository.findAllByStartTimeLessThanEqual(getTime(slotManagement.getOpenMinute()));
+		LocalDateTime startTime = notiTime.plusMinutes(slotManagement.getOpenMinute());
+		List<GameUser> games = gameRepository.findAllByStartTime(startTime);
 		if (games.size() > 2 || games.size() == 1) {
-			log.error("imminent game size is not 2 -> size: " + games.size() + ", check time: " + getTime(
-				slotManagement.getOpenMinute()));
+			log.error("imminent game size is not 2 -> size: " + games.size() + ", start time: " + startTime);
 			throw new GameDataConsistencyException();
 		} else if (games.isEmpty()) {
-			log.info("시작 " + slotManagement.getOpenMinute() + "분 전인 게임이 존재하지 않습니다.");
+			log.info(startTime + " 에 시작하는 게임이 존재하지 않습니다.");
 			return;
 		} else {
 			notiProcess(games.get(0), games.get(1).getIntraId(), slotManagement.getOpenMinute());
@@ -8,6 +8,7 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import gg.admin.repo.manage.PenaltyUserIndexRedisRepository;
 import gg.data.manage.redis.RedisPenaltyUser;
 import gg.data.manage.type.PenaltyKey;
 import lombok.RequiredArgsConstructor;
@@ -16,12 +17,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PenaltyUserRedisRepository {
 	private final RedisTemplate<String, RedisPenaltyUser> redisTemplate;
+	private final PenaltyUserIndexRedisRepository penaltyUserIndexRedisRepository;
 
 	public void addPenaltyUser(RedisPenaltyUser penaltyUser, LocalDateTime releaseTime) {
 		LocalDateTime now = LocalDateTime.now();
 		Duration duration = Duration.between(now, releaseTime);
 		redisTemplate.opsForValue().set(PenaltyKey.USER_ADMIN + penaltyUser.getIntraId(), penaltyUser,
 			duration.getSeconds(), TimeUnit.SECONDS);
+		penaltyUserIndexRedisRepository.add(penaltyUser.getIntraId(), releaseTime);
 	}
 
 	public Optional<RedisPenaltyUser> findByIntraId(String intraId) {
@@ -12,6 +12,7 @@ import gg.data.pingpong.game.Team;
 import gg.data.pingpong.game.TeamUser;
 import gg.data.pingpong.manage.SlotManagement;
 import gg.data.user.User;
+import gg.pingpong.api.global.scheduler.GameStatusTimer;
 import gg.pingpong.api.user.match.dto.GameAddDto;
 import gg.pingpong.api.user.noti.service.NotiService;
 import gg.pingpong.api.user.noti.service.SnsNotiService;
@@ -34,6 +35,7 @@ public class GameUpdateService {
 	private final SlotManagementRepository slotManagementRepository;
 	private final NotiService notiService;
 	private final SnsNotiService snsNotiService;
+	private final GameStatusTimer gameStatusTimer;
 
 	/**
 	 * 게임 생성 메서드
@@ -47,6 +49,7 @@ public class GameUpdateService {
 		Game game = new Game(addDto.getSeason(), addDto.getMode(), addDto.getStartTime(),
 			slotManagement.getGameInterval());
 		gameRepository.save(game);
+		gameStatusTimer.wakeUp();
 		Team enemyTeam = new Team(game, -1, false);
 		Team myTeam = new Team(game, -1, false);
 		List<Team> matchPair = List.of(enemyTeam, myTeam);
@@ -73,9 +76,11 @@ public class GameUpdateService {
 			snsNotiService.sendSnsNotification(noti, UserDto.from(enemy));
 		});
 		gameRepository.delete(game);
+		gameStatusTimer.wakeUp();
 	}
 
 	public void delete(Game game) {
 		gameRepository.delete(game);
+		gameStatusTimer.wakeUp();
 	}
 }
@@ -15,7 +15,6 @@ import gg.data.pingpong.game.Game;
 import gg.data.pingpong.game.type.StatusType;
 import gg.data.pingpong.manage.SlotManagement;
 import gg.data.pingpong.match.RedisMatchTime;
-import gg.data.pingpong.match.RedisMatchUser;
 import gg.data.pingpong.match.type.Option;
 import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.rank.redis.RankRedis;
@@ -25,11 +24,11 @@ import gg.data.user.type.RoleType;
 import gg.pingpong.api.user.match.controller.response.MatchStatusResponseListDto;
 import gg.pingpong.api.user.match.controller.response.SlotStatusResponseListDto;
 import gg.pingpong.api.user.match.dto.MatchStatusDto;
+import gg.pingpong.api.user.match.service.SlotBoardCache.SlotBoard;
 import gg.pingpong.api.user.match.utils.SlotGenerator;
 import gg.pingpong.api.user.season.service.SeasonFindService;
 import gg.repo.game.GameRepository;
 import gg.repo.manage.SlotManagementRepository;
-import gg.repo.match.RedisMatchTimeRepository;
 import gg.repo.match.RedisMatchUserRepository;
 import gg.repo.rank.TierRepository;
 import gg.repo.rank.redis.RankRedisRepository;
@@ -48,8 +47,8 @@ public class MatchFindService {
 	private final RedisMatchUserRepository redisMatchUserRepository;
 	private final SeasonFindService seasonFindService;
 	private final RankRedisRepository rankRedisRepository;
-	private final RedisMatchTimeRepository redisMatchTimeRepository;
 	private final TierRepository tierRepository;
+	private final SlotBoardCache slotBoardCache;
 
 	@Transactional(readOnly = true)
 	public MatchStatusResponseListDto getCurrentMatch(UserDto userDto) {
@@ -85,50 +84,34 @@ public class MatchFindService {
 				.findRankByUserId(RedisKeyManager.getHashKey(season.getId()), userDto.getId());
 		}
 		SlotGenerator slotGenerator = new SlotGenerator(user, slotManagement, season, option);
-		List<Game> games = gameRepository.findAllBetween(slotGenerator.getNow(), slotGenerator.getMaxTime());
+		SlotBoard slotBoard = slotBoardCache.get(slotGenerator.getNow(), slotGenerator.getMaxTime());
 		slotGenerator.addPastSlots();
-		slotGenerator.addMatchedSlots(games);
+		slotGenerator.addMatchedSlots(slotBoard.getGameTimes());
 
 		Optional<Game> myGame = gameRepository.findByStatusTypeAndUserId(StatusType.BEFORE, userDto.getId());
-		Set<LocalDateTime> gameTimes = games.stream().map(Game::getStartTime).collect(Collectors.toSet());
+		Set<LocalDateTime> myTimes;
 		if (myGame.isPresent()) {
-			groupEnrolledSlots(slotGenerator, myGame.get(), gameTimes);
+			slotGenerator.addMySlots(myGame.get());
+			myTimes = Set.of(myGame.get().getStartTime());
 		} else {
-			groupEnrolledSlots(slotGenerator, gameTimes);
+			Set<RedisMatchTime> allMatchTime = redisMatchUserRepository.getAllMatchTime(
+				slotGenerator.getMatchUser().getUserId());
+			slotGenerator.addMySlots(allMatchTime);
+			myTimes = allMatchTime.stream().map(RedisMatchTime::getStartTime).collect(Collectors.toSet());
 		}
+		groupEnrolledSlots(slotGenerator, slotBoard, myTimes);
 		return slotGenerator.getResponseListDto();
 	}
 
-	private void groupEnrolledSlots(SlotGenerator slotGenerator, Game myGame, Set<LocalDateTime> gameTimes) {
-		Set<LocalDateTime> enrolledTimes = redisMatchTimeRepository.getAllEnrolledStartTimes();
-		slotGenerator.addMySlots(myGame);
-		Set<LocalDateTime> notMyEnrolledTimes = enrolledTimes.stream()
-			.filter(e -> !e.equals(myGame.getStartTime()) && !gameTimes.contains(e))
-			.collect(Collectors.toSet());
-		notMyEnrolledTimes.stream()
-			.forEach(
-				time -> {
-					List<RedisMatchUser> allMatchUsers = redisMatchTimeRepository.getAllMatchUsers(time);
-					slotGenerator.groupEnrolledSlot(time, allMatchUsers);
-				}
-			);
-	}
-
-	private void groupEnrolledSlots(SlotGenerator slotGenerator, Set<LocalDateTime> gameTimes) {
-		Set<LocalDateTime> enrolledTimes = redisMatchTimeRepository.getAllEnrolledStartTimes();
-		Set<RedisMatchTime> allMatchTime = redisMatchUserRepository.getAllMatchTime(
-			slotGenerator.getMatchUser().getUserId());
-		slotGenerator.addMySlots(allMatchTime);
-		Set<LocalDateTime> times = allMatchTime.stream().map(RedisMatchTime::getStartTime)
-			.collect(Collectors.toSet());
-		Set<LocalDateTime> notMyEnrolledTimes = enrolledTimes.stream()
-			.filter(e -> !times.contains(e) && !gameTimes.contains(e))
-			.collect(Collectors.toSet());
-		notMyEnrolledTimes.stream().forEach(
-			time -> {
-				List<RedisMatchUser> allMatchUsers = redisMatchTimeRepository.getAllMatchUsers(time);
-				slotGenerator.groupEnrolledSlot(time, allMatchUsers);
+	/**
+	 * 내 슬롯과 게임이 잡힌 슬롯을 뺀, 아직 지나지 않은 슬롯의 매칭 가능 상태를 정한다.
+	 */
+	private void groupEnrolledSlots(SlotGenerator slotGenerator, SlotBoard slotBoard, Set<LocalDateTime> myTimes) {
+		slotBoard.getMatchUsers().forEach((time, matchUsers) -> {
+			if (!myTimes.contains(time) && !slotBoard.getGameTimes().contains(time)
+				&& !time.isBefore(slotGenerator.getNow())) {
+				slotGenerator.groupEnrolledSlot(time, matchUsers);
 			}
-		);
+		});
 	}
 }
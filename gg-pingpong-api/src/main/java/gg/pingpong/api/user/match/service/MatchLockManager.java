@@ -0,0 +1,161 @@
+package gg.pingpong.api.user.match.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import gg.utils.exception.match.SlotBusyException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매칭 요청을 슬롯(startTime), 유저 단위로 직렬화하는 lock.
+ * <p>
+ *     같은 서버 안에서는 lock 이름마다 ReentrantLock 을 두고 기다린다. 기다리거나 잡고 있는 요청이 없으면 지운다. <br/>
+ *     서버 간에는 Redis SET NX PX 로 lock 을 잡는다. 해제는 자신이 잡은 lock 만 지우도록 Lua 로 처리한다. <br/>
+ *     여러 lock 은 이름 순서대로 잡아서 교착 상태가 생기지 않게 한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchLockManager {
+	private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+	private static final long WAIT_MILLIS = 3_000L;
+	private static final long RETRY_MILLIS = 10L;
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+		Long.class);
+
+	private final Map<String, LocalLock> localLocks = new ConcurrentHashMap<>();
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 주어진 lock 을 모두 잡을 때까지 기다린다.
+	 *
+	 * @param names lock 이름 (MatchKey.getTimeLock, MatchKey.getUserLock)
+	 * @return try-with-resources 로 닫아야 하는 lock
+	 * @throws SlotBusyException WAIT_MILLIS 안에 lock 을 잡지 못한 경우
+	 */
+	public MatchLock lock(String... names) {
+		MatchLock matchLock = new MatchLock(System.currentTimeMillis() + WAIT_MILLIS);
+		List<String> sortedNames = Arrays.stream(names).distinct().sorted()
+			.collect(Collectors.toList());
+		try {
+			for (String name : sortedNames) {
+				if (!matchLock.acquire(name, matchLock.deadline)) {
+					throw new SlotBusyException();
+				}
+			}
+		} catch (RuntimeException e) {
+			matchLock.close();
+			throw e;
+		}
+		return matchLock;
+	}
+
+	private LocalLock retain(String name) {
+		return localLocks.compute(name, (key, local) -> {
+			LocalLock retained = local == null ? new LocalLock() : local;
+			retained.references++;
+			return retained;
+		});
+	}
+
+	private void release(String name) {
+		localLocks.computeIfPresent(name, (key, local) -> --local.references == 0 ? null : local);
+	}
+
+	/**
+	 * 이름 하나의 서버 내 lock. references 는 localLocks.compute 안에서만 바꾼다.
+	 */
+	private static class LocalLock extends ReentrantLock {
+		private int references;
+	}
+
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public class MatchLock implements AutoCloseable {
+		private final String token = UUID.randomUUID().toString();
+		private final Deque<String> acquired = new ArrayDeque<>();
+		private final long deadline;
+
+		/**
+		 * 기다리지 않고 lock 을 잡는다. 이미 다른 요청이 잡고 있으면 false.
+		 */
+		public boolean tryLock(String name) {
+			if (acquired.contains(name)) {
+				return true;
+			}
+			return acquire(name, System.currentTimeMillis());
+		}
+
+		/**
+		 * lock 을 잡을 때 정한 대기 시간이 끝날 때까지 기다리며 lock 을 잡는다. 끝까지 못 잡으면 false.
+		 * <p>
+		 *     매칭 상대처럼 이름 순서를 지킬 수 없는 lock 에 사용한다. <br/>
+		 *     서로의 lock 을 기다리는 요청은 대기 시간이 끝나면 false 를 받으므로 교착 상태로 남지 않는다.
+		 * </p>
+		 */
+		public boolean tryLockUntilDeadline(String name) {
+			if (acquired.contains(name)) {
+				return true;
+			}
+			return acquire(name, deadline);
+		}
+
+		private boolean acquire(String name, long deadline) {
+			LocalLock local = retain(name);
+			boolean locked = false;
+			try {
+				locked = local.tryLock(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+				while (locked && !Boolean.TRUE.equals(
+					stringRedisTemplate.opsForValue().setIfAbsent(name, token, LOCK_TTL))) {
+					if (System.currentTimeMillis() >= deadline) {
+						local.unlock();
+						locked = false;
+						break;
+					}
+					Thread.sleep(RETRY_MILLIS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if (locked) {
+					local.unlock();
+				}
+				release(name);
+				throw new SlotBusyException();
+			}
+			if (locked) {
+				acquired.push(name);
+			} else {
+				release(name);
+			}
+			return locked;
+		}
+
+		@Override
+		public void close() {
+			while (!acquired.isEmpty()) {
+				String name = acquired.pop();
+				try {
+					stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(name), token);
+				} finally {
+					localLocks.get(name).unlock();
+					release(name);
+				}
+			}
+		}
+	}
+}
@@ -1,13 +1,14 @@
 package gg.pingpong.api.user.match.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import gg.auth.UserDto;
 import gg.data.pingpong.game.Game;
@@ -15,6 +16,7 @@ import gg.data.pingpong.game.type.Mode;
 import gg.data.pingpong.game.type.StatusType;
 import gg.data.pingpong.match.RedisMatchTime;
 import gg.data.pingpong.match.RedisMatchUser;
+import gg.data.pingpong.match.type.MatchKey;
 import gg.data.pingpong.match.type.Option;
 import gg.data.pingpong.rank.redis.RankRedis;
 import gg.data.pingpong.season.Season;
@@ -23,6 +25,7 @@ import gg.data.pingpong.tournament.type.TournamentStatus;
 import gg.data.user.User;
 import gg.pingpong.api.user.manage.service.PenaltyService;
 import gg.pingpong.api.user.match.dto.GameAddDto;
+import gg.pingpong.api.user.match.service.MatchLockManager.MatchLock;
 import gg.pingpong.api.user.match.utils.MatchCalculator;
 import gg.pingpong.api.user.season.service.SeasonFindService;
 import gg.repo.game.GameRepository;
@@ -57,13 +60,27 @@ public class MatchService {
 	private final UserRepository userRepository;
 	private final TournamentRepository tournamentRepository;
 	private final SlotManagementRepository slotManagementRepository;
+	private final MatchLockManager matchLockManager;
+	private final TransactionTemplate transactionTemplate;
+	private final SlotBoardCache slotBoardCache;
 
 	/**
 	 * 1) 매칭 가능한 유저 있을 경우 : 게임 생성
 	 * 2) 매칭 가능한 유저 없을 경우 : 유저를 큐에 넣어줌
+	 * <p>
+	 *     해당 슬롯과 요청한 유저의 lock 을 잡고, 트랜잭션이 커밋된 뒤에 lock 을 푼다. <br/>
+	 *     다른 슬롯의 매칭 요청은 기다리지 않는다. 커밋 후에는 슬롯 화면 캐시를 지운다.
+	 * </p>
 	 */
-	@Transactional
-	public synchronized void makeMatch(UserDto userDto, Option option, LocalDateTime startTime) {
+	public void makeMatch(UserDto userDto, Option option, LocalDateTime startTime) {
+		try (MatchLock lock = matchLockManager.lock(MatchKey.getTimeLock(startTime),
+			MatchKey.getUserLock(userDto.getId()))) {
+			transactionTemplate.executeWithoutResult(status -> makeMatch(lock, userDto, option, startTime));
+		}
+		slotBoardCache.evict();
+	}
+
+	private void makeMatch(MatchLock lock, UserDto userDto, Option option, LocalDateTime startTime) {
 		checkValid(userDto, startTime);
 		Season season = seasonFindService.findCurrentSeason(startTime);
 		RankRedis rank = rankRedisRepository
@@ -71,7 +88,7 @@ public class MatchService {
 		RedisMatchUser player = new RedisMatchUser(userDto.getId(), rank.getPpp(), option);
 		List<RedisMatchUser> allMatchUsers = redisMatchTimeRepository.getAllMatchUsers(startTime);
 		MatchCalculator matchCalculator = new MatchCalculator(season.getPppGap(), player);
-		Optional<RedisMatchUser> enemy = matchCalculator.findEnemy(allMatchUsers);
+		Optional<RedisMatchUser> enemy = findLockedEnemy(lock, matchCalculator, allMatchUsers);
 		if (enemy.isPresent()) {
 			GameAddDto gameDto = new GameAddDto(startTime, season, player, enemy.get());
 			gameUpdateService.make(gameDto, -1L);
@@ -88,8 +105,15 @@ public class MatchService {
 	 * 2) 매칭 전 : 큐에서 유저 삭제
 	 * game 매칭된 user 이외에 다른 user가 취소할 경우, 에러 발생
 	 */
-	@Transactional
-	public synchronized void cancelMatch(UserDto userDto, LocalDateTime startTime) {
+	public void cancelMatch(UserDto userDto, LocalDateTime startTime) {
+		try (MatchLock lock = matchLockManager.lock(MatchKey.getTimeLock(startTime),
+			MatchKey.getUserLock(userDto.getId()))) {
+			transactionTemplate.executeWithoutResult(status -> cancelMatch(lock, userDto, startTime));
+		}
+		slotBoardCache.evict();
+	}
+
+	private void cancelMatch(MatchLock lock, UserDto userDto, LocalDateTime startTime) {
 		Optional<Game> game = gameRepository.findByStartTime(startTime);
 		if (game.isPresent()) {
 			List<User> enemyTeam = userRepository.findEnemyByGameAndUser(game.get().getId(), userDto.getId());
@@ -99,13 +123,14 @@ public class MatchService {
 			if (game.get().getMode().equals(Mode.TOURNAMENT)) {
 				throw new BusinessException(ErrorCode.TOURNAMENT_GAME_CAN_NOT_CANCELED);
 			}
-			cancelGame(userDto, startTime, game.get(), enemyTeam);
+			cancelGame(lock, userDto, startTime, game.get(), enemyTeam);
 		} else {
 			deleteUserFromQueue(userDto, startTime);
 		}
 	}
 
-	private void cancelGame(UserDto userDto, LocalDateTime startTime, Game game, List<User> enemyTeam) {
+	private void cancelGame(MatchLock lock, UserDto userDto, LocalDateTime startTime, Game game,
+		List<User> enemyTeam) {
 		/*취소한 유저 큐에서 삭제 후 패널티 부과*/
 		Long recoveredUserId = enemyTeam.get(0).getId();
 		List<RedisMatchUser> allMatchUsers = redisMatchTimeRepository.getAllMatchUsers(startTime);
@@ -126,7 +151,7 @@ public class MatchService {
 			.filter(ele -> !ele.getUserId().equals(userDto.getId())
 				&& !ele.getUserId().equals(recoveredUserId))
 			.collect(Collectors.toList());
-		Optional<RedisMatchUser> enemy = matchCalculator.findEnemy(targetPlayers);
+		Optional<RedisMatchUser> enemy = findLockedEnemy(lock, matchCalculator, targetPlayers);
 		if (enemy.isPresent()) {
 			gameUpdateService.delete(game);
 			GameAddDto gameDto = new GameAddDto(startTime, season, recoveredUser, enemy.get());
@@ -137,6 +162,25 @@ public class MatchService {
 		}
 	}
 
+	/**
+	 * 매칭 상대를 찾고 상대 유저의 lock 을 잡는다.
+	 * <p>
+	 *     상대가 다른 슬롯에서 매칭 중이면 요청 대기 시간 안에서 기다리고, <br/>
+	 *     그래도 lock 을 잡지 못하면 그 상대를 빼고 다시 찾는다.
+	 * </p>
+	 */
+	private Optional<RedisMatchUser> findLockedEnemy(MatchLock lock, MatchCalculator matchCalculator,
+		List<RedisMatchUser> matchUsers) {
+		List<RedisMatchUser> candidates = new ArrayList<>(matchUsers);
+		Optional<RedisMatchUser> enemy = matchCalculator.findEnemy(candidates);
+		while (enemy.isPresent() && !lock.tryLockUntilDeadline(MatchKey.getUserLock(enemy.get().getUserId()))) {
+			Long busyUserId = enemy.get().getUserId();
+			candidates.removeIf(candidate -> candidate.getUserId().equals(busyUserId));
+			enemy = matchCalculator.findEnemy(candidates);
+		}
+		return enemy;
+	}
+
 	/**
 	 * 매칭 요청 시 유효성 검사
 	 * @param userDto 매칭 요청한 유저
@@ -34,6 +34,7 @@ import gg.data.pingpong.tournament.type.TournamentStatus;
 import gg.data.user.User;
 import gg.pingpong.api.admin.noti.controller.request.SendNotiAdminRequestDto;
 import gg.pingpong.api.admin.noti.service.NotiAdminService;
+import gg.pingpong.api.global.scheduler.GameStatusTimer;
 import gg.pingpong.api.user.season.service.SeasonFindService;
 import gg.repo.game.GameRepository;
 import gg.repo.manage.SlotManagementRepository;
@@ -53,6 +54,7 @@ public class MatchTournamentService {
 	private final SlotManagementRepository slotManagementRepository;
 	private final SeasonFindService seasonFindService;
 	private final NotiAdminService notiAdminService;
+	private final GameStatusTimer gameStatusTimer;
 
 	/**
 	 * 토너먼트 진행중 다음 라운드 게임 매칭이 필요한지 확인
@@ -124,6 +126,7 @@ public class MatchTournamentService {
 			tournamentGames.get(i).updateGame(game);
 			startTime = startTime.plusMinutes((long)gameInterval);
 		}
+		gameStatusTimer.wakeUp();
 		players.stream().distinct()
 			.forEach(user -> notiAdminService.sendAnnounceNotiToUser(
 				new SendNotiAdminRequestDto(user.getIntraId(), NotiType.TOURNAMENT_GAME_MATCHED.getMessage())));
@@ -0,0 +1,31 @@
+package gg.pingpong.api.user.match.service;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.stereotype.Service;
+
+import gg.repo.match.RedisMatchTimeRepository;
+import gg.repo.match.RedisMatchUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매칭 큐 인덱스 도입 이전에 등록된 key 들을 서버 시작 시 인덱스에 추가한다.
+ * <p>
+ *     SCAN 으로 key 를 나눠서 조회하고, 이미 인덱스에 있는 key 는 덮어쓰므로 여러 번 실행해도 된다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisMatchIndexMigrationService {
+	private final RedisMatchTimeRepository redisMatchTimeRepository;
+	private final RedisMatchUserRepository redisMatchUserRepository;
+
+	@PostConstruct
+	public void migrateIndex() {
+		int timeCount = redisMatchTimeRepository.migrateIndex();
+		int userCount = redisMatchUserRepository.migrateIndex();
+		log.info("match queue index migrated: time keys: " + timeCount + ", user keys: " + userCount);
+	}
+}
@@ -0,0 +1,118 @@
+package gg.pingpong.api.user.match.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.match.RedisMatchUser;
+import gg.repo.game.GameRepository;
+import gg.repo.match.RedisMatchTimeRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 슬롯 화면에서 유저와 상관없는 데이터(게임이 잡힌 시간, 시간별 매칭 대기 유저)를 서버 메모리에 잠깐 공유한다.
+ * <p>
+ *     슬롯 화면은 모든 클라이언트가 계속 조회하므로, 같은 시간 범위의 요청은 TTL_MILLIS 동안 한 번 읽은 값을 같이 쓴다. <br/>
+ *     매칭 대기 유저는 mode 와 상관없이 같으므로 시간 범위로만 나누고, mode 별 상태는 요청마다 계산한다. <br/>
+ *     이 서버에서 매칭 등록, 취소, 매칭이 일어나면 evict 로 지우고, 다른 서버의 변경은 TTL_MILLIS 가 지나면 반영된다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotBoardCache {
+	private static final long TTL_MILLIS = 1_000L;
+
+	private final GameRepository gameRepository;
+	private final RedisMatchTimeRepository redisMatchTimeRepository;
+
+	private final Map<Window, Entry> cached = new ConcurrentHashMap<>();
+	private long generation;
+
+	/**
+	 * @param now 현재 시간
+	 * @param maxTime 슬롯 화면의 마지막 시간
+	 * @return now ~ maxTime 사이의 게임 시간과 매칭 대기 유저
+	 */
+	public SlotBoard get(LocalDateTime now, LocalDateTime maxTime) {
+		Window window = new Window(now.withMinute(0).withSecond(0).withNano(0), maxTime);
+		Entry entry = cached.get(window);
+		if (entry != null && System.currentTimeMillis() < entry.expiresAt) {
+			return entry.board;
+		}
+		long loadingGeneration;
+		synchronized (this) {
+			loadingGeneration = generation;
+		}
+		SlotBoard board = load(now, maxTime);
+		synchronized (this) {
+			// 읽는 동안 evict 되었다면 이전 상태일 수 있으므로 캐시하지 않는다
+			if (generation == loadingGeneration) {
+				cached.keySet().removeIf(key -> !key.equals(window));
+				cached.put(window, new Entry(board, System.currentTimeMillis() + TTL_MILLIS));
+			}
+		}
+		return board;
+	}
+
+	public synchronized void evict() {
+		generation++;
+		cached.clear();
+	}
+
+	private SlotBoard load(LocalDateTime now, LocalDateTime maxTime) {
+		Set<LocalDateTime> gameTimes = gameRepository.findAllBetween(now, maxTime).stream()
+			.map(Game::getStartTime)
+			.collect(Collectors.toUnmodifiableSet());
+		Map<LocalDateTime, List<RedisMatchUser>> matchUsers = redisMatchTimeRepository
+			.getAllMatchUsersBetween(now, maxTime);
+		return new SlotBoard(gameTimes, Collections.unmodifiableMap(matchUsers));
+	}
+
+	/**
+	 * 여러 요청이 같이 쓰므로 수정하지 않는다.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class SlotBoard {
+		private final Set<LocalDateTime> gameTimes;
+		private final Map<LocalDateTime, List<RedisMatchUser>> matchUsers;
+	}
+
+	@RequiredArgsConstructor
+	private static class Window {
+		private final LocalDateTime hour;
+		private final LocalDateTime maxTime;
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Window)) {
+				return false;
+			}
+			Window window = (Window)o;
+			return hour.equals(window.hour) && maxTime.equals(window.maxTime);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(hour, maxTime);
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Entry {
+		private final SlotBoard board;
+		private final long expiresAt;
+	}
+}
@@ -60,6 +60,10 @@ public class SlotGenerator {
 			new SlotStatusDto(e.getStartTime(), SlotStatus.CLOSE, interval)));
 	}
 
+	public void addMatchedSlots(Set<LocalDateTime> gameTimes) {
+		gameTimes.forEach(time -> slots.put(time, new SlotStatusDto(time, SlotStatus.CLOSE, interval)));
+	}
+
 	public void addMySlots(Game myGame) {
 		slots.put(myGame.getStartTime(),
 			new SlotStatusDto(myGame.getStartTime(), myGame.getEndTime(),
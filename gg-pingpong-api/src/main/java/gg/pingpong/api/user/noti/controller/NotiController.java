@@ -1,6 +1,6 @@
 package gg.pingpong.api.user.noti.controller;
 
-import java.util.List;
+import javax.validation.Valid;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,8 +11,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import gg.auth.UserDto;
 import gg.auth.argumentresolver.Login;
-import gg.pingpong.api.user.noti.controller.response.NotiListResponseDto;
-import gg.pingpong.api.user.noti.controller.response.NotiResponseDto;
+import gg.pingpong.api.user.noti.controller.request.NotiFindByUserRequestDto;
+import gg.pingpong.api.user.noti.controller.response.NotiFindByUserResponseDto;
 import gg.pingpong.api.user.noti.service.NotiService;
 import lombok.AllArgsConstructor;
 
@@ -22,10 +22,13 @@ import lombok.AllArgsConstructor;
 public class NotiController {
 	private final NotiService notiService;
 
+	/**
+	 * 알림 목록을 최신순으로 size 개씩 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 요청한다.
+	 */
 	@GetMapping
-	public NotiListResponseDto notiFindByUser(@Login UserDto user) {
-		List<NotiResponseDto> notiResponseDtoList = notiService.findNotiByUser(user);
-		return new NotiListResponseDto(notiResponseDtoList);
+	public NotiFindByUserResponseDto notiFindByUser(@Valid NotiFindByUserRequestDto requestDto,
+		@Login UserDto user) {
+		return notiService.findNotiByUser(user, requestDto.getCursor(), requestDto.getSize());
 	}
 
 	@PutMapping(value = "/check")
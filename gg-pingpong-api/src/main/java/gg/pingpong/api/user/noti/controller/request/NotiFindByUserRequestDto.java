@@ -1,4 +1,24 @@
 package gg.pingpong.api.user.noti.controller.request;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 목록 커서 페이지 요청
+ * <p>
+ *     cursor 는 직전 페이지 마지막 알림의 id 이고, 없으면 최신 알림부터 조회한다.
+ * </p>
+ */
+@Getter
+@Setter
 public class NotiFindByUserRequestDto {
+	@Min(value = 1, message = "cursor must be greater than 0")
+	private Long cursor;
+
+	@Min(value = 1, message = "size must be greater than 0")
+	@Max(value = 50, message = "size must be at most 50")
+	private Integer size = 20;
 }
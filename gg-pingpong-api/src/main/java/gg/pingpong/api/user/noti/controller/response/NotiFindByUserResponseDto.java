@@ -1,4 +1,21 @@
 package gg.pingpong.api.user.noti.controller.response;
 
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 목록 커서 페이지 응답
+ * <p>
+ *     nextCursor 는 다음 페이지 요청에 사용할 cursor 이고, 마지막 페이지면 null 이다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
 public class NotiFindByUserResponseDto {
+	private List<NotiResponseDto> notifications;
+	private Long nextCursor;
 }
@@ -3,8 +3,10 @@ package gg.pingpong.api.user.noti.service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +14,7 @@ import gg.auth.UserDto;
 import gg.data.noti.Noti;
 import gg.data.noti.type.NotiType;
 import gg.data.user.User;
+import gg.pingpong.api.user.noti.controller.response.NotiFindByUserResponseDto;
 import gg.pingpong.api.user.noti.controller.response.NotiResponseDto;
 import gg.pingpong.api.user.noti.dto.NotiDto;
 import gg.repo.noti.NotiRepository;
@@ -29,19 +32,25 @@ public class NotiService {
 	private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
 
 	/**
-	 * UserDto를 이용하여 User의 알림 목록을 조회합니다.
+	 * UserDto를 이용하여 User의 알림 목록을 cursor 부터 최신순으로 조회합니다.
 	 * @param userDto 유저 Dto
+	 * @param cursor 직전 페이지 마지막 알림 Id, null 이면 가장 최신 알림부터 조회
+	 * @param size 페이지 크기
 	 * @exception UserNotFoundException 유저가 존재하지 않을 경우
-	 * @return 알림 목록
+	 * @return 알림 목록과 다음 cursor
 	 */
 	@Transactional(readOnly = true)
-	public List<NotiResponseDto> findNotiByUser(UserDto userDto) {
+	public NotiFindByUserResponseDto findNotiByUser(UserDto userDto, Long cursor, int size) {
 		User user = userRepository.findById(userDto.getId()).orElseThrow(UserNotFoundException::new);
-		List<Noti> notiList = notiRepository.findAllByUserOrderByIdDesc(user);
+		List<Noti> notiList = notiRepository.findPageByUserId(user.getId(),
+			Objects.isNull(cursor) ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+		boolean hasNext = notiList.size() > size;
 		List<NotiResponseDto> notiResponseDtoList = notiList.stream()
+			.limit(size)
 			.map(NotiResponseDto::from)
 			.collect(Collectors.toList());
-		return notiResponseDtoList;
+		Long nextCursor = hasNext ? notiResponseDtoList.get(size - 1).getId() : null;
+		return new NotiFindByUserResponseDto(notiResponseDtoList, nextCursor);
 	}
 
 	/**
@@ -60,17 +69,14 @@ public class NotiService {
 	}
 
 	/**
-	 * 알림을 읽음 처리합니다.
+	 * 읽지 않은 알림을 UPDATE 한 번으로 읽음 처리합니다.
 	 * @param userDto 유저 Dto
 	 * @exception UserNotFoundException 유저가 존재하지 않을 경우
 	 */
 	@Transactional
 	public void modifyNotiCheckedByUser(UserDto userDto) {
 		User user = userRepository.findById(userDto.getId()).orElseThrow(UserNotFoundException::new);
-		List<Noti> notis = notiRepository.findAllByUser(user);
-		notis.forEach(noti -> {
-			noti.modifyIsChecked(true);
-		});
+		notiRepository.updateAllCheckedByUserId(user.getId(), LocalDateTime.now());
 	}
 
 	/**
@@ -1,7 +1,6 @@
 package gg.pingpong.api.user.rank.dto;
 
 import gg.data.pingpong.rank.redis.RankRedis;
-import gg.data.user.User;
 import gg.repo.rank.RankV2Dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,16 +19,15 @@ public class RankDto {
 	private String tierImageUri;
 	private String textColor;
 
-	public static RankDto from(User user, RankRedis rankRedis, Integer rank) {
-		RankDto dto = RankDto.builder()
-			.intraId(user.getIntraId())
+	public static RankDto from(RankRedis rankRedis, Integer rank) {
+		return RankDto.builder()
+			.intraId(rankRedis.getIntraId())
 			.rank(rank)
 			.ppp(rankRedis.getPpp())
 			.statusMessage(rankRedis.getStatusMessage())
 			.tierImageUri(rankRedis.getTierImageUri())
-			.textColor(user.getTextColor())
+			.textColor(rankRedis.getTextColor())
 			.build();
-		return dto;
 	}
 
 	public static RankDto from(RankV2Dto dto) {
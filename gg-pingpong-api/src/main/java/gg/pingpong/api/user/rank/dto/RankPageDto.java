@@ -0,0 +1,19 @@
+package gg.pingpong.api.user.rank.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저마다 같은 랭킹 페이지 본문. myRank 를 붙여 RankPageResponseDto 로 응답한다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankPageDto {
+	private int currentPage;
+	private int totalPage;
+	private List<RankDto> rankList;
+}
@@ -0,0 +1,24 @@
+package gg.pingpong.api.user.rank.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 티어를 나누는 기준값.
+ * <p>
+ *     상위 30%, 10% 위치의 ppp 와 ppp 최상위 3명의 userId 를 가진다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class TierBoundaryDto {
+	private Integer top30percentPpp;
+	private Integer top10percentPpp;
+	private List<Long> top3UserIds;
+
+	public boolean isTop3(Long userId) {
+		return top3UserIds.contains(userId);
+	}
+}
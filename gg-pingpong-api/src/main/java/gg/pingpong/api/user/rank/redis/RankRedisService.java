@@ -1,10 +1,10 @@
 package gg.pingpong.api.user.rank.redis;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,12 +13,11 @@ import gg.data.pingpong.game.TeamUser;
 import gg.data.pingpong.rank.Rank;
 import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.rank.redis.RankRedis;
-import gg.data.pingpong.season.Season;
 import gg.pingpong.api.global.utils.EloRating;
 import gg.pingpong.api.user.game.service.PChangeService;
-import gg.pingpong.api.user.season.service.SeasonFindService;
+import gg.pingpong.api.user.rank.dto.TierBoundaryDto;
+import gg.pingpong.api.user.rank.service.TierService;
 import gg.repo.rank.RankRepository;
-import gg.repo.rank.TierRepository;
 import gg.repo.rank.redis.RankRedisRepository;
 import gg.utils.RedisKeyManager;
 import gg.utils.exception.ErrorCode;
@@ -32,10 +31,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RankRedisService {
 	private final RankRedisRepository rankRedisRepository;
-	private final TierRepository tierRepository;
 	private final PChangeService pChangeService;
 	private final RankRepository rankRepository;
-	private final SeasonFindService seasonFindService;
+	private final TierService tierService;
 	private final EntityManager entityManager;
 
 	public Integer getUserPpp(Long userId, Long seasonId) {
@@ -43,8 +41,13 @@ public class RankRedisService {
 		return rankRedisRepository.findRankByUserId(hashKey, userId).getPpp();
 	}
 
+	/**
+	 * 관리자가 수정한 게임 결과를 반영한다.
+	 *
+	 * @param before 게임 결과를 되돌리기 전의 티어 기준값
+	 */
 	public void updateAdminRankData(TeamUser myTeamUser, TeamUser enemyTeamUser, Game game, RankRedis myTeam,
-		RankRedis enemyTeam) {
+		RankRedis enemyTeam, TierBoundaryDto before) {
 		// 단식 -> 2명 기준
 		String key = RedisKeyManager.getHashKey(game.getSeason().getId());
 		String zsetKey = RedisKeyManager.getZSetKey(game.getSeason().getId());
@@ -52,8 +55,8 @@ public class RankRedisService {
 		Integer enemyPPP = enemyTeam.getPpp();
 		updatePPP(myTeamUser, myTeam, enemyTeamUser.getTeam().getScore(), myPPP, enemyPPP, game.getSeason().getId());
 		updatePPP(enemyTeamUser, enemyTeam, myTeamUser.getTeam().getScore(), enemyPPP, myPPP, game.getSeason().getId());
-		updateRankUser(key, zsetKey, myTeamUser.getUser().getId(), myTeam);
-		updateRankUser(key, zsetKey, enemyTeamUser.getUser().getId(), enemyTeam);
+		updateTiers(game, before, myTeam, enemyTeam);
+		rankRedisRepository.updateAllRankDataAndScore(key, zsetKey, List.of(myTeam, enemyTeam));
 		pChangeService.addPChange(game, myTeamUser.getUser(), myTeam.getPpp(), false);
 		pChangeService.addPChange(game, enemyTeamUser.getUser(), enemyTeam.getPpp(), false);
 	}
@@ -64,20 +67,38 @@ public class RankRedisService {
 		String zsetKey = RedisKeyManager.getZSetKey(game.getSeason().getId());
 		RankRedis myTeam = rankRedisRepository.findRankByUserId(key, myTeamUser.getUser().getId());
 		RankRedis enemyTeam = rankRedisRepository.findRankByUserId(key, enemyTeamUser.getUser().getId());
+		TierBoundaryDto before = tierService.findTierBoundary(game.getSeason());
 		Integer myPPP = myTeam.getPpp();
 		Integer enemyPPP = enemyTeam.getPpp();
 		updatePPP(myTeamUser, myTeam, enemyTeamUser.getTeam().getScore(), myPPP, enemyPPP, game.getSeason().getId());
 		updatePPP(enemyTeamUser, enemyTeam, myTeamUser.getTeam().getScore(), enemyPPP, myPPP, game.getSeason().getId());
-		updateRankUser(key, zsetKey, myTeamUser.getUser().getId(), myTeam);
-		updateRankUser(key, zsetKey, enemyTeamUser.getUser().getId(), enemyTeam);
+		updateTiers(game, before, myTeam, enemyTeam);
+		rankRedisRepository.updateAllRankDataAndScore(key, zsetKey, List.of(myTeam, enemyTeam));
 		pChangeService.addPChange(game, myTeamUser.getUser(), myTeam.getPpp(), true);
 		pChangeService.addPChange(game, enemyTeamUser.getUser(), enemyTeam.getPpp(), false);
 	}
 
-	private void updateRankUser(String hashKey, String zsetKey, Long userId, RankRedis userRank) {
-		rankRedisRepository.updateRankData(hashKey, userId, userRank);
-		rankRedisRepository.deleteFromZSet(zsetKey, userId);
-		rankRedisRepository.addToZSet(zsetKey, userId, userRank.getPpp());
+	/**
+	 * 티어가 바뀐 유저의 랭크 티어와 레디스 티어 이미지만 수정한다.
+	 * <p>
+	 *     게임한 두 유저는 이후 rank데이터와 함께 저장되므로 객체만 수정한다.
+	 * </p>
+	 */
+	private void updateTiers(Game game, TierBoundaryDto before, RankRedis myTeam, RankRedis enemyTeam) {
+		String key = RedisKeyManager.getHashKey(game.getSeason().getId());
+		Map<Long, Tier> changedTiers = tierService.updateTiers(game.getSeason(), before,
+			List.of(myTeam.getUserId(), enemyTeam.getUserId()));
+		changedTiers.forEach((userId, tier) -> {
+			if (userId.equals(myTeam.getUserId())) {
+				myTeam.updateTierImage(tier.getImageUri());
+			} else if (userId.equals(enemyTeam.getUserId())) {
+				enemyTeam.updateTierImage(tier.getImageUri());
+			} else {
+				RankRedis rankRedis = rankRedisRepository.findRankByUserId(key, userId);
+				rankRedis.updateTierImage(tier.getImageUri());
+				rankRedisRepository.updateRankData(key, userId, rankRedis);
+			}
+		});
 	}
 
 	@Transactional
@@ -102,55 +123,6 @@ public class RankRedisService {
 			+ "), redis(" + myTeam.getLosses() + ")");
 	}
 
-	@Transactional
-	public void updateAllTier(Long gameId) {
-		// 전체 레디스 랭크 티어 새로고침하는 로직
-		Season targetSeason = seasonFindService.findSeasonByGameId(gameId);
-		String key = RedisKeyManager.getHashKey(targetSeason.getId());
-		String zSetKey = RedisKeyManager.getZSetKey(targetSeason.getId());
-		List<RankRedis> rankRedisList = rankRedisRepository.findAllRanksOrderByPppDesc(key);
-		Long totalRankPlayers = rankRepository.countRealRankPlayers(targetSeason.getId());
-		List<Tier> tierList = tierRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
-
-		int top30percentPpp = rankRedisList.get((int)(totalRankPlayers * 0.3)).getPpp();
-		int top10percentPpp = rankRedisList.get((int)(totalRankPlayers * 0.1)).getPpp();
-
-		for (int i = 0; i < rankRedisList.size(); i++) {
-			RankRedis rankRedis = rankRedisList.get(i);
-			if (rankRedis.getWins() == 0 && rankRedis.getLosses() == 0) {
-				rankRedis.updateTierImage(tierList.get(0).getImageUri());
-			} else {
-				if (i < 3) {
-					rankRedis.updateTierImage(tierList.get(6).getImageUri());
-					updateRankUser(key, zSetKey, rankRedis.getUserId(), rankRedis);
-					continue;
-				}
-				if (rankRedis.getPpp() < 970) {
-					// 970 미만
-					rankRedis.updateTierImage(tierList.get(1).getImageUri());
-				} else if (rankRedis.getPpp() < 1010) {
-					// 970 ~ 1009
-					rankRedis.updateTierImage(tierList.get(2).getImageUri());
-				} else if (rankRedis.getPpp() < 1050) {
-					// 1010 ~ 1049
-					rankRedis.updateTierImage(tierList.get(3).getImageUri());
-				} else {
-					if ((rankRedis.getPpp() >= top30percentPpp) && (rankRedis.getPpp() < top10percentPpp)) {
-						// 1050 이상, 30% 이상, 10% 미만
-						rankRedis.updateTierImage(tierList.get(4).getImageUri());
-					} else if (rankRedis.getPpp() >= top10percentPpp) {
-						// 1050 이상, 10% 이상
-						rankRedis.updateTierImage(tierList.get(5).getImageUri());
-					} else {
-						// 1050 이상, 30% 미만
-						rankRedis.updateTierImage(tierList.get(3).getImageUri());
-					}
-				}
-				updateRankUser(key, zSetKey, rankRedis.getUserId(), rankRedis);
-			}
-		}
-	}
-
 	@Transactional
 	public RankRedis rollbackRank(TeamUser teamUser, int ppp, Long seasonId) {
 		String hashkey = RedisKeyManager.getHashKey(seasonId);
@@ -164,7 +136,8 @@ public class RankRedisService {
 			+ ", losses: " + myTeam.getLosses());
 		rank.modifyUserRank(ppp, win, losses);
 		myTeam.changedRank(ppp, win, losses);
-		updateRankUser(hashkey, RedisKeyManager.getZSetKey(seasonId), teamUser.getUser().getId(), myTeam);
+		rankRedisRepository.updateRankDataAndScore(hashkey, RedisKeyManager.getZSetKey(seasonId),
+			teamUser.getUser().getId(), myTeam);
 		entityManager.flush();
 		log.info("After: userId: " + teamUser.getUser().getIntraId() + ", " + "ppp: rank("
 			+ rank.getPpp() + "), redis(" + myTeam.getPpp() + "), win: " + myTeam.getWins()
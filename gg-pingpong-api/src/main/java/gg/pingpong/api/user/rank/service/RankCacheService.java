@@ -0,0 +1,117 @@
+package gg.pingpong.api.user.rank.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.pingpong.api.global.utils.CacheKeyIndex;
+import gg.pingpong.api.user.rank.dto.RankDto;
+import gg.pingpong.api.user.rank.dto.RankPageDto;
+import gg.repo.rank.RankRepository;
+import gg.utils.exception.custom.PageNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저와 상관없는 랭킹 페이지를 (시즌, 페이지, 크기) 단위로 캐싱하고 필요한 key 만 지운다.
+ * <p>
+ *     key 형식은 seasonId:pageNumber:pageSize 이고, 지울 key 는 CacheKeyIndex 의 seasonId 색인에서 찾는다. <br/>
+ *     순위가 바뀐 구간과 겹치는 페이지만 지우고, 랭킹 인원이 바뀌면 전체 페이지 수가 바뀌므로 시즌 전체를 지운다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class RankCacheService {
+	private static final String CACHE_NAME = "ranking";
+	private static final String KEY_SEPARATOR = ":";
+
+	private final RankRepository rankRepository;
+	private final CacheKeyIndex cacheKeyIndex;
+
+	/**
+	 * 시즌 랭킹 페이지를 조회한다. myRank 는 호출한 쪽에서 붙인다.
+	 *
+	 * @param seasonId 시즌 id
+	 * @param pageRequest 페이지 정보
+	 * @throws PageNotFoundException 전체 페이지 수를 넘는 페이지를 요청한 경우
+	 */
+	@Transactional(readOnly = true)
+	@Cacheable(value = "ranking", cacheManager = "gameCacheManager",
+		key = "#seasonId + ':' + #pageRequest.pageNumber + ':' + #pageRequest.pageSize")
+	public RankPageDto getRankPage(Long seasonId, PageRequest pageRequest) {
+		int totalUserCount = rankRepository.countRankUserBySeasonId(seasonId);
+		int totalPage = (int)Math.ceil((double)totalUserCount / pageRequest.getPageSize());
+		if (totalPage == 0) {
+			return new RankPageDto(1, 1, new ArrayList<>());
+		}
+		if (pageRequest.getPageNumber() + 1 > totalPage) {
+			throw new PageNotFoundException();
+		}
+		int pageOffset = pageRequest.getPageNumber() * pageRequest.getPageSize();
+		List<RankDto> rankList = rankRepository.findPppRankBySeasonId(pageOffset, pageRequest.getPageSize(),
+				seasonId)
+			.stream().map(RankDto::from).collect(Collectors.toList());
+		return new RankPageDto(pageRequest.getPageNumber() + 1, totalPage, rankList);
+	}
+
+	/**
+	 * fromRanking ~ toRanking 순위가 보이는 페이지만 트랜잭션 커밋 후에 지운다.
+	 *
+	 * @param seasonId 시즌 id
+	 * @param fromRanking 바뀐 구간의 첫 순위 (1부터 시작)
+	 * @param toRanking 바뀐 구간의 마지막 순위
+	 */
+	public void evictRanks(Long seasonId, int fromRanking, int toRanking) {
+		afterCommit(() -> evict(seasonId, fromRanking, toRanking));
+	}
+
+	/**
+	 * 시즌의 모든 랭킹 페이지를 트랜잭션 커밋 후에 지운다.
+	 *
+	 * @param seasonId 시즌 id
+	 */
+	public void evictSeason(Long seasonId) {
+		afterCommit(() -> evict(seasonId, 1, Integer.MAX_VALUE));
+	}
+
+	private void afterCommit(Runnable eviction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eviction.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eviction.run();
+			}
+		});
+	}
+
+	private void evict(Long seasonId, int fromRanking, int toRanking) {
+		cacheKeyIndex.evictByFirstPart(CACHE_NAME, String.valueOf(seasonId),
+			page -> isOverlapped(page, fromRanking, toRanking));
+	}
+
+	/**
+	 * key(pageNumber:pageSize) 의 페이지가 보여주는 순위 구간이 fromRanking ~ toRanking 과 겹치는지 확인한다.
+	 * 형식이 다른 key 는 지운다.
+	 */
+	private static boolean isOverlapped(String key, int fromRanking, int toRanking) {
+		String[] page = key.split(KEY_SEPARATOR);
+		try {
+			long pageNumber = Long.parseLong(page[0]);
+			long pageSize = Long.parseLong(page[1]);
+			long firstRanking = pageNumber * pageSize + 1;
+			long lastRanking = firstRanking + pageSize - 1;
+			return firstRanking <= toRanking && fromRanking <= lastRanking;
+		} catch (RuntimeException e) {
+			return true;
+		}
+	}
+}
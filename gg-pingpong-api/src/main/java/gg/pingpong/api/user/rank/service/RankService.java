@@ -3,6 +3,7 @@ package gg.pingpong.api.user.rank.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.Cacheable;
@@ -19,7 +20,9 @@ import gg.pingpong.api.user.rank.controller.response.ExpRankPageResponseDto;
 import gg.pingpong.api.user.rank.controller.response.RankPageResponseDto;
 import gg.pingpong.api.user.rank.dto.ExpRankDto;
 import gg.pingpong.api.user.rank.dto.RankDto;
+import gg.pingpong.api.user.rank.dto.RankPageDto;
 import gg.pingpong.api.user.season.service.SeasonFindService;
+import gg.pingpong.api.user.user.service.UserFindService;
 import gg.repo.rank.RankRepository;
 import gg.repo.rank.redis.RankRedisRepository;
 import gg.repo.user.ExpRankV2Dto;
@@ -28,7 +31,6 @@ import gg.utils.RedisKeyManager;
 import gg.utils.exception.ErrorCode;
 import gg.utils.exception.custom.PageNotFoundException;
 import gg.utils.exception.rank.RedisDataNotFoundException;
-import gg.utils.exception.user.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -38,6 +40,8 @@ public class RankService {
 	private final RankRedisRepository redisRepository;
 	private final SeasonFindService seasonFindService;
 	private final RankRepository rankRepository;
+	private final UserFindService userFindService;
+	private final RankCacheService rankCacheService;
 
 	@Transactional(readOnly = true)
 	public ExpRankPageResponseDto getExpRankPageByRedis(PageRequest pageRequest, UserDto curUser) {
@@ -49,17 +53,13 @@ public class RankService {
 		}
 
 		List<Long> userIds = users.getContent().stream().map(user -> user.getId()).collect(Collectors.toList());
-		Season curSeason = seasonFindService.findCurrentSeason(LocalDateTime.now());
-
-		String hashKey = RedisKeyManager.getHashKey(curSeason.getId());
-		List<RankRedis> ranks = redisRepository.findRanksByUserIds(hashKey, userIds);
+		Map<Long, String> statusMessages = userFindService.getUserStatusMessages(userIds);
 
 		Integer startRank = pageRequest.getPageSize() * pageRequest.getPageNumber() + 1;
 		List<ExpRankDto> expRankDtos = new ArrayList<>();
-		for (int i = 0; i < ranks.size(); i++) {
-			RankRedis rank = ranks.get(i);
+		for (int i = 0; i < users.getContent().size(); i++) {
 			User user = users.getContent().get(i);
-			expRankDtos.add(ExpRankDto.from(user, startRank + i, rank.getStatusMessage()));
+			expRankDtos.add(ExpRankDto.from(user, startRank + i, statusMessages.get(user.getId())));
 		}
 
 		return new ExpRankPageResponseDto(myRank.intValue(), pageRequest.getPageNumber() + 1, users.getTotalPages(),
@@ -100,14 +100,15 @@ public class RankService {
 
 	/**
 	 * rank 페이지 조회 v2
+	 * <p>
+	 *     페이지 본문은 RankCacheService 에서 (시즌, 페이지, 크기) 단위로 공유하고, myRank 만 유저별로 조회한다.
+	 * </p>
 	 * @param pageRequest
 	 * @param curUser
 	 * @param seasonId
 	 * @return
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable(value = "ranking", cacheManager = "gameCacheManager",
-		key = "#pageRequest.pageSize.toString() + #pageRequest.pageNumber + #curUser.id + #seasonId")
 	public RankPageResponseDto getRankPageV2(PageRequest pageRequest, UserDto curUser, Long seasonId) {
 		Season season;
 		if (seasonId == null || seasonId == 0) {
@@ -115,21 +116,14 @@ public class RankService {
 		} else {
 			season = seasonFindService.findSeasonById(seasonId);
 		}
-		int totalPage = calcTotalPageV2(season, pageRequest.getPageSize());
-		if (totalPage == 0) {
+		RankPageDto rankPage = rankCacheService.getRankPage(season.getId(), pageRequest);
+		if (rankPage.getRankList().isEmpty()) {
 			return returnEmptyRankPage();
 		}
-		if (pageRequest.getPageNumber() + 1 > totalPage) {
-			throw new PageNotFoundException();
-		}
-
 		int myRank = rankRepository.findRankByUserIdAndSeasonId(curUser.getId(), season.getId())
 			.orElse(-1);
-		int pageOffset = pageRequest.getPageNumber() * pageRequest.getPageSize();
-		List<RankDto> rankList = rankRepository.findPppRankBySeasonId(pageOffset, pageRequest.getPageSize(),
-				season.getId())
-			.stream().map(RankDto::from).collect(Collectors.toList());
-		return new RankPageResponseDto(myRank, pageRequest.getPageNumber() + 1, totalPage, rankList);
+		return new RankPageResponseDto(myRank, rankPage.getCurrentPage(), rankPage.getTotalPage(),
+			rankPage.getRankList());
 	}
 
 	@Transactional(readOnly = true)
@@ -179,26 +173,18 @@ public class RankService {
 		}
 	}
 
-	private int calcTotalPageV2(Season season, int pageSize) {
-		try {
-			Integer totalUserCount = rankRepository.countRankUserBySeasonId(season.getId());
-			return (int)Math.ceil((double)totalUserCount / pageSize);
-		} catch (RedisDataNotFoundException e) {
-			return 0;
-		}
-	}
-
 	private List<RankDto> createRankList(int startRank, int endRank, Season season) {
 		String zSetKey = RedisKeyManager.getZSetKey(season.getId());
 		String hashKey = RedisKeyManager.getHashKey(season.getId());
 
-		List<Long> userIds = redisRepository.getUserIdsByRangeFromZSet(zSetKey, startRank, endRank);
-		List<RankRedis> userRanks = redisRepository.findRanksByUserIds(hashKey, userIds);
+		List<RankRedis> userRanks = redisRepository.findRanksByRange(zSetKey, hashKey, startRank, endRank);
 		List<RankDto> rankList = new ArrayList<>();
 
-		for (int i = 0; i < userRanks.size(); i++) {
-			User user = userRepository.findById(userIds.get(i)).orElseThrow(UserNotFoundException::new);
-			rankList.add(RankDto.from(user, userRanks.get(i), ++startRank));
+		for (RankRedis userRank : userRanks) {
+			++startRank;
+			if (userRank != null) {
+				rankList.add(RankDto.from(userRank, startRank));
+			}
 		}
 		return rankList;
 	}
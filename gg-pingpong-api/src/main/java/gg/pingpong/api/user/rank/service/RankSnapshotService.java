@@ -0,0 +1,160 @@
+package gg.pingpong.api.user.rank.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import gg.data.pingpong.rank.Rank;
+import gg.data.pingpong.rank.RankSnapshot;
+import gg.data.pingpong.season.Season;
+import gg.repo.game.PChangeRepository;
+import gg.repo.rank.RankRepository;
+import gg.repo.rank.RankSnapshotRepository;
+import gg.repo.rank.RankV2Dto;
+import gg.repo.season.SeasonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankSnapshotService {
+	private final RankSnapshotRepository rankSnapshotRepository;
+	private final RankRepository rankRepository;
+	private final PChangeRepository pChangeRepository;
+	private final SeasonRepository seasonRepository;
+	private final RankCacheService rankCacheService;
+
+	/**
+	 * 게임 결과가 반영된 유저들의 랭킹 스냅샷을 갱신한다.
+	 * <p>
+	 *     순위가 바뀐 유저와 그 사이에 있던 유저들의 ranking 만 수정한다. <br/>
+	 *     같은 시즌의 갱신은 season row 잠금으로 직렬화한다. <br/>
+	 *     바뀐 순위 구간이 보이는 랭킹 페이지 캐시만 지우고, 랭킹 인원이 바뀌면 시즌 캐시를 모두 지운다.
+	 * </p>
+	 *
+	 * @param season 게임이 속한 시즌
+	 * @param userIds 게임에 참여한 유저 id
+	 */
+	@Transactional
+	public void refreshUserRanks(Season season, List<Long> userIds) {
+		seasonRepository.findWithPessimisticLockById(season.getId());
+		ChangedRanks changedRanks = new ChangedRanks();
+		for (Long userId : userIds) {
+			refreshUserRank(season.getId(), userId, changedRanks);
+		}
+		if (changedRanks.memberChanged) {
+			rankCacheService.evictSeason(season.getId());
+		} else if (changedRanks.isChanged()) {
+			rankCacheService.evictRanks(season.getId(), changedRanks.from, changedRanks.to);
+		}
+	}
+
+	/**
+	 * 스냅샷과 PChange 기반 랭킹 쿼리 결과를 비교하고, 다르면 스냅샷을 다시 만든다.
+	 *
+	 * @param seasonId 검사할 시즌 id
+	 * @return 순위 또는 ppp 가 다른 유저 수
+	 */
+	@Transactional
+	public int checkConsistency(Long seasonId) {
+		seasonRepository.findWithPessimisticLockById(seasonId);
+		int totalUserCount = rankRepository.countRankUserBySeasonId(seasonId);
+		Map<String, RankV2Dto> expected = rankRepository.findLivePppRankBySeasonId(0, totalUserCount, seasonId)
+			.stream().collect(Collectors.toMap(RankV2Dto::getIntraId, Function.identity()));
+		List<RankV2Dto> actual = rankRepository.findPppRankBySeasonId(0, totalUserCount, seasonId);
+
+		int mismatchCount = Math.abs(expected.size() - actual.size());
+		for (RankV2Dto dto : actual) {
+			RankV2Dto live = expected.get(dto.getIntraId());
+			if (live == null || !live.getRanking().equals(dto.getRanking()) || !live.getPpp().equals(dto.getPpp())) {
+				mismatchCount++;
+			}
+		}
+		if (mismatchCount > 0) {
+			log.warn("rank snapshot mismatch: seasonId: " + seasonId + ", count: " + mismatchCount);
+			rebuild(seasonId);
+		}
+		return mismatchCount;
+	}
+
+	/**
+	 * 해당 시즌의 스냅샷을 PChange 기준으로 다시 만든다.
+	 *
+	 * @param seasonId 시즌 id
+	 */
+	@Transactional
+	public void rebuild(Long seasonId) {
+		rankSnapshotRepository.deleteAllBySeasonId(seasonId);
+		rankSnapshotRepository.insertAllBySeasonId(seasonId);
+		rankCacheService.evictSeason(seasonId);
+	}
+
+	private void refreshUserRank(Long seasonId, Long userId, ChangedRanks changedRanks) {
+		Optional<RankSnapshot> snapshot = rankSnapshotRepository.findBySeasonIdAndUserId(seasonId, userId);
+		Optional<Rank> rank = rankRepository.findByUserIdAndSeasonId(userId, seasonId);
+		Optional<LocalDateTime> lastGameAt = pChangeRepository.findLastCreatedAtByUserIdAndSeasonId(userId, seasonId);
+		if (rank.isEmpty() || !rank.get().isParticipated() || lastGameAt.isEmpty()) {
+			snapshot.ifPresent(userSnapshot -> {
+				remove(userSnapshot);
+				changedRanks.memberChanged = true;
+			});
+			return;
+		}
+		Integer ppp = rank.get().getPpp();
+		Integer totalExp = Optional.ofNullable(rank.get().getUser().getTotalExp()).orElse(0);
+		Integer newRanking = rankSnapshotRepository.countRankedAbove(seasonId, userId, ppp, lastGameAt.get(),
+			totalExp).intValue() + 1;
+
+		if (snapshot.isEmpty()) {
+			rankSnapshotRepository.pushDownFrom(seasonId, newRanking, ppp, lastGameAt.get(), totalExp);
+			rankSnapshotRepository.save(
+				new RankSnapshot(seasonId, userId, newRanking, ppp, lastGameAt.get(), totalExp));
+			changedRanks.memberChanged = true;
+			return;
+		}
+		RankSnapshot userSnapshot = snapshot.get();
+		if (userSnapshot.hasSameKey(ppp, lastGameAt.get(), totalExp)) {
+			return;
+		}
+		if (userSnapshot.isRankedAbove(ppp, lastGameAt.get(), totalExp)) {
+			rankSnapshotRepository.pullUpBetween(seasonId, userId, userSnapshot.getRanking(), newRanking, ppp,
+				lastGameAt.get(), totalExp);
+		} else {
+			rankSnapshotRepository.pushDownBetween(seasonId, userId, newRanking, userSnapshot.getRanking(), ppp,
+				lastGameAt.get(), totalExp);
+		}
+		changedRanks.add(userSnapshot.getRanking());
+		changedRanks.add(newRanking);
+		userSnapshot.updateRanking(newRanking, ppp, lastGameAt.get(), totalExp);
+	}
+
+	private void remove(RankSnapshot snapshot) {
+		rankSnapshotRepository.delete(snapshot);
+		rankSnapshotRepository.pullUpFrom(snapshot.getSeasonId(), snapshot.getRanking());
+	}
+
+	/**
+	 * 한 번의 갱신에서 ranking 이 바뀐 구간. 랭킹에 들어오거나 빠진 유저가 있으면 memberChanged 이다.
+	 */
+	private static class ChangedRanks {
+		private int from = Integer.MAX_VALUE;
+		private int to = 0;
+		private boolean memberChanged;
+
+		private void add(int ranking) {
+			from = Math.min(from, ranking);
+			to = Math.max(to, ranking);
+		}
+
+		private boolean isChanged() {
+			return from <= to;
+		}
+	}
+}
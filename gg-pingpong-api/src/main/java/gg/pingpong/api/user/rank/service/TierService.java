@@ -1,6 +1,14 @@
 package gg.pingpong.api.user.rank.service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -9,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import gg.data.pingpong.rank.Rank;
 import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.season.Season;
+import gg.pingpong.api.user.rank.dto.TierBoundaryDto;
 import gg.repo.rank.RankRepository;
 import gg.repo.rank.TierRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,9 +27,84 @@ import lombok.RequiredArgsConstructor;
 public class TierService {
 	private final TierRepository tierRepository;
 	private final RankRepository rankRepository;
+	private final RankCacheService rankCacheService;
 
 	/**
-	 * 해당 시즌 랭킹의 티어를 모두 업데이트한다.
+	 * 현재 시즌 랭킹의 티어 기준값을 조회한다.
+	 * <p>
+	 *     ppp 를 바꾸기 전에 조회해서 updateTiers 에 넘겨준다.
+	 * </p>
+	 *
+	 * @param season 시즌
+	 * @return 상위 30%, 10% ppp 와 최상위 3명
+	 */
+	@Transactional(readOnly = true)
+	public TierBoundaryDto findTierBoundary(Season season) {
+		Long totalRankPlayers = rankRepository.countRealRankPlayers(season.getId());
+		Integer top30percentPpp = rankRepository.findPppBySeasonIdAtOffset(season.getId(),
+			(int)(totalRankPlayers * 0.3)).orElse(0);
+		Integer top10percentPpp = rankRepository.findPppBySeasonIdAtOffset(season.getId(),
+			(int)(totalRankPlayers * 0.1)).orElse(0);
+		List<Long> top3UserIds = rankRepository.findTop3BySeasonIdOrderByPppDescIdAsc(season.getId()).stream()
+			.map(rank -> rank.getUser().getId())
+			.collect(Collectors.toList());
+		return new TierBoundaryDto(top30percentPpp, top10percentPpp, top3UserIds);
+	}
+
+	/**
+	 * ppp 가 바뀐 유저들 때문에 티어가 바뀔 수 있는 유저만 다시 계산한다.
+	 * <p>
+	 *     ppp 가 바뀐 유저, 변경 전후 최상위 3명, <br/>
+	 *     변경 전후 상위 30%, 10% 기준 ppp 사이에 있는 유저만 티어가 바뀔 수 있다. <br/>
+	 *     티어 조건은 decideTier 를 따른다.
+	 * </p>
+	 *
+	 * @param season 시즌
+	 * @param before ppp 변경 전 티어 기준값
+	 * @param userIds ppp 가 바뀐 유저 id
+	 * @return 티어가 바뀐 유저 id 와 새 티어
+	 */
+	@Transactional
+	public Map<Long, Tier> updateTiers(Season season, TierBoundaryDto before, Collection<Long> userIds) {
+		TierBoundaryDto after = findTierBoundary(season);
+		Set<Long> candidateUserIds = new HashSet<>(userIds);
+		candidateUserIds.addAll(before.getTop3UserIds());
+		candidateUserIds.addAll(after.getTop3UserIds());
+
+		Map<Long, Rank> candidates = new LinkedHashMap<>();
+		rankRepository.findAllBySeasonIdAndUserIdIn(season.getId(), candidateUserIds)
+			.forEach(rank -> candidates.put(rank.getUser().getId(), rank));
+		addRanksBetween(season.getId(), before.getTop30percentPpp(), after.getTop30percentPpp(), candidates);
+		addRanksBetween(season.getId(), before.getTop10percentPpp(), after.getTop10percentPpp(), candidates);
+
+		List<Tier> tierList = tierRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+		Map<Long, Tier> changedTiers = new HashMap<>();
+		candidates.forEach((userId, rank) -> {
+			Tier tier = decideTier(rank, after.isTop3(userId), after.getTop30percentPpp(),
+				after.getTop10percentPpp(), tierList);
+			if (rank.getTier() == null || !Objects.equals(rank.getTier().getId(), tier.getId())) {
+				rank.updateTier(tier);
+				changedTiers.put(userId, tier);
+			}
+		});
+		// ppp 가 바뀐 유저의 랭킹 페이지는 RankSnapshotService 가 지우므로, 다른 유저의 티어가 바뀐 경우만 지운다
+		if (!userIds.containsAll(changedTiers.keySet())) {
+			rankCacheService.evictSeason(season.getId());
+		}
+		return changedTiers;
+	}
+
+	private void addRanksBetween(Long seasonId, Integer beforePpp, Integer afterPpp, Map<Long, Rank> candidates) {
+		if (beforePpp.equals(afterPpp)) {
+			return;
+		}
+		rankRepository.findAllBySeasonIdAndPppBetween(seasonId, Math.min(beforePpp, afterPpp),
+				Math.max(beforePpp, afterPpp))
+			.forEach(rank -> candidates.putIfAbsent(rank.getUser().getId(), rank));
+	}
+
+	/**
+	 * 티어를 결정한다.
 	 * <p>
 	 *     참여한적 없으면 0번 티어. <br/>
 	 *     ppp 970 미만 1번 티어. <br/>
@@ -30,35 +114,22 @@ public class TierService {
 	 *     ppp 1050 이상 && 상위 10프로 이상 5번 티어. <br/>
 	 *     최상위 3명 6번티어.
 	 * <p/>
-	 *
-	 * @param season
 	 */
-	@Transactional
-	public void updateAllTier(Season season) {
-		List<Rank> rankList = rankRepository.findAllBySeasonIdOrderByPppDesc(season.getId());
-		Long totalRankPlayers = rankRepository.countRealRankPlayers(season.getId());
-		List<Tier> tierList = tierRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
-
-		int top30percentPpp = rankList.get((int)(totalRankPlayers * 0.3)).getPpp();
-		int top10percentPpp = rankList.get((int)(totalRankPlayers * 0.1)).getPpp();
-
-		for (int i = 0; i < rankList.size(); i++) {
-			Rank rank = rankList.get(i);
-			if (!rank.isParticipated()) {
-				rank.updateTier(tierList.get(0));
-			} else if (i < 3) {
-				rank.updateTier(tierList.get(6));
-			} else if (rank.getPpp() < 970) {
-				rank.updateTier(tierList.get(1));
-			} else if (rank.getPpp() < 1010) {
-				rank.updateTier(tierList.get(2));
-			} else if (rank.getPpp() < 1050 || rank.getPpp() < top30percentPpp) {
-				rank.updateTier(tierList.get(3));
-			} else if (rank.getPpp() < top10percentPpp) {
-				rank.updateTier(tierList.get(4));
-			} else {
-				rank.updateTier(tierList.get(5));
-			}
+	private Tier decideTier(Rank rank, boolean isTop3, int top30percentPpp, int top10percentPpp,
+		List<Tier> tierList) {
+		if (!rank.isParticipated()) {
+			return tierList.get(0);
+		} else if (isTop3) {
+			return tierList.get(6);
+		} else if (rank.getPpp() < 970) {
+			return tierList.get(1);
+		} else if (rank.getPpp() < 1010) {
+			return tierList.get(2);
+		} else if (rank.getPpp() < 1050 || rank.getPpp() < top30percentPpp) {
+			return tierList.get(3);
+		} else if (rank.getPpp() < top10percentPpp) {
+			return tierList.get(4);
 		}
+		return tierList.get(5);
 	}
 }
@@ -0,0 +1,24 @@
+package gg.pingpong.api.user.store.dto;
+
+import gg.data.pingpong.store.CoinPolicy;
+import lombok.Getter;
+
+/**
+ * 캐시에 담아 여러 요청이 함께 읽는 코인 정책. version 은 정책의 id 이다.
+ */
+@Getter
+public class CoinPolicyDto {
+	private final Long version;
+	private final int attendance;
+	private final int normal;
+	private final int rankWin;
+	private final int rankLose;
+
+	public CoinPolicyDto(CoinPolicy coinPolicy) {
+		this.version = coinPolicy.getId();
+		this.attendance = coinPolicy.getAttendance();
+		this.normal = coinPolicy.getNormal();
+		this.rankWin = coinPolicy.getRankWin();
+		this.rankLose = coinPolicy.getRankLose();
+	}
+}
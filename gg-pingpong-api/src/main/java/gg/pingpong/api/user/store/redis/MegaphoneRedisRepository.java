@@ -1,34 +1,67 @@
 package gg.pingpong.api.user.store.redis;
 
-import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import gg.data.pingpong.store.redis.MegaphoneRedis;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 날짜별 메가폰 목록을 "megaphone:yyyy-MM-dd" hash 에 megaphone id 를 field 로 저장한다.
+ * <p>
+ *     하루치 메가폰은 한 hash 에 모여 있어 KEYS 없이 HVALS 한 번으로 조회한다. <br/>
+ *     hash 는 해당 날짜가 끝나고 하루 뒤에 만료된다.
+ * </p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class MegaphoneRedisRepository {
+	private static final String KEY_PREFIX = "megaphone:";
+	private static final long EXPIRE_AFTER_DAYS = 2L;
+
 	private final RedisTemplate<String, MegaphoneRedis> redisTemplate;
 
-	public void addMegaphone(MegaphoneRedis megaphoneRedis) {
-		Duration duration = Duration.between(megaphoneRedis.getUsedAt(), megaphoneRedis.getUsedAt().plusDays(1));
-		redisTemplate.opsForValue().set("megaphone" + megaphoneRedis.getId(), megaphoneRedis, duration);
+	/**
+	 * 메가폰들을 usedAt 날짜의 목록에 추가한다.
+	 *
+	 * @param date 메가폰이 띄워지는 날짜
+	 * @param megaphones 추가할 메가폰
+	 */
+	public void addAllMegaphone(LocalDate date, List<MegaphoneRedis> megaphones) {
+		if (megaphones.isEmpty()) {
+			return;
+		}
+		HashOperations<String, Long, MegaphoneRedis> hashOps = redisTemplate.opsForHash();
+		hashOps.putAll(key(date), megaphones.stream()
+			.collect(Collectors.toMap(MegaphoneRedis::getId, Function.identity())));
+		Date expireAt = Date.from(date.plusDays(EXPIRE_AFTER_DAYS).atTime(LocalTime.MIN)
+			.atZone(ZoneId.systemDefault()).toInstant());
+		redisTemplate.expireAt(key(date), expireAt);
 	}
 
-	public List<MegaphoneRedis> getAllMegaphone() {
-		return redisTemplate.opsForValue().multiGet(redisTemplate.keys("megaphone*"));
+	public List<MegaphoneRedis> getAllMegaphone(LocalDate date) {
+		HashOperations<String, Long, MegaphoneRedis> hashOps = redisTemplate.opsForHash();
+		return hashOps.values(key(date));
 	}
 
-	public void deleteAllMegaphone() {
-		redisTemplate.delete(redisTemplate.keys("megaphone*"));
+	public void deleteAllMegaphone(LocalDate date) {
+		redisTemplate.delete(key(date));
 	}
 
-	public void deleteMegaphoneById(Long id) {
-		redisTemplate.delete("megaphone" + id);
+	public void deleteMegaphoneById(LocalDate date, Long id) {
+		redisTemplate.opsForHash().delete(key(date), id);
 	}
 
+	private static String key(LocalDate date) {
+		return KEY_PREFIX + date;
+	}
 }
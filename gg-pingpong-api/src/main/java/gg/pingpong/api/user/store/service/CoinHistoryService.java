@@ -9,22 +9,24 @@ import gg.data.pingpong.store.CoinHistory;
 import gg.data.pingpong.store.Item;
 import gg.data.pingpong.store.type.HistoryType;
 import gg.data.user.User;
+import gg.pingpong.api.user.store.dto.CoinPolicyDto;
 import gg.repo.store.CoinHistoryRepository;
-import gg.repo.store.CoinPolicyRepository;
-import gg.utils.exception.coin.CoinPolicyNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CoinHistoryService {
 	private final CoinHistoryRepository coinHistoryRepository;
-	private final CoinPolicyRepository coinPolicyRepository;
+	private final CoinPolicyCache coinPolicyCache;
 
 	@Transactional
 	public void addAttendanceCoinHistory(User user) {
-		int amount = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(() -> new CoinPolicyNotFoundException()).getAttendance();
-		addCoinHistory(new CoinHistory(user, HistoryType.ATTENDANCECOIN.getHistory(), amount));
+		addAttendanceCoinHistory(user, coinPolicyCache.get());
+	}
+
+	@Transactional
+	public void addAttendanceCoinHistory(User user, CoinPolicyDto coinPolicy) {
+		addCoinHistory(new CoinHistory(user, HistoryType.ATTENDANCECOIN.getHistory(), coinPolicy.getAttendance()));
 	}
 
 	@Transactional
@@ -39,23 +41,24 @@ public class CoinHistoryService {
 
 	@Transactional
 	public void addNormalCoin(User user) {
-		int amount = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(() -> new CoinPolicyNotFoundException()).getNormal();
-		addCoinHistory(new CoinHistory(user, HistoryType.NORMAL.getHistory(), amount));
+		addNormalCoin(user, coinPolicyCache.get());
+	}
+
+	@Transactional
+	public void addNormalCoin(User user, CoinPolicyDto coinPolicy) {
+		addCoinHistory(new CoinHistory(user, HistoryType.NORMAL.getHistory(), coinPolicy.getNormal()));
 	}
 
 	@Transactional
 	public int addRankWinCoin(User user) {
-		int amount = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(() -> new CoinPolicyNotFoundException()).getRankWin();
+		int amount = coinPolicyCache.get().getRankWin();
 		addCoinHistory(new CoinHistory(user, HistoryType.RANKWIN.getHistory(), amount));
 		return amount;
 	}
 
 	@Transactional
 	public int addRankLoseCoin(User user) {
-		int amount = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(() -> new CoinPolicyNotFoundException()).getRankLose();
+		int amount = coinPolicyCache.get().getRankLose();
 		if (amount == 0) {
 			return amount;
 		}
@@ -0,0 +1,84 @@
+package gg.pingpong.api.user.store.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.pingpong.api.user.store.dto.CoinPolicyDto;
+import gg.repo.store.CoinPolicyRepository;
+import gg.utils.exception.coin.CoinPolicyNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최신 코인 정책을 서버 메모리에 캐시한다.
+ * <p>
+ *     코인 정책은 관리자가 새 정책을 추가할 때만 바뀌므로, 추가할 때 evict 로 지우고 다음 조회에서 다시 읽는다. <br/>
+ *     다른 서버에서 추가된 정책은 TTL_MILLIS 가 지나면 반영된다. <br/>
+ *     한 요청에서 정책을 여러 번 쓰는 경우 get 으로 받은 CoinPolicyDto 를 넘겨 같은 version 의 정책만 쓰도록 한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoinPolicyCache {
+	private static final long TTL_MILLIS = 60_000L;
+
+	private final CoinPolicyRepository coinPolicyRepository;
+
+	private volatile Entry cached;
+	private long generation;
+
+	/**
+	 * @return 최신 코인 정책
+	 * @exception CoinPolicyNotFoundException 코인 정책이 없을 경우
+	 */
+	public CoinPolicyDto get() {
+		Entry entry = cached;
+		if (entry != null && System.currentTimeMillis() < entry.expiresAt) {
+			return entry.policy;
+		}
+		long loadingGeneration;
+		synchronized (this) {
+			loadingGeneration = generation;
+		}
+		CoinPolicyDto policy = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
+			.map(CoinPolicyDto::new)
+			.orElseThrow(CoinPolicyNotFoundException::new);
+		synchronized (this) {
+			// 읽는 동안 evict 되었다면 이전 정책일 수 있으므로 캐시하지 않는다
+			if (generation == loadingGeneration) {
+				cached = new Entry(policy, System.currentTimeMillis() + TTL_MILLIS);
+			}
+		}
+		return policy;
+	}
+
+	/**
+	 * 캐시를 지운다. 트랜잭션 안이라면 커밋(또는 롤백) 후에 한 번 더 지워 그 사이에 읽힌 이전 정책을 버린다.
+	 */
+	public void evict() {
+		clear();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					clear();
+				}
+			});
+		}
+	}
+
+	private synchronized void clear() {
+		generation++;
+		cached = null;
+	}
+
+	private static class Entry {
+		private final CoinPolicyDto policy;
+		private final long expiresAt;
+
+		Entry(CoinPolicyDto policy, long expiresAt) {
+			this.policy = policy;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -3,6 +3,7 @@ package gg.pingpong.api.user.store.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -81,22 +82,26 @@ public class MegaphoneService {
 	}
 
 	/**
-	 * <p>현재 사용중인 메가폰은 삭제하고, 다음날 메가폰들을 등록 시켜준다.</p>
+	 * <p>현재 사용중인 메가폰은 사용 완료 처리하고, 다음날 메가폰들을 다음날 목록에 등록 시켜준다.</p>
+	 * <p>오늘 목록은 자정까지 그대로 보이고 다음날이 지나면 만료된다.</p>
 	 * @param today 현재 날짜.
 	 */
 	@Transactional
 	public void setMegaphoneList(LocalDate today) {
 		megaphoneRepository.findAllByUsedAtAndReceiptStatus(today, ItemStatus.USING)
 			.forEach(megaphone -> megaphone.getReceipt().updateStatus(ItemStatus.USED));
-		megaphoneRedisRepository.deleteAllMegaphone();
+		LocalDate tomorrow = today.plusDays(1);
 		List<Megaphone> megaphones = megaphoneRepository
-			.findAllByUsedAtAndReceiptStatus(today.plusDays(1), ItemStatus.WAITING);
+			.findAllByUsedAtAndReceiptStatus(tomorrow, ItemStatus.WAITING);
+		List<MegaphoneRedis> megaphoneRedisList = new ArrayList<>(megaphones.size());
 		for (Megaphone megaphone : megaphones) {
 			megaphone.getReceipt().updateStatus(ItemStatus.USING);
-			megaphoneRedisRepository.addMegaphone(new MegaphoneRedis(megaphone.getId(),
+			megaphoneRedisList.add(new MegaphoneRedis(megaphone.getId(),
 				megaphone.getUser().getIntraId(), megaphone.getContent(),
 				LocalDateTime.of(megaphone.getUsedAt(), LocalTime.of(0, 0))));
 		}
+		megaphoneRedisRepository.deleteAllMegaphone(tomorrow);
+		megaphoneRedisRepository.addAllMegaphone(tomorrow, megaphoneRedisList);
 	}
 
 	/**
@@ -118,7 +123,7 @@ public class MegaphoneService {
 		}
 		itemService.checkItemStatus(receipt);
 		if (receipt.getStatus().equals(ItemStatus.USING)) {
-			megaphoneRedisRepository.deleteMegaphoneById(megaphone.getId());
+			megaphoneRedisRepository.deleteMegaphoneById(megaphone.getUsedAt(), megaphone.getId());
 		}
 		receipt.updateStatus(ItemStatus.DELETED);
 	}
@@ -149,7 +154,7 @@ public class MegaphoneService {
 	 * @return
 	 */
 	public List<MegaphoneTodayListResponseDto> getMegaphoneTodayList() {
-		return megaphoneRedisRepository.getAllMegaphone().stream()
+		return megaphoneRedisRepository.getAllMegaphone(LocalDate.now()).stream()
 			.map(MegaphoneTodayListResponseDto::new).collect(Collectors.toList());
 	}
 }
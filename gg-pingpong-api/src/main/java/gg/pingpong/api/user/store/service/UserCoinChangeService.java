@@ -10,10 +10,9 @@ import gg.data.pingpong.game.TeamUser;
 import gg.data.pingpong.store.Item;
 import gg.data.user.User;
 import gg.pingpong.api.user.game.service.GameFindService;
+import gg.pingpong.api.user.store.dto.CoinPolicyDto;
 import gg.pingpong.api.user.store.dto.UserGameCoinResultDto;
-import gg.repo.store.CoinPolicyRepository;
 import gg.repo.user.UserRepository;
-import gg.utils.exception.coin.CoinPolicyNotFoundException;
 import gg.utils.exception.user.UserAlreadyAttendanceException;
 import gg.utils.exception.user.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +20,7 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class UserCoinChangeService {
-	private final CoinPolicyRepository coinPolicyRepository;
+	private final CoinPolicyCache coinPolicyCache;
 	private final CoinHistoryService coinHistoryService;
 	private final UserRepository userRepository;
 	private final GameFindService gameFindService;
@@ -31,10 +30,10 @@ public class UserCoinChangeService {
 		if (coinHistoryService.hasAttendedToday(user)) {
 			throw new UserAlreadyAttendanceException();
 		}
-		int coinIncrement = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(CoinPolicyNotFoundException::new).getAttendance();
+		CoinPolicyDto coinPolicy = coinPolicyCache.get();
+		int coinIncrement = coinPolicy.getAttendance();
 		user.addGgCoin(coinIncrement);
-		coinHistoryService.addAttendanceCoinHistory(user);
+		coinHistoryService.addAttendanceCoinHistory(user, coinPolicy);
 		return coinIncrement;
 	}
 
@@ -59,11 +58,11 @@ public class UserCoinChangeService {
 	@Transactional
 	public UserGameCoinResultDto addNormalGameCoin(Long userId) {
 		User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-		int coinIncrement = coinPolicyRepository.findTopByOrderByCreatedAtDesc()
-			.orElseThrow(CoinPolicyNotFoundException::new).getNormal();
+		CoinPolicyDto coinPolicy = coinPolicyCache.get();
+		int coinIncrement = coinPolicy.getNormal();
 
 		user.addGgCoin(coinIncrement);
-		coinHistoryService.addNormalCoin(user);
+		coinHistoryService.addNormalCoin(user, coinPolicy);
 		return new UserGameCoinResultDto(user.getGgCoin(), coinIncrement);
 	}
 
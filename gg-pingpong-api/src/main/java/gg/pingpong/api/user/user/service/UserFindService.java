@@ -1,6 +1,10 @@
 package gg.pingpong.api.user.user.service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,4 +48,26 @@ public class UserFindService {
 			return "";
 		}
 	}
+
+	/**
+	 * 유저들의 현재 시즌 상태 메시지를 한 번에 조회합니다.
+	 * 현재 시즌은 한 번만 조회하고, 랭크 정보는 HMGET 한 번으로 가져옵니다.
+	 * @param userIds 유저 id 목록
+	 * @return userId 별 상태 메시지, 랭크 정보가 없는 유저는 빈 문자열
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, String> getUserStatusMessages(List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Season currentSeason = seasonFindService.findCurrentSeason(LocalDateTime.now());
+		String hashKey = RedisKeyManager.getHashKey(currentSeason.getId());
+		List<RankRedis> ranks = rankRedisRepository.findRanksByUserIds(hashKey, userIds);
+		Map<Long, String> statusMessages = new HashMap<>();
+		for (int i = 0; i < userIds.size(); i++) {
+			RankRedis rank = ranks.get(i);
+			statusMessages.put(userIds.get(i), rank == null ? "" : rank.getStatusMessage());
+		}
+		return statusMessages;
+	}
 }
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import gg.auth.UserDto;
+import gg.auth.utils.LoginUserCache;
 import gg.data.pingpong.game.Game;
 import gg.data.pingpong.game.PChange;
 import gg.data.pingpong.game.type.StatusType;
@@ -98,6 +99,7 @@ public class UserService {
 	private final UserImageRepository userImageRepository;
 	private final ItemService itemService;
 	private final TierRepository tierRepository;
+	private final LoginUserCache loginUserCache;
 	private final RankRepository rankRepository;
 
 	/**
@@ -172,6 +174,7 @@ public class UserService {
 		updateRedisRankStatusMessage(statusMessage, user, currentSeason);
 		updateRankTableStatusMessage(user.getId(), statusMessage, currentSeason.getId());
 		user.updateTypes(racketType, snsNotiOpt);
+		loginUserCache.evict(user.getId());
 	}
 
 	private void updateRankTableStatusMessage(Long userId, String statusMessage, Long seasonId) {
@@ -250,6 +253,7 @@ public class UserService {
 	public void deleteKakaoId(Long userId) {
 		User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
 		user.updateKakaoId(null);
+		loginUserCache.evict(userId);
 	}
 
 	@Transactional(readOnly = true)
@@ -334,9 +338,27 @@ public class UserService {
 		itemService.checkItemStatus(receipt);
 
 		loginUser.updateTextColor(textColor);
+		updateRedisRankTextColor(textColor, loginUser);
 		receipt.updateStatus(ItemStatus.USED);
 	}
 
+	/**
+	 * 랭킹 페이지는 RankRedis 만으로 응답하므로 유저의 랭크가 있는 모든 시즌의 랭크 데이터 textColor 도 함께 바꾼다.
+	 * 지난 시즌과 미리 만들어 둔 다음 시즌도 같은 색으로 보여야 한다.
+	 */
+	private void updateRedisRankTextColor(String textColor, User user) {
+		for (Long seasonId : rankRepository.findSeasonIdsByUserId(user.getId())) {
+			String hashKey = RedisKeyManager.getHashKey(seasonId);
+			try {
+				RankRedis userRank = rankRedisRepository.findRankByUserId(hashKey, user.getId());
+				userRank.updateTextColor(textColor);
+				rankRedisRepository.updateRankData(hashKey, user.getId(), userRank);
+			} catch (RedisDataNotFoundException ex) {
+				// 해당 시즌의 redis 랭크가 없으면 바꿀 데이터도 없다
+			}
+		}
+	}
+
 	@Transactional
 	public String updateEdge(UserDto user, UserEdgeDto userEdgeDto) {
 		User loginUser = userRepository.findById(user.getId()).orElseThrow(UserNotFoundException::new);
@@ -0,0 +1,36 @@
+CREATE TABLE `rank_snapshot`
+(
+    `id`           BIGINT   NOT NULL AUTO_INCREMENT,
+    `season_id`    BIGINT   NOT NULL,
+    `user_id`      BIGINT   NOT NULL,
+    `ranking`      INT      NOT NULL,
+    `ppp`          INT      NOT NULL,
+    `last_game_at` DATETIME NOT NULL,
+    `total_exp`    INT      NOT NULL,
+    `created_at`   DATETIME NOT NULL,
+    `modified_at`  DATETIME DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_rank_snapshot_season_id_user_id` (`season_id`, `user_id`),
+    KEY `idx_rank_snapshot_season_id_ranking` (`season_id`, `ranking`),
+    KEY `idx_rank_snapshot_season_id_ppp` (`season_id`, `ppp`, `last_game_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `rank_snapshot`
+    (`season_id`, `user_id`, `ranking`, `ppp`, `last_game_at`, `total_exp`, `created_at`, `modified_at`)
+SELECT r.season_id,
+       r.user_id,
+       RANK() OVER (PARTITION BY r.season_id ORDER BY r.ppp DESC, pg.created_at ASC, IFNULL(u.total_exp, 0) DESC),
+       r.ppp,
+       pg.created_at,
+       IFNULL(u.total_exp, 0),
+       NOW(),
+       NOW()
+FROM `ranks` r
+         INNER JOIN `user` u ON r.user_id = u.id
+         INNER JOIN (SELECT MAX(p.created_at) created_at, p.user_id user_id, g.season_id season_id
+                     FROM `pchange` p
+                              INNER JOIN `game` g ON p.game_id = g.id
+                     GROUP BY p.user_id, g.season_id) pg
+                    ON pg.user_id = r.user_id AND pg.season_id = r.season_id
+WHERE r.losses > 0
+   OR r.wins > 0;
@@ -0,0 +1 @@
+CREATE INDEX `idx_ranks_season_id_ppp` ON `ranks` (`season_id`, `ppp`);
@@ -0,0 +1,2 @@
+CREATE INDEX `idx_room_status_created_at_id` ON `room` (`status`, `created_at`, `id`);
+CREATE INDEX `idx_room_status_start_date_id` ON `room` (`status`, `start_date`, `id`);
@@ -0,0 +1 @@
+CREATE INDEX `idx_noti_user_id_is_checked` ON `noti` (`user_id`, `is_checked`);
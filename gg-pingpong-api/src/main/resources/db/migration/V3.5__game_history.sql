@@ -0,0 +1,55 @@
+CREATE TABLE `game_history`
+(
+    `id`               BIGINT      NOT NULL AUTO_INCREMENT,
+    `game_id`          BIGINT      NOT NULL,
+    `season_id`        BIGINT      NOT NULL,
+    `mode`             VARCHAR(10) NOT NULL,
+    `start_time`       DATETIME    NOT NULL,
+    `user_id`          BIGINT      NOT NULL,
+    `intra_id`         VARCHAR(30) NOT NULL,
+    `team_id`          BIGINT      NOT NULL,
+    `score`            INT         DEFAULT NULL,
+    `win`              BIT(1)      DEFAULT NULL,
+    `enemy_user_id`    BIGINT      NOT NULL,
+    `enemy_intra_id`   VARCHAR(30) NOT NULL,
+    `enemy_team_id`    BIGINT      NOT NULL,
+    `enemy_score`      INT         DEFAULT NULL,
+    `enemy_win`        BIT(1)      DEFAULT NULL,
+    `created_at`       DATETIME    NOT NULL,
+    `modified_at`      DATETIME    DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_game_history_game_id_user_id` (`game_id`, `user_id`),
+    KEY `idx_game_history_intra_id_mode_start_time` (`intra_id`, `mode`, `start_time`),
+    KEY `idx_game_history_intra_id_season_id_mode_start_time` (`intra_id`, `season_id`, `mode`, `start_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `game_history`
+    (`game_id`, `season_id`, `mode`, `start_time`,
+     `user_id`, `intra_id`, `team_id`, `score`, `win`,
+     `enemy_user_id`, `enemy_intra_id`, `enemy_team_id`, `enemy_score`, `enemy_win`,
+     `created_at`, `modified_at`)
+SELECT g.id,
+       g.season_id,
+       g.mode,
+       g.start_time,
+       tu.user_id,
+       u.intra_id,
+       t.id,
+       t.score,
+       t.win,
+       etu.user_id,
+       eu.intra_id,
+       et.id,
+       et.score,
+       et.win,
+       NOW(),
+       NOW()
+FROM `game` g
+         INNER JOIN `team` t ON t.game_id = g.id
+         INNER JOIN `team_user` tu ON tu.team_id = t.id
+         INNER JOIN `user` u ON u.id = tu.user_id
+         INNER JOIN `team` et ON et.game_id = g.id AND et.id <> t.id
+         INNER JOIN `team_user` etu ON etu.team_id = et.id
+         INNER JOIN `user` eu ON eu.id = etu.user_id
+WHERE g.status = 'END'
+  AND g.mode IN ('RANK', 'NORMAL');
@@ -0,0 +1 @@
+CREATE INDEX `idx_pchange_user_id_created_at_id` ON `pchange` (`user_id`, `created_at`, `id`);
@@ -6,6 +6,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 import org.apache.http.HttpHeaders;
@@ -128,6 +129,34 @@ public class RoomControllerTest {
 					RoomType.FINISH.toString());
 			}
 		}
+
+		@Test
+		@DisplayName("시작하지 않은 방, 시작한 방, 끝난 방 최근 10개 순서로 조회 200")
+		public void orderAndFinishLimit() throws Exception {
+			//given
+			for (int i = 0; i < 12; i++) {
+				Room room = testDataUtils.createNewRoom(userTester, userTester, testCategory, i, 1, 3, 2, 180,
+					RoomType.OPEN);
+				room.roomStart();
+				room.roomFinish();
+			}
+			String url = "/party/rooms";
+			//when
+			String contentAsString = mockMvc.perform(
+					get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + userAccessToken))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+			//then
+			List<RoomResDto> roomList = objectMapper.readValue(contentAsString, RoomListResDto.class).getRoomList();
+			assertThat(roomList).extracting(RoomResDto::getStatus)
+				.containsExactly(RoomType.OPEN.toString(), RoomType.START.toString(),
+					RoomType.FINISH.toString(), RoomType.FINISH.toString(), RoomType.FINISH.toString(),
+					RoomType.FINISH.toString(), RoomType.FINISH.toString(), RoomType.FINISH.toString(),
+					RoomType.FINISH.toString(), RoomType.FINISH.toString(), RoomType.FINISH.toString(),
+					RoomType.FINISH.toString());
+			assertThat(roomList.subList(2, roomList.size())).extracting(RoomResDto::getStartDate)
+				.isSortedAccordingTo(Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+		}
 	}
 
 	@Nested
@@ -23,7 +23,11 @@ import gg.admin.repo.user.UserAdminRepository;
 import gg.auth.UserDto;
 import gg.data.noti.Noti;
 import gg.data.user.User;
+import gg.data.user.type.RoleType;
+import gg.pingpong.api.admin.noti.controller.request.SendAllNotiAdminRequestDto;
 import gg.pingpong.api.admin.noti.controller.request.SendNotiAdminRequestDto;
+import gg.pingpong.api.admin.noti.controller.response.NotiJobAdminResponseDto;
+import gg.pingpong.api.admin.noti.dto.NotiJobStatus;
 import gg.pingpong.api.user.noti.service.SnsNotiService;
 import gg.utils.annotation.UnitTest;
 import gg.utils.exception.user.UserNotFoundException;
@@ -39,6 +43,10 @@ class NotiAdminServiceUnitTest {
 	@Mock
 	SnsNotiService snsNotiService;
 	@Mock
+	NotiAnnounceJobStore notiAnnounceJobStore;
+	@Mock
+	NotiAnnounceJobRunner notiAnnounceJobRunner;
+	@Mock
 	SendNotiAdminRequestDto sendNotiAdminRequestDto;
 	@InjectMocks
 	NotiAdminService notiAdminService;
@@ -78,6 +86,29 @@ class NotiAdminServiceUnitTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("sendAnnounceNotiToAll_메서드_unitTest")
+	class SendAnnounceNotiToAllTest {
+		@Test
+		@DisplayName("작업을 만들고 비동기로 실행한다")
+		void success() {
+			//given
+			given(userAdminRepository.countByRoleTypeNot(RoleType.GUEST)).willReturn(3000L);
+			given(notiAnnounceJobStore.create(3000L)).willReturn("jobId");
+			given(notiAnnounceJobStore.find("jobId"))
+				.willReturn(new NotiJobAdminResponseDto("jobId", NotiJobStatus.RUNNING, 3000L, 0L, 0L));
+
+			//when
+			NotiJobAdminResponseDto response = notiAdminService.sendAnnounceNotiToAll(
+				new SendAllNotiAdminRequestDto("Message"));
+
+			//then
+			assertThat(response.getJobId()).isEqualTo("jobId");
+			verify(notiAnnounceJobRunner, times(1)).run("jobId", "Message");
+			verify(notiAdminRepository, never()).save(any(Noti.class));
+		}
+	}
+
 	@Nested
 	@DisplayName("getAllNoti_메서드_unitTest")
 	class GetAllNotiTest {
@@ -0,0 +1,130 @@
+package gg.pingpong.api.admin.noti.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import gg.admin.repo.noti.NotiAdminJdbcRepository;
+import gg.admin.repo.user.UserAdminRepository;
+import gg.admin.repo.user.UserNotiTargetDto;
+import gg.data.noti.Noti;
+import gg.data.user.type.RoleType;
+import gg.data.user.type.SnsType;
+import gg.pingpong.api.admin.noti.dto.NotiJobStatus;
+import gg.pingpong.api.user.noti.service.NotiService;
+import gg.utils.annotation.UnitTest;
+import gg.utils.sns.MessageSender;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotiAnnounceJobRunnerUnitTest")
+class NotiAnnounceJobRunnerUnitTest {
+	@Mock
+	UserAdminRepository userAdminRepository;
+	@Mock
+	NotiAdminJdbcRepository notiAdminJdbcRepository;
+	@Mock
+	NotiAnnounceJobStore notiAnnounceJobStore;
+	@Mock
+	NotiService notiService;
+	@Mock
+	MessageSender messageSender;
+	@InjectMocks
+	NotiAnnounceJobRunner notiAnnounceJobRunner;
+
+	@Test
+	@DisplayName("유저를 id 순으로 나눠 알림을 추가하고, 슬랙을 받는 유저에게만 메시지를 큐에 넣는다")
+	void sendByChunk() {
+		//given
+		given(notiService.getMessage(any(Noti.class))).willReturn("slack message");
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(target(1L, "user1", SnsType.SLACK), target(2L, "user2", SnsType.EMAIL)));
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(2L), any(Pageable.class)))
+			.willReturn(List.of(target(5L, "user5", SnsType.BOTH)));
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(5L), any(Pageable.class)))
+			.willReturn(Collections.emptyList());
+		given(notiAdminJdbcRepository.insertAnnounceNotis("Message", List.of(1L, 2L))).willReturn(2);
+		given(notiAdminJdbcRepository.insertAnnounceNotis("Message", List.of(5L))).willReturn(1);
+		given(messageSender.sendBulk(anyList(), eq("slack message"))).willReturn(true);
+
+		//when
+		notiAnnounceJobRunner.run("jobId", "Message");
+
+		//then
+		verify(messageSender, times(1)).sendBulk(List.of("user1"), "slack message");
+		verify(messageSender, times(1)).sendBulk(List.of("user5"), "slack message");
+		verify(notiAnnounceJobStore, times(1)).addProgress("jobId", 2, 1);
+		verify(notiAnnounceJobStore, times(1)).addProgress("jobId", 1, 1);
+		verify(notiAnnounceJobStore, times(1)).finish("jobId", NotiJobStatus.DONE);
+	}
+
+	@Test
+	@DisplayName("슬랙 큐에 넣지 못한 메시지는 진행 상황에 세지 않는다")
+	void countOnlyAcceptedSlackMessages() {
+		//given
+		given(notiService.getMessage(any(Noti.class))).willReturn("slack message");
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(target(1L, "user1", SnsType.SLACK), target(2L, "user2", SnsType.SLACK)));
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(2L), any(Pageable.class)))
+			.willReturn(List.of(target(3L, "user3", SnsType.BOTH)));
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(3L), any(Pageable.class)))
+			.willReturn(Collections.emptyList());
+		given(notiAdminJdbcRepository.insertAnnounceNotis("Message", List.of(1L, 2L))).willReturn(2);
+		given(notiAdminJdbcRepository.insertAnnounceNotis("Message", List.of(3L))).willReturn(1);
+		given(messageSender.sendBulk(List.of("user1", "user2"), "slack message")).willReturn(false);
+		given(messageSender.sendBulk(List.of("user3"), "slack message")).willReturn(true);
+
+		//when
+		notiAnnounceJobRunner.run("jobId", "Message");
+
+		//then
+		verify(notiAnnounceJobStore, times(1)).addProgress("jobId", 2, 0);
+		verify(notiAnnounceJobStore, times(1)).addProgress("jobId", 1, 1);
+		verify(notiAnnounceJobStore, times(1)).finish("jobId", NotiJobStatus.DONE);
+	}
+
+	@Test
+	@DisplayName("실패하면 작업을 FAILED 로 남긴다")
+	void fail() {
+		//given
+		given(notiService.getMessage(any(Noti.class))).willReturn("slack message");
+		given(userAdminRepository.findNotiTargetsAfter(eq(RoleType.GUEST), eq(0L), any(Pageable.class)))
+			.willThrow(new IllegalStateException());
+
+		//when
+		notiAnnounceJobRunner.run("jobId", "Message");
+
+		//then
+		verify(notiAnnounceJobStore, times(1)).finish("jobId", NotiJobStatus.FAILED);
+		verify(messageSender, never()).sendBulk(anyList(), any(String.class));
+	}
+
+	private static UserNotiTargetDto target(Long id, String intraId, SnsType snsNotiOpt) {
+		return new UserNotiTargetDto() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getIntraId() {
+				return intraId;
+			}
+
+			@Override
+			public SnsType getSnsNotiOpt() {
+				return snsNotiOpt;
+			}
+		};
+	}
+}
@@ -26,6 +26,7 @@ import gg.data.pingpong.store.CoinPolicy;
 import gg.data.user.User;
 import gg.pingpong.api.admin.store.controller.response.CoinPolicyAdminListResponseDto;
 import gg.pingpong.api.admin.store.dto.CoinPolicyAdminAddDto;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
 import gg.utils.annotation.UnitTest;
 import gg.utils.exception.user.UserNotFoundException;
 
@@ -37,6 +38,8 @@ class CoinPolicyAdminServiceUnitTest {
 	CoinPolicyAdminRepository coinPolicyAdminRepository;
 	@Mock
 	UserAdminRepository userAdminRepository;
+	@Mock
+	CoinPolicyCache coinPolicyCache;
 	@InjectMocks
 	CoinPolicyAdminService coinPolicyAdminService;
 
@@ -92,6 +95,7 @@ class CoinPolicyAdminServiceUnitTest {
 			//then
 			verify(userAdminRepository).findByIntraId(any(String.class));
 			verify(coinPolicyAdminRepository).save(any(CoinPolicy.class));
+			verify(coinPolicyCache).evict();
 		}
 
 		@Test
@@ -107,6 +111,7 @@ class CoinPolicyAdminServiceUnitTest {
 				.isInstanceOf(UserNotFoundException.class);
 			verify(userAdminRepository).findByIntraId(any(String.class));
 			verify(coinPolicyAdminRepository, never()).save(any(CoinPolicy.class));
+			verify(coinPolicyCache, never()).evict();
 		}
 	}
 }
@@ -0,0 +1,104 @@
+package gg.pingpong.api.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import gg.pingpong.api.user.game.service.GameStatusService;
+import gg.utils.annotation.UnitTest;
+
+@UnitTest
+class GameStatusTimerUnitTest {
+	private static final long WAIT_MILLIS = 3_000L;
+
+	@Mock
+	GameStatusService gameStatusService;
+	@InjectMocks
+	GameStatusTimer gameStatusTimer;
+
+	@AfterEach
+	void destroy() {
+		gameStatusTimer.destroy();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("이미 지난 상태 변경 시간은 MIN_DELAY_MILLIS 뒤에 한 번 실행하고 다음 시간을 다시 예약한다")
+	void pastStatusChangeRunsOnceAndReschedules() throws InterruptedException {
+		AtomicLong changedAt = new AtomicLong();
+		given(gameStatusService.findNextStatusChangeTime())
+			.willReturn(Optional.of(LocalDateTime.now().minusMinutes(1)), Optional.empty());
+		given(gameStatusService.findNextImminentNotiTime()).willReturn(Optional.empty());
+		willAnswer(invocation -> {
+			changedAt.set(System.currentTimeMillis());
+			return null;
+		}).given(gameStatusService).updateBeforeToLiveStatus();
+		long begin = System.currentTimeMillis();
+
+		gameStatusTimer.init();
+
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(1)).updateLiveToWaitStatus();
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(2)).findNextStatusChangeTime();
+		assertThat(changedAt.get() - begin).isGreaterThanOrEqualTo(1_000L);
+		Thread.sleep(1_500L);
+		verify(gameStatusService, times(1)).updateBeforeToLiveStatus();
+		verify(gameStatusService, times(2)).findNextStatusChangeTime();
+	}
+
+	@Test
+	@DisplayName("알림 시간이 되면 그 시간으로 알림을 보내고 다음 시간을 다시 예약한다")
+	void imminentNotiReschedules() {
+		LocalDateTime notiTime = LocalDateTime.now().minusSeconds(1);
+		given(gameStatusService.findNextStatusChangeTime()).willReturn(Optional.empty());
+		given(gameStatusService.findNextImminentNotiTime()).willReturn(Optional.of(notiTime), Optional.empty());
+
+		gameStatusTimer.init();
+
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(1)).imminentGame(notiTime);
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(2)).findNextImminentNotiTime();
+		verify(gameStatusService, never()).updateBeforeToLiveStatus();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 wakeUp 하면 바로 다시 예약한다")
+	void wakeUpWithoutTransaction() {
+		given(gameStatusService.findNextStatusChangeTime()).willReturn(Optional.empty());
+		given(gameStatusService.findNextImminentNotiTime()).willReturn(Optional.empty());
+		gameStatusTimer.init();
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(1)).findNextStatusChangeTime();
+
+		gameStatusTimer.wakeUp();
+
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(2)).findNextStatusChangeTime();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 wakeUp 하면 커밋 후에 다시 예약한다")
+	void wakeUpAfterCommit() throws InterruptedException {
+		given(gameStatusService.findNextStatusChangeTime()).willReturn(Optional.empty());
+		given(gameStatusService.findNextImminentNotiTime()).willReturn(Optional.empty());
+		gameStatusTimer.init();
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(1)).findNextStatusChangeTime();
+		TransactionSynchronizationManager.initSynchronization();
+
+		gameStatusTimer.wakeUp();
+		Thread.sleep(300L);
+		verify(gameStatusService, times(1)).findNextStatusChangeTime();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(gameStatusService, timeout(WAIT_MILLIS).times(2)).findNextStatusChangeTime();
+	}
+}
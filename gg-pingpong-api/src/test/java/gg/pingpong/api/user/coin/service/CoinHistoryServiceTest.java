@@ -15,6 +15,7 @@ import gg.data.pingpong.store.CoinHistory;
 import gg.data.pingpong.store.CoinPolicy;
 import gg.data.user.User;
 import gg.pingpong.api.user.store.service.CoinHistoryService;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
 import gg.repo.store.CoinHistoryRepository;
 import gg.repo.store.CoinPolicyRepository;
 import gg.repo.user.UserRepository;
@@ -44,8 +45,12 @@ class CoinHistoryServiceTest {
 	@Autowired
 	CoinPolicyRepository coinPolicyRepository;
 
+	@Autowired
+	CoinPolicyCache coinPolicyCache;
+
 	@BeforeEach
 	void beforeEach() {
+		coinPolicyCache.evict();
 		CoinPolicy coinPolicy = CoinPolicy.builder()
 			.user(testDataUtils.createAdminUser())
 			.attendance(1)
@@ -0,0 +1,65 @@
+package gg.pingpong.api.user.coin.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import gg.data.pingpong.store.CoinPolicy;
+import gg.pingpong.api.user.store.dto.CoinPolicyDto;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
+import gg.repo.store.CoinPolicyRepository;
+import gg.utils.annotation.UnitTest;
+import gg.utils.exception.coin.CoinPolicyNotFoundException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoinPolicyCacheUnitTest")
+class CoinPolicyCacheUnitTest {
+	@Mock
+	CoinPolicyRepository coinPolicyRepository;
+	@InjectMocks
+	CoinPolicyCache coinPolicyCache;
+
+	@Test
+	@DisplayName("캐시된 정책은 다시 조회하지 않고, evict 후에는 새 정책을 읽는다")
+	void cacheUntilEvict() {
+		//given
+		given(coinPolicyRepository.findTopByOrderByCreatedAtDesc())
+			.willReturn(Optional.of(policy(1L, 10)), Optional.of(policy(2L, 20)));
+
+		//when
+		CoinPolicyDto first = coinPolicyCache.get();
+		CoinPolicyDto cached = coinPolicyCache.get();
+		coinPolicyCache.evict();
+		CoinPolicyDto reloaded = coinPolicyCache.get();
+
+		//then
+		assertThat(cached).isSameAs(first);
+		assertThat(first.getVersion()).isEqualTo(1L);
+		assertThat(reloaded.getVersion()).isEqualTo(2L);
+		assertThat(reloaded.getAttendance()).isEqualTo(20);
+		verify(coinPolicyRepository, times(2)).findTopByOrderByCreatedAtDesc();
+	}
+
+	@Test
+	@DisplayName("정책이 없으면 CoinPolicyNotFoundException")
+	void notFound() {
+		//given
+		given(coinPolicyRepository.findTopByOrderByCreatedAtDesc()).willReturn(Optional.empty());
+
+		//when, then
+		assertThatThrownBy(() -> coinPolicyCache.get()).isInstanceOf(CoinPolicyNotFoundException.class);
+	}
+
+	private static CoinPolicy policy(Long id, int attendance) {
+		return new CoinPolicy(id, null, attendance, 0, 0, 0, null);
+	}
+}
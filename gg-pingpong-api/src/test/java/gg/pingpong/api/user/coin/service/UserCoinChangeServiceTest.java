@@ -20,6 +20,7 @@ import gg.data.pingpong.store.type.ItemType;
 import gg.data.user.User;
 import gg.pingpong.api.user.store.dto.UserGameCoinResultDto;
 import gg.pingpong.api.user.store.service.CoinHistoryService;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
 import gg.pingpong.api.user.store.service.UserCoinChangeService;
 import gg.repo.store.CoinHistoryRepository;
 import gg.repo.store.CoinPolicyRepository;
@@ -50,6 +51,9 @@ class UserCoinChangeServiceTest {
 	@Autowired
 	CoinPolicyRepository coinPolicyRepository;
 
+	@Autowired
+	CoinPolicyCache coinPolicyCache;
+
 	@Autowired
 	UserRepository userRepository;
 
@@ -63,6 +67,7 @@ class UserCoinChangeServiceTest {
 
 	@BeforeEach
 	void init() {
+		coinPolicyCache.evict();
 		admin = testDataUtils.createAdminUser();
 	}
 
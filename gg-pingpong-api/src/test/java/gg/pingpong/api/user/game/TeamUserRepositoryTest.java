@@ -0,0 +1,89 @@
+package gg.pingpong.api.user.game;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.Team;
+import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
+import gg.data.pingpong.game.type.StatusType;
+import gg.data.pingpong.season.Season;
+import gg.data.user.User;
+import gg.repo.game.GameRepository;
+import gg.repo.game.TeamRepository;
+import gg.repo.game.TeamUserRepository;
+import gg.repo.game.out.UserGameCount;
+import gg.utils.TestDataUtils;
+import gg.utils.annotation.IntegrationTest;
+
+@IntegrationTest
+@Transactional
+class TeamUserRepositoryTest {
+	@Autowired
+	TeamUserRepository teamUserRepository;
+	@Autowired
+	GameRepository gameRepository;
+	@Autowired
+	TeamRepository teamRepository;
+	@Autowired
+	TestDataUtils testDataUtils;
+
+	Season season;
+	User user1;
+	User user2;
+	User user3;
+	LocalDateTime today;
+
+	@BeforeEach
+	void init() {
+		season = testDataUtils.createSeason();
+		user1 = testDataUtils.createNewUser();
+		user2 = testDataUtils.createNewUser();
+		user3 = testDataUtils.createNewUser();
+		today = LocalDate.now().atStartOfDay();
+	}
+
+	@Test
+	@DisplayName("countGamesByDateAndUserIds 는 오늘 끝난 게임 수를 유저별로 센다")
+	void countGamesByDateAndUserIds() {
+		createGame(StatusType.END, today.plusMinutes(10), user1, user2);
+		createGame(StatusType.END, today.plusMinutes(30), user1, user3);
+		createGame(StatusType.END, today.minusHours(1), user1, user2);
+		createGame(StatusType.LIVE, today.plusMinutes(50), user1, user2);
+
+		List<UserGameCount> counts = teamUserRepository.countGamesByDateAndUserIds(today,
+			List.of(user1.getId(), user2.getId()));
+
+		assertThat(counts).extracting(UserGameCount::getUserId, UserGameCount::getGameCount)
+			.containsExactlyInAnyOrder(tuple(user1.getId(), 2L), tuple(user2.getId(), 1L));
+	}
+
+	@Test
+	@DisplayName("오늘 끝난 게임이 없는 유저는 결과에 없다")
+	void noGameToday() {
+		createGame(StatusType.END, today.minusHours(1), user1, user2);
+
+		List<UserGameCount> counts = teamUserRepository.countGamesByDateAndUserIds(today,
+			List.of(user1.getId(), user2.getId()));
+
+		assertThat(counts).isEmpty();
+	}
+
+	private void createGame(StatusType status, LocalDateTime startTime, User me, User enemy) {
+		Game game = gameRepository.save(new Game(season, status, Mode.RANK, startTime, startTime.plusMinutes(15)));
+		Team myTeam = teamRepository.save(new Team(game, 2, true));
+		Team enemyTeam = teamRepository.save(new Team(game, 1, false));
+		teamUserRepository.save(new TeamUser(myTeam, me));
+		teamUserRepository.save(new TeamUser(enemyTeam, enemy));
+	}
+}
@@ -0,0 +1,84 @@
+package gg.pingpong.api.user.game.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import gg.data.pingpong.game.type.Mode;
+import gg.utils.annotation.IntegrationTest;
+
+@IntegrationTest
+class GameCacheServiceTest {
+	@Autowired
+	GameCacheService gameCacheService;
+	@Autowired
+	@Qualifier("gameCacheManager")
+	CacheManager cacheManager;
+
+	@AfterEach
+	void clear() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	@DisplayName("전체 목록은 첫 페이지만, 유저별 목록은 경기한 유저만 지운다")
+	void evictOnlyAffectedEntries() {
+		Cache allGameList = cacheManager.getCache("allGameList");
+		Cache allGameListByUser = cacheManager.getCache("allGameListByUser");
+		Cache rankGameListByIntra = cacheManager.getCache("rankGameListByIntra");
+		allGameList.put("0:20:startTime: DESC:null", "first");
+		allGameList.put("1:20:startTime: DESC:null", "second");
+		allGameListByUser.put("player1:0:20:startTime: DESC:null", "player1");
+		allGameListByUser.put("player1:3:20:startTime: DESC:null", "player1 page3");
+		allGameListByUser.put("other:0:20:startTime: DESC:null", "other");
+		rankGameListByIntra.put("player2:1:0:20:startTime: DESC", "player2 rank");
+
+		gameCacheService.evictGameLists(Mode.RANK, List.of("player1", "player2"));
+
+		assertThat(allGameList.get("0:20:startTime: DESC:null")).isNull();
+		assertThat(allGameList.get("1:20:startTime: DESC:null")).isNotNull();
+		assertThat(allGameListByUser.get("player1:0:20:startTime: DESC:null")).isNull();
+		assertThat(allGameListByUser.get("player1:3:20:startTime: DESC:null")).isNull();
+		assertThat(allGameListByUser.get("other:0:20:startTime: DESC:null")).isNotNull();
+		assertThat(rankGameListByIntra.get("player2:1:0:20:startTime: DESC")).isNull();
+	}
+
+	@Test
+	@DisplayName("intraId 에 glob 문자가 있어도 해당 유저의 목록만 지운다")
+	void evictIntraIdWithGlobCharacters() {
+		Cache allGameListByUser = cacheManager.getCache("allGameListByUser");
+		allGameListByUser.put("pl*yer:0:20:startTime: DESC:null", "glob");
+		allGameListByUser.put("player1:0:20:startTime: DESC:null", "player1");
+
+		gameCacheService.evictGameLists(Mode.NORMAL, List.of("pl*yer"));
+
+		assertThat(allGameListByUser.get("pl*yer:0:20:startTime: DESC:null")).isNull();
+		assertThat(allGameListByUser.get("player1:0:20:startTime: DESC:null")).isNotNull();
+	}
+
+	@Test
+	@DisplayName("진행중인 게임을 포함한 목록만 지운다")
+	void evictLiveGameLists() {
+		Cache allGameList = cacheManager.getCache("allGameList");
+		Cache allGameListByUser = cacheManager.getCache("allGameListByUser");
+		allGameList.put("2:20:startTime: DESC:LIVE", "live");
+		allGameList.put("2:20:startTime: DESC:null", "end");
+		allGameListByUser.put("player1:0:20:startTime: DESC:LIVE", "player1 live");
+		allGameListByUser.put("player1:0:20:startTime: DESC:null", "player1 end");
+
+		gameCacheService.evictLiveGameLists();
+
+		assertThat(allGameList.get("2:20:startTime: DESC:LIVE")).isNull();
+		assertThat(allGameList.get("2:20:startTime: DESC:null")).isNotNull();
+		assertThat(allGameListByUser.get("player1:0:20:startTime: DESC:LIVE")).isNull();
+		assertThat(allGameListByUser.get("player1:0:20:startTime: DESC:null")).isNotNull();
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 
 import gg.data.pingpong.game.Game;
+import gg.repo.game.GameHistoryRepository;
 import gg.repo.game.GameRepository;
 import gg.utils.annotation.UnitTest;
 
@@ -27,6 +28,8 @@ import gg.utils.annotation.UnitTest;
 class GameFindServiceUnitTest {
 	@Mock
 	GameRepository gameRepository;
+	@Mock
+	GameHistoryRepository gameHistoryRepository;
 	@InjectMocks
 	GameFindService gameFindService;
 
@@ -53,10 +56,12 @@ class GameFindServiceUnitTest {
 		@DisplayName("success")
 		void success() {
 			// given
-			given(gameRepository.findGamesByUserAndModeAndStatus(any(), any(), any(), any()))
+			given(gameHistoryRepository.findGameIdsByIntraIdAndModeIn(any(), anyList(), any()))
 				.willReturn(new SliceImpl<>(gameIdList));
-			// when, then
+			// when
 			gameFindService.normalGameListByIntra(mock(Pageable.class), "intraId");
+			// then
+			verify(gameHistoryRepository, times(1)).findTeamsByGameIdIn(gameIdList);
 		}
 	}
 
@@ -81,10 +86,12 @@ class GameFindServiceUnitTest {
 		@DisplayName("success")
 		void success() {
 			// given
-			given(gameRepository.findGamesByUserAndModeAndSeason(any(), any(), any(), any(), any()))
+			given(gameHistoryRepository.findGameIdsByIntraIdAndSeasonIdAndMode(any(), any(), any(), any()))
 				.willReturn(new SliceImpl<>(gameIdList));
-			// when, then
+			// when
 			gameFindService.rankGameListByIntra(mock(Pageable.class), 1L, "intraId");
+			// then
+			verify(gameHistoryRepository, times(1)).findTeamsByGameIdIn(gameIdList);
 		}
 	}
 
@@ -128,18 +135,44 @@ class GameFindServiceUnitTest {
 	@Nested
 	@DisplayName("allGameListUser 매서드 유닛 테스트")
 	class AllGameListUser {
-		@ParameterizedTest
-		@ValueSource(strings = {"END", "LIVE"})
-		@DisplayName("success")
-		void success(String status) {
+		@Test
+		@DisplayName("success - END")
+		void successEnd() {
 			// given
-			given(gameRepository.findGamesByUserAndModeInAndStatusIn(any(), anyList(), anyList(), any()))
+			given(gameHistoryRepository.findGameIdsByIntraIdAndModeIn(any(), anyList(), any()))
 				.willReturn(new SliceImpl<>(gameIdList));
-			// when, then
-			gameFindService.allGameListUser(mock(Pageable.class), "intraId", status);
+			// when
+			gameFindService.allGameListUser(mock(Pageable.class), "intraId", "END");
+			// then
+			verify(gameHistoryRepository, times(1)).findTeamsByGameIdIn(gameIdList);
+			verify(gameRepository, never())
+				.findGamesByUserAndModeInAndStatusIn(any(), anyList(), anyList(), any());
+		}
 
+		@Test
+		@DisplayName("success - LIVE")
+		void successLive() {
+			// given
+			given(gameRepository.findGamesByUserAndModeInAndStatusIn(any(), anyList(), anyList(), any()))
+				.willReturn(new SliceImpl<>(gameIdList));
+			// when
+			gameFindService.allGameListUser(mock(Pageable.class), "intraId", "LIVE");
+			// then
 			verify(gameRepository, times(1))
 				.findGamesByUserAndModeInAndStatusIn(any(), anyList(), anyList(), any());
+			verify(gameHistoryRepository, never()).findGameIdsByIntraIdAndModeIn(any(), anyList(), any());
+		}
+
+		@Test
+		@DisplayName("기록이 없으면 상세 조회를 하지 않는다")
+		void emptyHistory() {
+			// given
+			given(gameHistoryRepository.findGameIdsByIntraIdAndModeIn(any(), anyList(), any()))
+				.willReturn(new SliceImpl<>(new ArrayList<>()));
+			// when
+			gameFindService.allGameListUser(mock(Pageable.class), "intraId", "END");
+			// then
+			verify(gameHistoryRepository, never()).findTeamsByGameIdIn(anyList());
 		}
 	}
 
@@ -0,0 +1,156 @@
+package gg.pingpong.api.user.game.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.GameHistory;
+import gg.data.pingpong.game.Team;
+import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
+import gg.data.pingpong.game.type.StatusType;
+import gg.data.pingpong.rank.Tier;
+import gg.data.pingpong.rank.redis.RankRedis;
+import gg.data.pingpong.season.Season;
+import gg.data.user.User;
+import gg.pingpong.api.user.game.controller.request.NormalResultReqDto;
+import gg.pingpong.api.user.game.controller.request.RankResultReqDto;
+import gg.pingpong.api.user.game.controller.response.GameListResDto;
+import gg.pingpong.api.user.game.controller.response.GameResultResDto;
+import gg.repo.game.GameHistoryRepository;
+import gg.repo.game.GameRepository;
+import gg.repo.game.TeamRepository;
+import gg.repo.game.TeamUserRepository;
+import gg.repo.rank.TierRepository;
+import gg.repo.rank.redis.RankRedisRepository;
+import gg.utils.RedisKeyManager;
+import gg.utils.TestDataUtils;
+import gg.utils.annotation.IntegrationTest;
+import gg.utils.exception.tier.TierNotFoundException;
+
+@IntegrationTest
+@Transactional
+class GameHistoryServiceTest {
+	@Autowired
+	GameService gameService;
+	@Autowired
+	GameFindService gameFindService;
+	@Autowired
+	GameHistoryRepository gameHistoryRepository;
+	@Autowired
+	GameRepository gameRepository;
+	@Autowired
+	TeamRepository teamRepository;
+	@Autowired
+	TeamUserRepository teamUserRepository;
+	@Autowired
+	TierRepository tierRepository;
+	@Autowired
+	RankRedisRepository rankRedisRepository;
+	@Autowired
+	TestDataUtils testDataUtils;
+
+	Season season;
+	User user1;
+	User user2;
+	Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startTime"));
+
+	@BeforeEach
+	void init() {
+		testDataUtils.createTierSystem("pingpong");
+		season = testDataUtils.createSeason();
+		Tier tier = tierRepository.findStartTier().orElseThrow(TierNotFoundException::new);
+		user1 = testDataUtils.createNewUser();
+		user2 = testDataUtils.createNewUser();
+		String redisHashKey = RedisKeyManager.getHashKey(season.getId());
+		for (User user : new User[] {user1, user2}) {
+			testDataUtils.createUserRank(user, "status message", season);
+			rankRedisRepository.addRankData(redisHashKey, user.getId(), RankRedis.from(user.getId(),
+				user.getIntraId(), user.getTextColor(), season.getStartPpp(), tier.getImageUri()));
+		}
+	}
+
+	@AfterEach
+	void flushRedis() {
+		rankRedisRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("랭크 게임 결과를 입력하면 기록이 생기고 rankGameListByIntra 로 조회된다")
+	void recordRankResult() {
+		Game game = createGame(Mode.RANK, StatusType.LIVE, LocalDateTime.now().minusMinutes(10), -1, -1);
+		Long myTeamId = game.getTeams().get(0).getId();
+		Long enemyTeamId = game.getTeams().get(1).getId();
+
+		gameService.createRankResult(new RankResultReqDto(game.getId(), myTeamId, 2, enemyTeamId, 1),
+			user1.getId());
+
+		assertThat(gameHistoryRepository.findAllByGameId(game.getId())).hasSize(2);
+		GameListResDto result = gameFindService.rankGameListByIntra(pageable, season.getId(), user1.getIntraId());
+		assertThat(result.getGames()).hasSize(1);
+		GameResultResDto resultGame = result.getGames().get(0);
+		assertThat(resultGame.getGameId()).isEqualTo(game.getId());
+		assertThat(resultGame.getStatus()).isEqualTo(StatusType.END.name());
+		assertThat(resultGame.getTeam1().getScore()).isEqualTo(2);
+		assertThat(resultGame.getTeam1().getIsWin()).isTrue();
+		assertThat(resultGame.getTeam2().getScore()).isEqualTo(1);
+		assertThat(resultGame.getTeam2().getPlayers().get(0).getIntraId()).isEqualTo(user2.getIntraId());
+	}
+
+	@Test
+	@DisplayName("일반 게임 결과를 입력하면 기록이 생기고 normalGameListByIntra 로 조회된다")
+	void recordNormalResult() {
+		Game game = createGame(Mode.NORMAL, StatusType.LIVE, LocalDateTime.now().minusMinutes(10), 0, 0);
+		NormalResultReqDto reqDto = new NormalResultReqDto();
+		ReflectionTestUtils.setField(reqDto, "gameId", game.getId());
+
+		gameService.normalExpResult(reqDto, user1.getId());
+
+		GameListResDto result = gameFindService.normalGameListByIntra(pageable, user2.getIntraId());
+		assertThat(result.getGames()).extracting(GameResultResDto::getGameId).containsExactly(game.getId());
+		assertThat(result.getGames().get(0).getMode()).isEqualTo(Mode.NORMAL);
+	}
+
+	@Test
+	@DisplayName("insertMissingEndGames 는 기록이 없는 끝난 RANK, NORMAL 게임만 채운다")
+	void insertMissingEndGames() {
+		LocalDateTime startTime = LocalDateTime.now().minusDays(1);
+		Game recorded = testDataUtils.createMockMatch(user1, season, startTime, startTime.plusMinutes(15),
+			Mode.NORMAL);
+		Game missing = createGame(Mode.RANK, StatusType.END, startTime.minusHours(1), 2, 0);
+		Game tournament = createGame(Mode.TOURNAMENT, StatusType.END, startTime.minusHours(2), 2, 0);
+		Game live = createGame(Mode.RANK, StatusType.LIVE, LocalDateTime.now().minusMinutes(10), -1, -1);
+
+		int inserted = gameHistoryRepository.insertMissingEndGames();
+
+		assertThat(inserted).isGreaterThanOrEqualTo(2);
+		assertThat(gameHistoryRepository.findAllByGameId(recorded.getId())).hasSize(2);
+		assertThat(gameHistoryRepository.findAllByGameId(missing.getId()))
+			.extracting(GameHistory::getIntraId)
+			.containsExactlyInAnyOrder(user1.getIntraId(), user2.getIntraId());
+		assertThat(gameHistoryRepository.findAllByGameId(tournament.getId())).isEmpty();
+		assertThat(gameHistoryRepository.findAllByGameId(live.getId())).isEmpty();
+		assertThat(gameHistoryRepository.insertMissingEndGames()).isZero();
+	}
+
+	private Game createGame(Mode mode, StatusType status, LocalDateTime startTime, int score1, int score2) {
+		Game game = gameRepository.save(new Game(season, status, mode, startTime, startTime.plusMinutes(15)));
+		Team team1 = teamRepository.save(new Team(game, score1, score1 > score2));
+		Team team2 = teamRepository.save(new Team(game, score2, score2 > score1));
+		teamUserRepository.save(new TeamUser(team1, user1));
+		teamUserRepository.save(new TeamUser(team2, user2));
+		return game;
+	}
+}
@@ -0,0 +1,119 @@
+package gg.pingpong.api.user.game.service;
+
+import static gg.pingpong.api.utils.ReflectionUtilsForUnitTest.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.GameHistory;
+import gg.data.pingpong.game.Team;
+import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
+import gg.data.pingpong.game.type.StatusType;
+import gg.data.pingpong.season.Season;
+import gg.data.user.User;
+import gg.data.user.type.RacketType;
+import gg.data.user.type.RoleType;
+import gg.data.user.type.SnsType;
+import gg.repo.game.GameHistoryRepository;
+import gg.utils.annotation.UnitTest;
+
+@UnitTest
+class GameHistoryServiceUnitTest {
+	@Mock
+	GameHistoryRepository gameHistoryRepository;
+	@InjectMocks
+	GameHistoryService gameHistoryService;
+
+	Season season;
+	User me;
+	User enemy;
+
+	@BeforeEach
+	void beforeEach() {
+		season = new Season();
+		setFieldWithReflection(season, "id", 1L);
+		me = new User("me", "", "", RacketType.SHAKEHAND, RoleType.USER, 0, SnsType.NONE, 1L);
+		enemy = new User("enemy", "", "", RacketType.SHAKEHAND, RoleType.USER, 0, SnsType.NONE, 2L);
+		setFieldWithReflection(me, "id", 1L);
+		setFieldWithReflection(enemy, "id", 2L);
+	}
+
+	@Test
+	@DisplayName("기록이 없으면 두 유저의 기록을 저장한다")
+	void recordNew() {
+		Game game = game(Mode.RANK);
+		List<TeamUser> teamUsers = teamUsers(game, 2, 1);
+		given(gameHistoryRepository.findAllByGameId(game.getId())).willReturn(List.of());
+
+		gameHistoryService.record(game, teamUsers);
+
+		ArgumentCaptor<GameHistory> captor = ArgumentCaptor.forClass(GameHistory.class);
+		verify(gameHistoryRepository, times(2)).save(captor.capture());
+		assertThat(captor.getAllValues()).extracting(GameHistory::getIntraId).containsExactly("me", "enemy");
+		assertThat(captor.getAllValues()).extracting(GameHistory::getEnemyScore).containsExactly(1, 2);
+	}
+
+	@Test
+	@DisplayName("기록이 있으면 저장하지 않고 점수만 갱신한다")
+	void recordExisting() {
+		Game game = game(Mode.RANK);
+		List<TeamUser> before = teamUsers(game, 2, 1);
+		GameHistory myHistory = new GameHistory(game, before.get(0), before.get(1));
+		GameHistory enemyHistory = new GameHistory(game, before.get(1), before.get(0));
+		given(gameHistoryRepository.findAllByGameId(game.getId())).willReturn(List.of(myHistory, enemyHistory));
+
+		gameHistoryService.record(game, teamUsers(game, 0, 2));
+
+		verify(gameHistoryRepository, never()).save(any());
+		assertThat(myHistory.getScore()).isEqualTo(0);
+		assertThat(myHistory.getWin()).isFalse();
+		assertThat(enemyHistory.getScore()).isEqualTo(2);
+		assertThat(enemyHistory.getEnemyScore()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("토너먼트 게임은 기록하지 않는다")
+	void skipTournament() {
+		Game game = game(Mode.TOURNAMENT);
+
+		gameHistoryService.record(game, teamUsers(game, 2, 1));
+
+		verifyNoInteractions(gameHistoryRepository);
+	}
+
+	@Test
+	@DisplayName("backfill 은 기록이 없는 게임을 채운다")
+	void backfill() {
+		given(gameHistoryRepository.insertMissingEndGames()).willReturn(4);
+
+		gameHistoryService.backfill();
+
+		verify(gameHistoryRepository, times(1)).insertMissingEndGames();
+	}
+
+	private Game game(Mode mode) {
+		LocalDateTime startTime = LocalDateTime.now().minusMinutes(20);
+		Game game = new Game(season, StatusType.END, mode, startTime, startTime.plusMinutes(15));
+		setFieldWithReflection(game, "id", 1L);
+		return game;
+	}
+
+	private List<TeamUser> teamUsers(Game game, int myScore, int enemyScore) {
+		Team myTeam = new Team(game, myScore, myScore > enemyScore);
+		Team enemyTeam = new Team(game, enemyScore, enemyScore > myScore);
+		setFieldWithReflection(myTeam, "id", 1L);
+		setFieldWithReflection(enemyTeam, "id", 2L);
+		return List.of(new TeamUser(1L, myTeam, me), new TeamUser(2L, enemyTeam, enemy));
+	}
+}
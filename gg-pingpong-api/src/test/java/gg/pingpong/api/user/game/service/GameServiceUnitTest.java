@@ -22,20 +22,23 @@ import org.mockito.quality.Strictness;
 import gg.data.pingpong.game.Game;
 import gg.data.pingpong.game.Team;
 import gg.data.pingpong.game.TeamUser;
+import gg.data.pingpong.game.type.Mode;
 import gg.data.pingpong.game.type.StatusType;
 import gg.data.user.User;
 import gg.data.user.type.RacketType;
 import gg.data.user.type.RoleType;
 import gg.data.user.type.SnsType;
+import gg.pingpong.api.global.utils.ExpLevelCalculator;
 import gg.pingpong.api.user.game.controller.request.RankResultReqDto;
 import gg.pingpong.api.user.match.service.MatchTournamentService;
 import gg.pingpong.api.user.rank.redis.RankRedisService;
-import gg.pingpong.api.user.rank.service.TierService;
+import gg.pingpong.api.user.rank.service.RankSnapshotService;
 import gg.pingpong.api.user.store.service.UserCoinChangeService;
 import gg.repo.game.GameRepository;
 import gg.repo.game.PChangeRepository;
 import gg.repo.game.TeamUserRepository;
 import gg.repo.game.out.GameTeamUserInfo;
+import gg.repo.game.out.UserGameCount;
 import gg.repo.tournarment.TournamentGameRepository;
 import gg.utils.annotation.UnitTest;
 import gg.utils.exception.custom.InvalidParameterException;
@@ -58,11 +61,15 @@ class GameServiceUnitTest {
 	@Mock
 	UserCoinChangeService userCoinChangeService;
 	@Mock
-	TierService tierService;
-	@Mock
 	TournamentGameRepository tournamentGameRepository;
 	@Mock
 	MatchTournamentService matchTournamentService;
+	@Mock
+	RankSnapshotService rankSnapshotService;
+	@Mock
+	GameCacheService gameCacheService;
+	@Mock
+	GameHistoryService gameHistoryService;
 	@InjectMocks
 	GameService gameService;
 
@@ -160,6 +167,31 @@ class GameServiceUnitTest {
 			assertThat(result).isEqualTo(true);
 			assertThat(myTeam.getScore()).isEqualTo(scoreDto.getMyTeamScore());
 			assertThat(enemyTeam.getScore()).isEqualTo(scoreDto.getEnemyTeamScore());
+			verify(gameCacheService).evictGameLists(Mode.RANK, List.of(me.getIntraId(), enemy.getIntraId()));
+			verify(teamUserRepository, times(1)).countGamesByDateAndUserIds(any(), eq(List.of(1L, 2L)));
+			verify(gameHistoryService, times(1)).record(game, teams);
+		}
+
+		@Test
+		@DisplayName("오늘 끝낸 게임 수만큼 보너스 경험치를 더한다")
+		void bonusExp() {
+			// given
+			setFieldWithReflection(game, "status", StatusType.LIVE);
+			setFieldWithReflection(myTeam, "score", -1);
+			setFieldWithReflection(enemyTeam, "score", -1);
+			UserGameCount myGameCount = mock(UserGameCount.class);
+			given(myGameCount.getUserId()).willReturn(me.getId());
+			given(myGameCount.getGameCount()).willReturn(2L);
+			given(gameFindService.findGameWithPessimisticLockById(scoreDto.getGameId())).willReturn(game);
+			given(teamUserRepository.findAllByGameId(game.getId())).willReturn(teams);
+			given(teamUserRepository.countGamesByDateAndUserIds(any(), eq(List.of(1L, 2L))))
+				.willReturn(List.of(myGameCount));
+			// when
+			gameService.createRankResult(scoreDto, me.getId());
+			// then
+			assertThat(me.getTotalExp())
+				.isEqualTo(ExpLevelCalculator.getExpPerGame() + ExpLevelCalculator.getExpBonus() * 2);
+			assertThat(enemy.getTotalExp()).isEqualTo(ExpLevelCalculator.getExpPerGame());
 		}
 
 		@ParameterizedTest
@@ -87,13 +87,13 @@ public class GameStatusServiceTest {
 		System.out.println("g1.startTime: " + game1.getStartTime());
 		System.out.println(game1.getStatus());
 		gameStatusService.updateBeforeToLiveStatus();
-		assertThat(game1.getStatus()).isEqualTo(StatusType.LIVE);
+		assertThat(gameRepository.findById(game1.getId()).get().getStatus()).isEqualTo(StatusType.LIVE);
 	}
 
 	@Test
 	void gameLiveStatusChange() throws Exception {
 		gameStatusService.updateLiveToWaitStatus();
-		assertThat(liveGame.getStatus()).isEqualTo(StatusType.WAIT);
+		assertThat(gameRepository.findById(liveGame.getId()).get().getStatus()).isEqualTo(StatusType.WAIT);
 	}
 
 	@Test
@@ -107,6 +107,6 @@ public class GameStatusServiceTest {
 			.build();
 		slotManagementRepository.save(slotManagement);
 		System.out.println("==============");
-		gameStatusService.imminentGame();
+		gameStatusService.imminentGame(game1.getStartTime().minusMinutes(slotManagement.getOpenMinute()));
 	}
 }
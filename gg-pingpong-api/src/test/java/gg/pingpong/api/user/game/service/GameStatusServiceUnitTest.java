@@ -3,6 +3,7 @@ package gg.pingpong.api.user.game.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,7 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.type.StatusType;
 import gg.data.pingpong.manage.SlotManagement;
 import gg.pingpong.api.user.noti.service.NotiService;
 import gg.pingpong.api.user.noti.service.SnsNotiService;
@@ -42,53 +43,90 @@ class GameStatusServiceUnitTest {
 	UserService userService;
 	@Mock
 	SlotManagementRepository slotManagementRepository;
+	@Mock
+	GameCacheService gameCacheService;
 	@InjectMocks
 	GameStatusService gameStatusService;
 
-	List<Game> gameList;
+	List<Long> gameIds;
 	List<GameUser> gameUserList;
 
 	@BeforeEach
 	void beforeEach() {
-		gameList = new ArrayList<>(List.of(mock(Game.class), mock(Game.class), mock(Game.class)));
+		gameIds = new ArrayList<>(List.of(1L, 2L, 3L));
 		gameUserList = new ArrayList<>();
 	}
 
 	@Nested
 	@DisplayName("updateBeforeToLiveStatus 메서드 유닛 테스트")
 	class UpdateBeforeToLiveStatus {
-		@BeforeEach
-		void beforeEach() {
+		@Test
+		@DisplayName("success")
+		void success() {
 			// given
-			given(gameRepository.findAllByStatusAndStartTimeLessThanEqual(any(), any()))
-				.willReturn(gameList);
+			given(gameRepository.findIdsByStatusAndStartTimeLessThanEqual(any(), any()))
+				.willReturn(gameIds);
+			// when, then
+			gameStatusService.updateBeforeToLiveStatus();
+			verify(gameRepository, times(1)).findIdsByStatusAndStartTimeLessThanEqual(any(), any());
+			verify(gameRepository, times(1)).updateStatusByIds(gameIds, StatusType.BEFORE, StatusType.LIVE);
+			verify(gameCacheService, times(1)).evictLiveGameLists();
 		}
 
 		@Test
-		@DisplayName("success")
-		void success() {
+		@DisplayName("바꿀 게임이 없으면 update 하지 않는다")
+		void empty() {
+			// given
+			given(gameRepository.findIdsByStatusAndStartTimeLessThanEqual(any(), any()))
+				.willReturn(List.of());
 			// when, then
 			gameStatusService.updateBeforeToLiveStatus();
-			verify(gameRepository, times(1)).findAllByStatusAndStartTimeLessThanEqual(any(), any());
+			verify(gameRepository, never()).updateStatusByIds(any(), any(), any());
+			verify(gameCacheService, never()).evictLiveGameLists();
 		}
 	}
 
 	@Nested
 	@DisplayName("updateLiveToWaitStatus 메서드 유닛 테스트")
 	class UpdateLiveToWaitStatus {
-		@BeforeEach
-		void beforeEach() {
+		@Test
+		@DisplayName("success")
+		void success() {
 			// given
-			given(gameRepository.findAllByStatusAndEndTimeLessThanEqual(any(), any()))
-				.willReturn(gameList);
+			given(gameRepository.findIdsByStatusAndEndTimeLessThanEqual(any(), any()))
+				.willReturn(gameIds);
+			// when, then
+			gameStatusService.updateLiveToWaitStatus();
+			verify(gameRepository, times(1)).findIdsByStatusAndEndTimeLessThanEqual(any(), any());
+			verify(gameRepository, times(1)).updateStatusByIds(gameIds, StatusType.LIVE, StatusType.WAIT);
+			verify(gameCacheService, times(1)).evictLiveGameLists();
 		}
+	}
 
+	@Nested
+	@DisplayName("findNextStatusChangeTime 메서드 유닛 테스트")
+	class FindNextStatusChangeTime {
 		@Test
-		@DisplayName("success")
+		@DisplayName("시작 시간과 종료 1분 전 중 빠른 시간")
 		void success() {
+			// given
+			LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+			given(gameRepository.findFirstStartTimeByStatus(StatusType.BEFORE))
+				.willReturn(Optional.of(now.plusMinutes(15)));
+			given(gameRepository.findFirstEndTimeByStatus(StatusType.LIVE))
+				.willReturn(Optional.of(now.plusMinutes(10)));
 			// when, then
-			gameStatusService.updateLiveToWaitStatus();
-			verify(gameRepository, times(1)).findAllByStatusAndEndTimeLessThanEqual(any(), any());
+			assertThat(gameStatusService.findNextStatusChangeTime()).contains(now.plusMinutes(9));
+		}
+
+		@Test
+		@DisplayName("바꿀 게임이 없으면 empty")
+		void empty() {
+			// given
+			given(gameRepository.findFirstStartTimeByStatus(StatusType.BEFORE)).willReturn(Optional.empty());
+			given(gameRepository.findFirstEndTimeByStatus(StatusType.LIVE)).willReturn(Optional.empty());
+			// when, then
+			assertThat(gameStatusService.findNextStatusChangeTime()).isEmpty();
 		}
 	}
 
@@ -100,7 +138,7 @@ class GameStatusServiceUnitTest {
 		void beforeEach() {
 			// given
 			given(slotManagementRepository.findCurrent(any())).willReturn(Optional.of(mock(SlotManagement.class)));
-			given(gameRepository.findAllByStartTimeLessThanEqual(any())).willReturn(gameUserList);
+			given(gameRepository.findAllByStartTime(any())).willReturn(gameUserList);
 		}
 
 		@ParameterizedTest
@@ -112,9 +150,9 @@ class GameStatusServiceUnitTest {
 				gameUserList.add(mock(GameUser.class));
 			}
 			// when, then
-			gameStatusService.imminentGame();
+			gameStatusService.imminentGame(LocalDateTime.now());
 			verify(slotManagementRepository, times(1)).findCurrent(any());
-			verify(gameRepository, times(1)).findAllByStartTimeLessThanEqual(any());
+			verify(gameRepository, times(1)).findAllByStartTime(any());
 		}
 
 		@ParameterizedTest
@@ -126,7 +164,7 @@ class GameStatusServiceUnitTest {
 				gameUserList.add(mock(GameUser.class));
 			}
 			// when, then
-			assertThatThrownBy(() -> gameStatusService.imminentGame())
+			assertThatThrownBy(() -> gameStatusService.imminentGame(LocalDateTime.now()))
 				.isInstanceOf(GameDataConsistencyException.class);
 		}
 
@@ -136,7 +174,7 @@ class GameStatusServiceUnitTest {
 			// given
 			given(slotManagementRepository.findCurrent(any())).willReturn(Optional.empty());
 			// when, then
-			assertThatThrownBy(() -> gameStatusService.imminentGame())
+			assertThatThrownBy(() -> gameStatusService.imminentGame(LocalDateTime.now()))
 				.isInstanceOf(SlotNotFoundException.class);
 		}
 	}
@@ -55,6 +55,8 @@ class MatchBothServiceTest {
 	@Autowired
 	RedisConnectionFactory redisConnectionFactory;
 	@Autowired
+	SlotBoardCache slotBoardCache;
+	@Autowired
 	RedisTemplate<String, Object> redisTemplate;
 	@Autowired
 	MatchIntegrationTestUtils matchTestSetting;
@@ -104,6 +106,7 @@ class MatchBothServiceTest {
 		RedisConnection connection = redisConnectionFactory.getConnection();
 		connection.flushDb();
 		connection.close();
+		slotBoardCache.evict();
 	}
 
 	@DisplayName("both 매칭 시뮬레이션")
@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,11 +32,11 @@ import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.rank.redis.RankRedis;
 import gg.data.pingpong.season.Season;
 import gg.data.user.User;
+import gg.pingpong.api.user.match.service.SlotBoardCache.SlotBoard;
 import gg.pingpong.api.user.match.utils.SlotGenerator;
 import gg.pingpong.api.user.season.service.SeasonFindService;
 import gg.repo.game.GameRepository;
 import gg.repo.manage.SlotManagementRepository;
-import gg.repo.match.RedisMatchTimeRepository;
 import gg.repo.match.RedisMatchUserRepository;
 import gg.repo.rank.TierRepository;
 import gg.repo.rank.redis.RankRedisRepository;
@@ -70,9 +71,9 @@ public class MatchFindServiceUnitTest {
 	@Mock
 	private RankRedisRepository rankRedisRepository;
 	@Mock
-	private RedisMatchTimeRepository redisMatchTimeRepository;
-	@Mock
 	private TierRepository tierRepository;
+	@Mock
+	private SlotBoardCache slotBoardCache;
 
 	@BeforeEach
 	public void init() {
@@ -152,8 +153,8 @@ public class MatchFindServiceUnitTest {
 				Optional.of(slotManagement));
 			given(seasonFindService.findCurrentSeason(any(LocalDateTime.class))).willReturn(season);
 			given(tierRepository.findStartTier()).willReturn(Optional.of(tier));
-			List<Game> games = List.of();       // TODO 수정? 또는 slogGenerator에서 검증?
-			given(gameRepository.findAllBetween(any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(games);
+			SlotBoard slotBoard = new SlotBoard(Set.of(), Map.of(LocalDateTime.now().plusHours(1), List.of()));
+			given(slotBoardCache.get(any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(slotBoard);
 		}
 
 		@AfterEach
@@ -161,7 +162,7 @@ public class MatchFindServiceUnitTest {
 			verify(slotManagementRepository, times(1)).findCurrent(any(LocalDateTime.class));
 			verify(seasonFindService, times(1)).findCurrentSeason(any(LocalDateTime.class));
 			verify(tierRepository, times(1)).findStartTier();
-			verify(gameRepository, times(1)).findAllBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+			verify(slotBoardCache, times(1)).get(any(LocalDateTime.class), any(LocalDateTime.class));
 		}
 
 		@Test
@@ -177,11 +178,8 @@ public class MatchFindServiceUnitTest {
 				redisUser);       // guest가 아닌 유저일 경우
 			given(gameRepository.findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(user).getId())).willReturn(
 				Optional.empty());
-			given(redisMatchTimeRepository.getAllEnrolledStartTimes()).willReturn(Set.of(LocalDateTime.now()));
 			given(redisMatchUserRepository.getAllMatchTime(slotGenerator.getMatchUser().getUserId())).willReturn(
 				Set.of());
-			given(redisMatchTimeRepository.getAllMatchUsers(any(LocalDateTime.class))).willReturn(
-				List.of());   // TODO 수정
 
 			// when
 			matchFindService.getAllMatchStatus(userDto, Option.BOTH);
@@ -189,9 +187,7 @@ public class MatchFindServiceUnitTest {
 			// then
 			verify(rankRedisRepository, times(1)).findRankByUserId(hashKey, user.getId());
 			verify(gameRepository, times(1)).findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(user).getId());
-			verify(redisMatchTimeRepository, times(1)).getAllEnrolledStartTimes();
 			verify(redisMatchUserRepository, times(1)).getAllMatchTime(slotGenerator.getMatchUser().getUserId());
-			verify(redisMatchTimeRepository, times(1)).getAllMatchUsers(any(LocalDateTime.class));
 
 			// TODO slotGenerator 검증 (response dto)
 		}
@@ -206,20 +202,15 @@ public class MatchFindServiceUnitTest {
 			slotGenerator = new SlotGenerator(redisUser, slotManagement, season, Option.BOTH);
 			given(gameRepository.findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(guest).getId())).willReturn(
 				Optional.empty());
-			given(redisMatchTimeRepository.getAllEnrolledStartTimes()).willReturn(Set.of(LocalDateTime.now()));
 			given(redisMatchUserRepository.getAllMatchTime(slotGenerator.getMatchUser().getUserId())).willReturn(
 				Set.of());
-			given(redisMatchTimeRepository.getAllMatchUsers(any(LocalDateTime.class))).willReturn(
-				List.of());   // TODO 수정
 
 			// when
 			matchFindService.getAllMatchStatus(UserDto.from(guest), Option.BOTH);
 
 			// then
 			verify(gameRepository, times(1)).findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(guest).getId());
-			verify(redisMatchTimeRepository, times(1)).getAllEnrolledStartTimes();
 			verify(redisMatchUserRepository, times(1)).getAllMatchTime(slotGenerator.getMatchUser().getUserId());
-			verify(redisMatchTimeRepository, times(1)).getAllMatchUsers(any(LocalDateTime.class));
 		}
 
 		@Test
@@ -237,9 +228,6 @@ public class MatchFindServiceUnitTest {
 			given(rankRedisRepository.findRankByUserId(hashKey, user.getId())).willReturn(redisUser);
 			given(gameRepository.findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(user).getId())).willReturn(
 				Optional.of(game));
-			given(redisMatchTimeRepository.getAllEnrolledStartTimes()).willReturn(Set.of(LocalDateTime.now()));
-			given(redisMatchTimeRepository.getAllMatchUsers(any(LocalDateTime.class))).willReturn(
-				List.of());   // TODO 수정
 
 			// when
 			matchFindService.getAllMatchStatus(userDto, Option.BOTH);
@@ -247,8 +235,6 @@ public class MatchFindServiceUnitTest {
 			// then
 			verify(rankRedisRepository, times(1)).findRankByUserId(hashKey, user.getId());
 			verify(gameRepository, times(1)).findByStatusTypeAndUserId(StatusType.BEFORE, UserDto.from(user).getId());
-			verify(redisMatchTimeRepository, times(1)).getAllEnrolledStartTimes();
-			verify(redisMatchTimeRepository, times(1)).getAllMatchUsers(any(LocalDateTime.class));
 		}
 	}
 }
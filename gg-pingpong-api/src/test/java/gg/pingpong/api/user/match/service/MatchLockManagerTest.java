@@ -0,0 +1,150 @@
+package gg.pingpong.api.user.match.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import gg.data.pingpong.match.type.MatchKey;
+import gg.pingpong.api.user.match.service.MatchLockManager.MatchLock;
+import gg.utils.annotation.IntegrationTest;
+import gg.utils.exception.match.SlotBusyException;
+
+@IntegrationTest
+class MatchLockManagerTest {
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+
+	MatchLockManager server1;
+	MatchLockManager server2;
+	LocalDateTime slot = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+	@BeforeEach
+	void init() {
+		// 같은 redis 를 사용하는 두 서버
+		server1 = new MatchLockManager(stringRedisTemplate);
+		server2 = new MatchLockManager(stringRedisTemplate);
+	}
+
+	@AfterEach
+	void clear() {
+		stringRedisTemplate.delete(stringRedisTemplate.keys(MatchKey.LOCK + "*"));
+	}
+
+	@Test
+	@DisplayName("같은 슬롯 요청은 서버가 달라도 하나씩 처리된다")
+	void sameSlotIsSerialized() throws Exception {
+		int threadCount = 8;
+		int repeat = 25;
+		AtomicInteger counter = new AtomicInteger();
+		AtomicInteger succeeded = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			MatchLockManager server = i % 2 == 0 ? server1 : server2;
+			Long userId = (long)i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < repeat; j++) {
+					try (MatchLock lock = server.lock(MatchKey.getTimeLock(slot), MatchKey.getUserLock(userId))) {
+						// lock 이 없으면 증가분이 유실된다
+						int read = counter.get();
+						Thread.yield();
+						counter.set(read + 1);
+						succeeded.incrementAndGet();
+					} catch (SlotBusyException e) {
+						// 대기 시간 초과는 유실이 아니므로 무시
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(succeeded.get()).isPositive();
+		assertThat(counter.get()).isEqualTo(succeeded.get());
+		assertThat(stringRedisTemplate.keys(MatchKey.LOCK + "*")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 슬롯은 기다리지 않고 lock 을 잡는다")
+	void differentSlotIsNotBlocked() {
+		try (MatchLock lock = server1.lock(MatchKey.getTimeLock(slot))) {
+			long begin = System.currentTimeMillis();
+			try (MatchLock other = server2.lock(MatchKey.getTimeLock(slot.plusMinutes(15)))) {
+				assertThat(System.currentTimeMillis() - begin).isLessThan(1_000L);
+				assertThat(other.tryLock(MatchKey.getTimeLock(slot))).isFalse();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("hashCode 가 같은 다른 이름의 lock 은 서로 기다리지 않는다")
+	void sameHashCodeIsNotBlocked() throws Exception {
+		String name = MatchKey.LOCK + "Aa";
+		String sameHashCodeName = MatchKey.LOCK + "BB";
+		assertThat(name.hashCode()).isEqualTo(sameHashCodeName.hashCode());
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (MatchLock lock = server1.lock(name)) {
+			long begin = System.currentTimeMillis();
+			executor.submit(() -> server1.lock(sameHashCodeName).close()).get(5, TimeUnit.SECONDS);
+			assertThat(System.currentTimeMillis() - begin).isLessThan(1_000L);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("매칭 상대 lock 은 대기 시간 안에 풀리면 잡는다")
+	void tryLockUntilDeadline() throws Exception {
+		CountDownLatch locked = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<?> enemy = executor.submit(() -> {
+			try (MatchLock lock = server1.lock(MatchKey.getUserLock(2L))) {
+				locked.countDown();
+				Thread.sleep(200L);
+			}
+			return null;
+		});
+		try (MatchLock lock = server1.lock(MatchKey.getTimeLock(slot), MatchKey.getUserLock(1L))) {
+			locked.await(5, TimeUnit.SECONDS);
+			assertThat(lock.tryLock(MatchKey.getUserLock(2L))).isFalse();
+			assertThat(lock.tryLockUntilDeadline(MatchKey.getUserLock(2L))).isTrue();
+		} finally {
+			enemy.get(5, TimeUnit.SECONDS);
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("lock 을 닫으면 redis key 도 지워진다")
+	void releaseOnClose() {
+		try (MatchLock lock = server1.lock(MatchKey.getTimeLock(slot), MatchKey.getUserLock(1L))) {
+			assertThat(lock.tryLock(MatchKey.getUserLock(2L))).isTrue();
+			assertThat(stringRedisTemplate.keys(MatchKey.LOCK + "*")).hasSize(3);
+		}
+		assertThat(stringRedisTemplate.keys(MatchKey.LOCK + "*")).isEmpty();
+		try (MatchLock lock = server2.lock(MatchKey.getTimeLock(slot))) {
+			assertThat(lock.tryLock(MatchKey.getUserLock(1L))).isTrue();
+		}
+	}
+}
@@ -80,6 +80,8 @@ class MatchServiceTest {
 	@Autowired
 	RedisConnectionFactory redisConnectionFactory;
 	@Autowired
+	SlotBoardCache slotBoardCache;
+	@Autowired
 	RedisTemplate<String, Object> redisTemplate;
 	@Autowired
 	MatchIntegrationTestUtils matchTestSetting;
@@ -132,6 +134,7 @@ class MatchServiceTest {
 		RedisConnection connection = redisConnectionFactory.getConnection();
 		connection.flushDb();
 		connection.close();
+		slotBoardCache.evict();
 	}
 
 	@Nested
@@ -349,6 +352,19 @@ class MatchServiceTest {
 
 		}
 
+		@DisplayName("큐가 비면 등록 시간 인덱스에서도 제거")
+		@Test
+		void removeEnrolledTimeIndexWhenQueueIsEmpty() {
+			matchService.makeMatch(UserDto.from(users.get(0)), Option.NORMAL, slotTimes.get(0));
+			Assertions.assertThat(redisMatchTimeRepository.getAllEnrolledStartTimes()).contains(slotTimes.get(0));
+			Assertions.assertThat(redisMatchUserRepository.getAllMatchTime(users.get(0).getId())).hasSize(1);
+
+			matchService.cancelMatch(UserDto.from(users.get(0)), slotTimes.get(0));
+			Assertions.assertThat(redisMatchTimeRepository.getAllEnrolledStartTimes())
+				.doesNotContain(slotTimes.get(0));
+			Assertions.assertThat(redisMatchUserRepository.countMatchTime(users.get(0).getId())).isEqualTo(0);
+		}
+
 		@Test
 		@DisplayName("토너먼트 게임 취소 테스트")
 		void cancelMatchedTournamentGame() {
@@ -38,6 +38,7 @@ import gg.data.pingpong.tournament.type.TournamentStatus;
 import gg.data.user.User;
 import gg.pingpong.api.admin.noti.controller.request.SendNotiAdminRequestDto;
 import gg.pingpong.api.admin.noti.service.NotiAdminService;
+import gg.pingpong.api.global.scheduler.GameStatusTimer;
 import gg.pingpong.api.user.match.utils.GameTestUtils;
 import gg.pingpong.api.user.match.utils.TournamentTestUtils;
 import gg.pingpong.api.user.match.utils.UserTestUtils;
@@ -64,6 +65,8 @@ public class MatchTournamentServiceUnitTest {
 	private SeasonFindService seasonFindService;
 	@Mock
 	private NotiAdminService notiAdminService;
+	@Mock
+	private GameStatusTimer gameStatusTimer;
 	private static final Season season = Season.builder().startTime(LocalDateTime.now()).startPpp(123).build();
 	private static Long gameId;
 	private static Long tournamentGameId;
@@ -233,6 +236,7 @@ public class MatchTournamentServiceUnitTest {
 
 			// then
 			verify(gameRepository, times(SEMI_FINAL.getRound() / 2)).save(any(Game.class));
+			verify(gameStatusTimer, times(1)).wakeUp();
 			verify(notiAdminService, times(SEMI_FINAL.getRound())).sendAnnounceNotiToUser(
 				any(SendNotiAdminRequestDto.class));
 			List<TournamentGame> semiGames = getTournamentGamesByRoundNum(tournament, SEMI_FINAL);
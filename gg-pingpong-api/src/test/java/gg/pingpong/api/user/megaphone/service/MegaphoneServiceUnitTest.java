@@ -214,10 +214,11 @@ class MegaphoneServiceUnitTest {
 			assertThat(waitList.get(0).getReceipt().getStatus()).isEqualTo(ItemStatus.USING);
 			verify(megaphoneRepository, times(1))
 				.findAllByUsedAtAndReceiptStatus(LocalDate.now(), ItemStatus.USING);
-			verify(megaphoneRedisRepository, times(1)).deleteAllMegaphone();
+			verify(megaphoneRedisRepository, times(1)).deleteAllMegaphone(LocalDate.now().plusDays(1));
 			verify(megaphoneRepository, times(1))
 				.findAllByUsedAtAndReceiptStatus(LocalDate.now().plusDays(1), ItemStatus.WAITING);
-			verify(megaphoneRedisRepository, times(waitList.size())).addMegaphone(any());
+			verify(megaphoneRedisRepository, times(1))
+				.addAllMegaphone(eq(LocalDate.now().plusDays(1)), argThat(list -> list.size() == waitList.size()));
 		}
 	}
 
@@ -251,7 +252,7 @@ class MegaphoneServiceUnitTest {
 			verify(megaphoneRepository, times(3)).findById(any(Long.class));
 			verify(itemService, times(1)).checkItemOwner(any(), any());
 			verify(itemService, times(3)).checkItemStatus(any());
-			verify(megaphoneRedisRepository, times(1)).deleteMegaphoneById(any());
+			verify(megaphoneRedisRepository, times(1)).deleteMegaphoneById(any(), any());
 		}
 
 		@Test
@@ -357,10 +358,10 @@ class MegaphoneServiceUnitTest {
 		@DisplayName("success")
 		void success() {
 			// given
-			given(megaphoneRedisRepository.getAllMegaphone()).willReturn(new ArrayList<>());
+			given(megaphoneRedisRepository.getAllMegaphone(any())).willReturn(new ArrayList<>());
 			// when, then
 			megaphoneService.getMegaphoneTodayList();
-			verify(megaphoneRedisRepository, times(1)).getAllMegaphone();
+			verify(megaphoneRedisRepository, times(1)).getAllMegaphone(LocalDate.now());
 		}
 	}
 }
@@ -16,13 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import gg.auth.UserDto;
 import gg.auth.utils.AuthTokenProvider;
 import gg.data.noti.Noti;
 import gg.data.noti.type.NotiType;
 import gg.data.user.User;
-import gg.pingpong.api.user.noti.controller.response.NotiListResponseDto;
-import gg.pingpong.api.user.noti.service.NotiService;
+import gg.pingpong.api.user.noti.controller.response.NotiFindByUserResponseDto;
+import gg.pingpong.api.user.noti.controller.response.NotiResponseDto;
 import gg.repo.noti.NotiRepository;
 import gg.repo.user.UserRepository;
 import gg.utils.TestDataUtils;
@@ -44,8 +43,6 @@ class NotiControllerTest {
 	@Autowired
 	NotiRepository notiRepository;
 	@Autowired
-	private NotiService notiService;
-	@Autowired
 	private MockMvc mockMvc;
 	@Autowired
 	private ObjectMapper objectMapper;
@@ -57,18 +54,32 @@ class NotiControllerTest {
 		//given
 		String accessToken = testDataUtils.getLoginAccessToken();
 		Long userId = tokenProvider.getUserIdFromAccessToken(accessToken);
-		String url = "/pingpong/notifications";
+		String url = "/pingpong/notifications?size=2";
+		User user = userRepository.findById(userId).get();
 
-		UserDto userDto = UserDto.from(userRepository.getById(userId));
-		NotiListResponseDto expectedResponse = new NotiListResponseDto(notiService.findNotiByUser(userDto));
+		Noti oldest = notiRepository.save(new Noti(user, NotiType.ANNOUNCE, "announce", false));
+		Noti middle = notiRepository.save(new Noti(user, NotiType.MATCHED, "matched", false));
+		Noti newest = notiRepository.save(new Noti(user, NotiType.IMMINENT, "imminent", true));
 		//when
 		String contentAsString = mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
 			.andExpect(status().isOk())
 			.andReturn().getResponse().getContentAsString();
-		NotiListResponseDto actureResponse = objectMapper.readValue(contentAsString, NotiListResponseDto.class);
+		NotiFindByUserResponseDto firstPage = objectMapper.readValue(contentAsString,
+			NotiFindByUserResponseDto.class);
+		contentAsString = mockMvc.perform(get(url + "&cursor=" + firstPage.getNextCursor())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		NotiFindByUserResponseDto lastPage = objectMapper.readValue(contentAsString,
+			NotiFindByUserResponseDto.class);
 
 		//then
-		assertThat(actureResponse).isEqualTo(expectedResponse);
+		assertThat(firstPage.getNotifications()).extracting(NotiResponseDto::getId)
+			.containsExactly(newest.getId(), middle.getId());
+		assertThat(firstPage.getNextCursor()).isEqualTo(middle.getId());
+		assertThat(lastPage.getNotifications()).extracting(NotiResponseDto::getId)
+			.containsExactly(oldest.getId());
+		assertThat(lastPage.getNextCursor()).isNull();
 	}
 
 	@Test
@@ -15,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import gg.auth.UserDto;
 import gg.data.noti.Noti;
@@ -23,6 +25,7 @@ import gg.data.user.User;
 import gg.data.user.type.RacketType;
 import gg.data.user.type.RoleType;
 import gg.data.user.type.SnsType;
+import gg.pingpong.api.user.noti.controller.response.NotiFindByUserResponseDto;
 import gg.repo.noti.NotiRepository;
 import gg.repo.user.UserRepository;
 import gg.utils.annotation.UnitTest;
@@ -53,12 +56,14 @@ class NotiServiceUnitTest {
 			User user = new User("username", "email@example.com", "password", RacketType.NONE,
 				RoleType.USER, 0, SnsType.NONE, userId);
 			when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-			when(notiRepository.findAllByUserOrderByIdDesc(user)).thenReturn(List.of(new Noti()));
+			when(notiRepository.findPageByUserId(any(), any(Long.class), any(Pageable.class)))
+				.thenReturn(List.of(new Noti()));
 			//when
-			notiService.findNotiByUser(userDto);
+			NotiFindByUserResponseDto response = notiService.findNotiByUser(userDto, null, 20);
 			//then
 			verify(userRepository, times(1)).findById(userId);
-			verify(notiRepository, times(1)).findAllByUserOrderByIdDesc(user);
+			verify(notiRepository, times(1)).findPageByUserId(any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 21)));
+			assertThat(response.getNextCursor()).isNull();
 		}
 
 		@Test
@@ -68,10 +73,10 @@ class NotiServiceUnitTest {
 			UserDto userDto = mock(UserDto.class);
 			when(userRepository.findById(any(Long.class))).thenReturn(Optional.empty());
 			//when, then
-			assertThatThrownBy(() -> notiService.findNotiByUser(userDto))
+			assertThatThrownBy(() -> notiService.findNotiByUser(userDto, null, 20))
 				.isInstanceOf(UserNotFoundException.class);
 			verify(userRepository, times(1)).findById(any(Long.class));
-			verify(notiRepository, never()).findAllByUserOrderByIdDesc(any(User.class));
+			verify(notiRepository, never()).findPageByUserId(any(), any(Long.class), any(Pageable.class));
 
 		}
 	}
@@ -142,14 +147,14 @@ class NotiServiceUnitTest {
 			when(userDto.getId()).thenReturn(userId);
 			User user = new User("username", "email@example.com", "password",
 				RacketType.NONE, RoleType.USER, 0, SnsType.NONE, userId);
-			List<Noti> notis = List.of(new Noti());
-			given(userRepository.findById(any(Long.class))).willReturn(Optional.of(mock(User.class)));
-			given(notiRepository.findAllByUser(any(User.class))).willReturn(notis);
+			given(userRepository.findById(any(Long.class))).willReturn(Optional.of(user));
+			given(notiRepository.updateAllCheckedByUserId(any(), any(LocalDateTime.class))).willReturn(1);
 			//when
 			notiService.modifyNotiCheckedByUser(userDto);
 			//then
 			verify(userRepository, times(1)).findById(any(Long.class));
-			verify(notiRepository, times(1)).findAllByUser(any(User.class));
+			verify(notiRepository, times(1)).updateAllCheckedByUserId(any(), any(LocalDateTime.class));
+			verify(notiRepository, never()).findAllByUser(any(User.class));
 		}
 
 		@Test
@@ -164,7 +169,7 @@ class NotiServiceUnitTest {
 			assertThatThrownBy(() -> notiService.modifyNotiCheckedByUser(userDto))
 				.isInstanceOf(UserNotFoundException.class);
 			verify(userRepository, times(1)).findById(any(Long.class));
-			verify(notiRepository, never()).findAllByUser(any(User.class));
+			verify(notiRepository, never()).updateAllCheckedByUserId(any(), any(LocalDateTime.class));
 		}
 	}
 
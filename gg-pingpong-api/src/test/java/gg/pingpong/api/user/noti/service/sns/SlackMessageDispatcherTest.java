@@ -0,0 +1,214 @@
+package gg.pingpong.api.user.noti.service.sns;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import gg.utils.annotation.IntegrationTest;
+import gg.utils.external.ApiUtil;
+import gg.utils.sns.slack.SlackIdCache;
+import gg.utils.sns.slack.SlackMessageDispatcher;
+import gg.utils.sns.slack.SlackbotApiUtils;
+
+@IntegrationTest
+class SlackMessageDispatcherTest {
+	@Autowired
+	StringRedisTemplate stringRedisTemplate;
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	HttpServer slack;
+	SlackbotApiUtils slackbotApiUtils;
+	SlackMessageDispatcher dispatcher;
+
+	AtomicInteger lookupCount = new AtomicInteger();
+	AtomicInteger openCount = new AtomicInteger();
+	List<Map<String, String>> posts = new CopyOnWriteArrayList<>();
+	// 0 이상이면 해당 순서의 chat.postMessage 에 429 를 응답한다
+	volatile int rateLimitedPost = -1;
+	CountDownLatch firstPostArrived = new CountDownLatch(1);
+	volatile CountDownLatch releaseFirstPost = new CountDownLatch(0);
+
+	@BeforeEach
+	void init() throws IOException {
+		slack = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		slack.setExecutor(Executors.newCachedThreadPool());
+		slack.createContext("/users.lookupByEmail", exchange -> {
+			lookupCount.incrementAndGet();
+			String email = URLDecoder.decode(read(exchange).split("=")[1], StandardCharsets.UTF_8);
+			respond(exchange, 200, "{\"ok\":true,\"user\":{\"id\":\"U_" + email.split("@")[0] + "\"}}");
+		});
+		slack.createContext("/conversations.open", exchange -> {
+			openCount.incrementAndGet();
+			Map<String, String> body = objectMapper.readValue(read(exchange), new TypeReference<>() {
+			});
+			respond(exchange, 200, "{\"ok\":true,\"channel\":{\"id\":\"D_" + body.get("users") + "\"}}");
+		});
+		slack.createContext("/chat.postMessage", exchange -> {
+			Map<String, String> body = objectMapper.readValue(read(exchange), new TypeReference<>() {
+			});
+			firstPostArrived.countDown();
+			try {
+				releaseFirstPost.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (posts.size() == rateLimitedPost) {
+				rateLimitedPost = -1;
+				exchange.getResponseHeaders().add("Retry-After", "1");
+				respond(exchange, 429, "{\"ok\":false,\"error\":\"ratelimited\"}");
+				return;
+			}
+			posts.add(body);
+			respond(exchange, 200, "{\"ok\":true}");
+		});
+		slack.start();
+
+		slackbotApiUtils = new SlackbotApiUtils(new ApiUtil(objectMapper, new RestTemplateBuilder()));
+		ReflectionTestUtils.setField(slackbotApiUtils, "authenticationToken", "dummy");
+		ReflectionTestUtils.setField(slackbotApiUtils, "apiUrl",
+			"http://localhost:" + slack.getAddress().getPort());
+		dispatcher = newDispatcher();
+	}
+
+	@AfterEach
+	void clear() {
+		dispatcher.shutdown();
+		slack.stop(0);
+		stringRedisTemplate.delete(stringRedisTemplate.keys("slack:*"));
+	}
+
+	@Test
+	@DisplayName("슬랙 유저 id 와 DM 채널 id 는 서버가 재시작돼도 다시 조회하지 않는다")
+	void cacheSlackIds() throws InterruptedException {
+		dispatcher.send("player1", "first");
+		awaitPosts(1);
+		dispatcher.shutdown();
+		dispatcher = newDispatcher();
+		dispatcher.send("player1", "second");
+		awaitPosts(2);
+
+		assertThat(lookupCount.get()).isEqualTo(1);
+		assertThat(openCount.get()).isEqualTo(1);
+		assertThat(posts).extracting(post -> post.get("channel")).containsOnly("D_U_player1");
+		assertThat(posts).extracting(post -> post.get("text")).containsExactly("first", "second");
+	}
+
+	@Test
+	@DisplayName("보내는 동안 쌓인 같은 사람의 메시지는 한 번에 보낸다")
+	void coalesceBurst() throws InterruptedException {
+		releaseFirstPost = new CountDownLatch(1);
+		dispatcher.send("player1", "m0");
+		assertThat(firstPostArrived.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i <= 5; i++) {
+			dispatcher.send("player1", "m" + i);
+		}
+		dispatcher.sendGroup(List.of("player3", "player2"), "party");
+		releaseFirstPost.countDown();
+		awaitPosts(3);
+		Thread.sleep(300);
+
+		assertThat(posts).hasSize(3);
+		assertThat(posts.get(1).get("text")).isEqualTo("m1\n\nm2\n\nm3\n\nm4\n\nm5");
+		assertThat(posts.get(2).get("channel")).isEqualTo("D_U_player2,U_player3");
+	}
+
+	@Test
+	@DisplayName("429 응답을 받으면 Retry-After 뒤에 같은 메시지를 다시 보낸다")
+	void retryAfterRateLimited() throws InterruptedException {
+		rateLimitedPost = 0;
+		long begin = System.currentTimeMillis();
+		dispatcher.send("player1", "hello");
+		awaitPosts(1);
+
+		assertThat(System.currentTimeMillis() - begin).isGreaterThanOrEqualTo(1_000L);
+		assertThat(posts).extracting(post -> post.get("text")).containsExactly("hello");
+	}
+
+	@Test
+	@DisplayName("sendBulk 메시지는 send, sendGroup 메시지가 없을 때만 보낸다")
+	void bulkAfterInteractive() throws InterruptedException {
+		releaseFirstPost = new CountDownLatch(1);
+		dispatcher.send("player1", "m0");
+		assertThat(firstPostArrived.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(dispatcher.sendBulk(List.of("player2", "player3"), "announce")).isTrue();
+		dispatcher.send("player4", "match");
+		releaseFirstPost.countDown();
+		awaitPosts(4);
+
+		assertThat(posts).extracting(post -> post.get("text")).containsExactly("m0", "match", "announce", "announce");
+		assertThat(posts).extracting(post -> post.get("channel"))
+			.containsExactly("D_U_player1", "D_U_player4", "D_U_player2", "D_U_player3");
+	}
+
+	@Test
+	@DisplayName("sendBulk 큐가 가득 차도 send 는 큐에 들어간다")
+	void bulkDoesNotTakeInteractiveCapacity() throws InterruptedException {
+		ReflectionTestUtils.setField(dispatcher, "bulkCapacity", 1);
+		releaseFirstPost = new CountDownLatch(1);
+		dispatcher.send("player1", "m0");
+		assertThat(firstPostArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(dispatcher.sendBulk(List.of("player2", "player3"), "dropped")).isFalse();
+		assertThat(dispatcher.sendBulk(List.of("player2"), "announce")).isTrue();
+		dispatcher.send("player4", "match");
+		releaseFirstPost.countDown();
+		awaitPosts(3);
+
+		assertThat(posts).extracting(post -> post.get("text")).containsExactly("m0", "match", "announce");
+	}
+
+	private SlackMessageDispatcher newDispatcher() {
+		SlackMessageDispatcher newDispatcher = new SlackMessageDispatcher(slackbotApiUtils,
+			new SlackIdCache(stringRedisTemplate, slackbotApiUtils));
+		ReflectionTestUtils.setField(newDispatcher, "capacity", 100);
+		ReflectionTestUtils.setField(newDispatcher, "bulkCapacity", 100);
+		ReflectionTestUtils.setField(newDispatcher, "intervalMillis", 10L);
+		ReflectionTestUtils.setField(newDispatcher, "maxCoalesce", 10);
+		newDispatcher.start();
+		return newDispatcher;
+	}
+
+	private void awaitPosts(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000L;
+		while (posts.size() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(posts).hasSizeGreaterThanOrEqualTo(count);
+	}
+
+	private static String read(HttpExchange exchange) throws IOException {
+		return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import gg.auth.utils.AuthTokenProvider;
 import gg.data.pingpong.season.Season;
 import gg.data.user.User;
+import gg.pingpong.api.global.utils.querytracker.ApiQueryCounter;
 import gg.pingpong.api.user.rank.controller.response.ExpRankPageResponseDto;
 import gg.pingpong.api.user.rank.controller.response.RankPageResponseDto;
 import gg.pingpong.api.user.rank.dto.RankDto;
@@ -162,4 +164,43 @@ class RankControllerTest {
 		Assertions.assertThat(rankList).isSortedAccordingTo(Comparator.comparing(RankDto::getPpp).reversed());
 	}
 
+	@Test
+	@DisplayName("/pingpong/ranks/{gameType} 쿼리 수는 페이지 크기와 무관하다")
+	public void getRankPageQueryCount() throws Exception {
+		//given
+		Season season = testDataUtils.createSeason();
+		User myUser = testDataUtils.createNewUser();
+		testDataUtils.createUserRank(myUser, "me", season, 1000);
+		for (int i = 0; i < 9; i++) {
+			User user = testDataUtils.createNewUser();
+			testDataUtils.createUserRank(user, "status" + i, season, 1100 + i * 100);
+		}
+		String accessToken = tokenProvider.createToken(myUser.getId());
+		requestRankPage(accessToken, 10);
+
+		//when
+		MvcResult onePage = requestRankPage(accessToken, 1);
+		MvcResult tenPage = requestRankPage(accessToken, 10);
+
+		//then
+		RankPageResponseDto resp = objectMapper.readValue(tenPage.getResponse().getContentAsString(),
+			RankPageResponseDto.class);
+		Assertions.assertThat(resp.getRankList()).hasSize(10);
+		Assertions.assertThat(resp.getRankList().get(9).getIntraId()).isEqualTo(myUser.getIntraId());
+		Assertions.assertThat(resp.getRankList().get(9).getStatusMessage()).isEqualTo("me");
+		Assertions.assertThat(queryCountOf(tenPage)).isEqualTo(queryCountOf(onePage));
+	}
+
+	private MvcResult requestRankPage(String accessToken, int size) throws Exception {
+		String url = "/pingpong/ranks/single?page=1&size=" + size;
+		return mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+			.andExpect(status().isOk())
+			.andReturn();
+	}
+
+	private int queryCountOf(MvcResult result) {
+		ApiQueryCounter apiQueryCounter = (ApiQueryCounter)result.getRequest()
+			.getAttribute("scopedTarget.apiQueryCounter");
+		return apiQueryCounter.getCount();
+	}
 }
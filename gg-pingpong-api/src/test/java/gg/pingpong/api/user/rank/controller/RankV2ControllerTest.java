@@ -21,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import gg.auth.UserDto;
 import gg.auth.utils.AuthTokenProvider;
+import gg.auth.utils.LoginUserCache;
 import gg.data.user.User;
 import gg.pingpong.api.global.config.WebConfig;
 import gg.pingpong.api.global.jwt.utils.TokenAuthenticationFilter;
@@ -50,12 +51,14 @@ class RankV2ControllerTest {
 	private UserRepository userRepository;
 	@MockBean
 	private AuthTokenProvider authTokenProvider;
+	@MockBean
+	private LoginUserCache loginUserCache;
 
 	@Test
 	@WithMockUser(username = "TestUser")
 	void getExpRankPage() throws Exception {
-		given(userRepository.findById(0L))
-			.willReturn(Optional.of(User.builder().intraId("TestUser").build()));
+		given(loginUserCache.getLoginUser(any()))
+			.willReturn(Optional.of(UserDto.from(User.builder().intraId("TestUser").build())));
 		given(rankService.getExpRankPage(PageRequest.of(1, 10),
 			UserDto
 				.builder()
@@ -77,8 +80,8 @@ class RankV2ControllerTest {
 	@Test
 	@WithMockUser(username = "TestUser")
 	void getRankPage() throws Exception {
-		given(userRepository.findById(0L))
-			.willReturn(Optional.of(User.builder().intraId("TestUser").build()));
+		given(loginUserCache.getLoginUser(any()))
+			.willReturn(Optional.of(UserDto.from(User.builder().intraId("TestUser").build())));
 		given(rankService.getRankPageV2(PageRequest.of(1, 10),
 			UserDto
 				.builder()
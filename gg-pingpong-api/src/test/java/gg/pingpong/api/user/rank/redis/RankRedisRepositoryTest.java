@@ -1,5 +1,7 @@
 package gg.pingpong.api.user.rank.redis;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.assertj.core.api.Assertions;
@@ -276,4 +278,88 @@ class RankRedisRepositoryTest {
 			.containsExactly(rank4, rank3, rank2, rank1);
 	}
 
+	@Test
+	@DisplayName("rank데이터와 ZSET ppp를 함께 업데이트한다")
+	void updateRankDataAndScore() {
+		//given
+		Long userId = 1L;
+		RankRedis ranking = new RankRedis(userId, "aa", 100, 0, 0, "statusMessage",
+			"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000");
+		redisRepository.addRankData(hashKey, userId, ranking);
+		redisRepository.addToZSet(zSetKey, userId, 100);
+
+		//when
+		ranking.updateRank(20, 1, 0);
+		redisRepository.updateRankDataAndScore(hashKey, zSetKey, userId, ranking);
+
+		//then
+		RankRedis findRanking = redisRepository.findRankByUserId(hashKey, userId);
+		Assertions.assertThat(findRanking.getPpp()).isEqualTo(120);
+		Assertions.assertThat(findRanking.getWins()).isEqualTo(1);
+		Assertions.assertThat(redisRepository.getScoreInZSet(zSetKey, userId)).isEqualTo(120);
+		Assertions.assertThat(redisRepository.countTotalRank(zSetKey)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("게임한 두 유저의 rank데이터와 ZSET ppp를 한 번에 업데이트한다")
+	void updateAllRankDataAndScore() {
+		//given
+		RankRedis winner = new RankRedis(1L, "aa", 100, 1, 0, "statusMessage",
+			"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000");
+		RankRedis loser = new RankRedis(2L, "bb", 200, 0, 1, "statusMessage",
+			"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000");
+		redisRepository.addToZSet(zSetKey, 2L, 190);
+
+		//when
+		redisRepository.updateAllRankDataAndScore(hashKey, zSetKey, List.of(winner, loser));
+
+		//then
+		List<Long> sortedUserIds = redisRepository.getUserIdsByRangeFromZSet(zSetKey, 0, 1);
+		Assertions.assertThat(sortedUserIds).containsExactly(2L, 1L);
+		Assertions.assertThat(redisRepository.getScoreInZSet(zSetKey, 1L)).isEqualTo(100);
+		Assertions.assertThat(redisRepository.getScoreInZSet(zSetKey, 2L)).isEqualTo(200);
+		Assertions.assertThat(redisRepository.findRanksByUserIds(hashKey, sortedUserIds))
+			.usingElementComparatorIgnoringFields("userId")
+			.containsExactly(loser, winner);
+	}
+
+
+	@Test
+	@DisplayName("ZSET 순위 범위의 rank데이터만 ppp 높은순으로 조회")
+	public void findRanksByRange() {
+		//given
+		for (long userId = 1; userId <= 5; userId++) {
+			addRank(userId, (int)(1000 + userId * 10));
+		}
+
+		//when
+		List<RankRedis> ranks = redisRepository.findRanksByRange(zSetKey, hashKey, 1, 3);
+
+		//then
+		Assertions.assertThat(ranks).extracting(RankRedis::getUserId).containsExactly(4L, 3L, 2L);
+	}
+
+	@Test
+	@DisplayName("시즌 전체를 chunk 단위로 ppp 높은순으로 읽고 hash 에 없는 유저는 건너뛴다")
+	public void iterateRanksOrderByPppDesc() {
+		//given
+		for (long userId = 1; userId <= 7; userId++) {
+			addRank(userId, (int)(1000 + userId * 10));
+		}
+		redisRepository.deleteRankData(hashKey, 5L);
+
+		//when
+		Iterator<RankRedis> iterator = redisRepository.iterateRanksOrderByPppDesc(zSetKey, hashKey, 3);
+		List<Long> userIds = new ArrayList<>();
+		iterator.forEachRemaining(rank -> userIds.add(rank.getUserId()));
+
+		//then
+		Assertions.assertThat(userIds).containsExactly(7L, 6L, 4L, 3L, 2L, 1L);
+		Assertions.assertThat(iterator.hasNext()).isFalse();
+	}
+
+	private void addRank(Long userId, int ppp) {
+		redisRepository.addToZSet(zSetKey, userId, ppp);
+		redisRepository.addRankData(hashKey, userId, RankRedis.from(userId, "user" + userId, "#000000", ppp, ""));
+	}
 }
@@ -0,0 +1,72 @@
+package gg.pingpong.api.user.rank.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import gg.pingpong.api.user.rank.dto.RankPageDto;
+import gg.utils.annotation.IntegrationTest;
+
+@IntegrationTest
+class RankCacheServiceTest {
+	@Autowired
+	RankCacheService rankCacheService;
+	@Autowired
+	@Qualifier("gameCacheManager")
+	CacheManager gameCacheManager;
+
+	Cache ranking;
+
+	@BeforeEach
+	void init() {
+		ranking = gameCacheManager.getCache("ranking");
+		ranking.clear();
+		// 1 시즌: 1~10, 11~20, 21~30 위 페이지와 1~20 위 페이지
+		ranking.put("1:0:10", emptyPage());
+		ranking.put("1:1:10", emptyPage());
+		ranking.put("1:2:10", emptyPage());
+		ranking.put("1:0:20", emptyPage());
+		ranking.put("2:0:10", emptyPage());
+	}
+
+	@AfterEach
+	void clear() {
+		ranking.clear();
+	}
+
+	@Test
+	@DisplayName("바뀐 순위가 보이는 페이지만 지운다")
+	void evictRanks() {
+		rankCacheService.evictRanks(1L, 12, 15);
+
+		assertThat(ranking.get("1:0:10")).isNotNull();
+		assertThat(ranking.get("1:1:10")).isNull();
+		assertThat(ranking.get("1:2:10")).isNotNull();
+		assertThat(ranking.get("1:0:20")).isNull();
+		assertThat(ranking.get("2:0:10")).isNotNull();
+	}
+
+	@Test
+	@DisplayName("시즌을 지우면 다른 시즌 페이지는 남는다")
+	void evictSeason() {
+		rankCacheService.evictSeason(1L);
+
+		assertThat(ranking.get("1:0:10")).isNull();
+		assertThat(ranking.get("1:2:10")).isNull();
+		assertThat(ranking.get("1:0:20")).isNull();
+		assertThat(ranking.get("2:0:10")).isNotNull();
+	}
+
+	private static RankPageDto emptyPage() {
+		return new RankPageDto(1, 1, new ArrayList<>());
+	}
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,8 @@ import gg.data.pingpong.season.Season;
 import gg.data.user.User;
 import gg.pingpong.api.user.rank.controller.response.ExpRankPageResponseDto;
 import gg.pingpong.api.user.rank.controller.response.RankPageResponseDto;
+import gg.pingpong.api.user.rank.dto.RankDto;
+import gg.pingpong.api.user.rank.dto.RankPageDto;
 import gg.pingpong.api.user.season.service.SeasonFindService;
 import gg.repo.rank.RankRepository;
 import gg.repo.rank.RankV2Dto;
@@ -39,6 +42,8 @@ class RankServiceTest {
 	private SeasonFindService seasonFindService;
 	@Mock
 	private RankRepository rankRepository;
+	@Mock
+	private RankCacheService rankCacheService;
 	@InjectMocks
 	private RankService rankService;
 
@@ -152,16 +157,13 @@ class RankServiceTest {
 	@Test
 	void getRankPageV2() {
 		PageRequest pageRequest = PageRequest.of(0, 10);
-		// 현재 시즌 id 에 해당하는 랭크 유저 리스트의 페이지 수
-		given(rankRepository.countRankUserBySeasonId(any()))
-			.willReturn(1);
+		// 유저와 상관없이 공유하는 랭킹 페이지
+		List<RankDto> rankList = pppRankingSampleData().stream().map(RankDto::from).collect(Collectors.toList());
+		given(rankCacheService.getRankPage(any(), eq(pageRequest)))
+			.willReturn(new RankPageDto(1, 1, rankList));
 		// 현재 유저 ranking
 		given(rankRepository.findRankByUserIdAndSeasonId(any(), any()))
 			.willReturn(Optional.of(1));
-		// sample data
-		List<RankV2Dto> rankV2DtoList = pppRankingSampleData();
-		given(rankRepository.findPppRankBySeasonId(anyInt(), anyInt(), any()))
-			.willReturn(rankV2DtoList);
 		RankPageResponseDto result = rankService.getRankPageV2(pageRequest,
 			UserDto
 				.builder()
@@ -169,8 +171,9 @@ class RankServiceTest {
 				.id(1L)
 				.totalExp(0)
 				.build(),
-			any());
+			null);
+		assertThat(result.getMyRank()).isEqualTo(1);
 		assertThat(result.getCurrentPage()).isEqualTo(pageRequest.getPageNumber() + 1);
-		assertThat(result.getRankList().size()).isEqualTo(rankV2DtoList.size());
+		assertThat(result.getRankList().size()).isEqualTo(rankList.size());
 	}
 }
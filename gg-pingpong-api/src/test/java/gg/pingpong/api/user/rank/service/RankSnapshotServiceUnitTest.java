@@ -0,0 +1,129 @@
+package gg.pingpong.api.user.rank.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import gg.data.pingpong.rank.Rank;
+import gg.data.pingpong.rank.RankSnapshot;
+import gg.data.pingpong.season.Season;
+import gg.data.user.User;
+import gg.repo.game.PChangeRepository;
+import gg.repo.rank.RankRepository;
+import gg.repo.rank.RankSnapshotRepository;
+import gg.repo.season.SeasonRepository;
+import gg.utils.annotation.UnitTest;
+
+@UnitTest
+class RankSnapshotServiceUnitTest {
+	@Mock
+	RankSnapshotRepository rankSnapshotRepository;
+	@Mock
+	RankRepository rankRepository;
+	@Mock
+	PChangeRepository pChangeRepository;
+	@Mock
+	SeasonRepository seasonRepository;
+	@Mock
+	RankCacheService rankCacheService;
+	@InjectMocks
+	RankSnapshotService rankSnapshotService;
+
+	@Nested
+	@MockitoSettings(strictness = Strictness.LENIENT)
+	@DisplayName("refreshUserRanks 매서드 유닛 테스트")
+	class RefreshUserRanks {
+		Season season;
+		User user;
+		LocalDateTime lastGameAt;
+
+		@BeforeEach
+		void beforeEach() {
+			season = mock(Season.class);
+			given(season.getId()).willReturn(1L);
+			user = mock(User.class);
+			given(user.getTotalExp()).willReturn(100);
+			lastGameAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+			given(pChangeRepository.findLastCreatedAtByUserIdAndSeasonId(1L, 1L)).willReturn(Optional.of(lastGameAt));
+		}
+
+		@Test
+		@DisplayName("처음 랭킹에 진입한 유저는 뒤 순위를 밀어내고 추가된다")
+		void newUser() {
+			// given
+			Rank rank = new Rank(user, season, 1020, 1, 0, "", null);
+			given(rankRepository.findByUserIdAndSeasonId(1L, 1L)).willReturn(Optional.of(rank));
+			given(rankSnapshotRepository.findBySeasonIdAndUserId(1L, 1L)).willReturn(Optional.empty());
+			given(rankSnapshotRepository.countRankedAbove(1L, 1L, 1020, lastGameAt, 100)).willReturn(4L);
+			// when
+			rankSnapshotService.refreshUserRanks(season, List.of(1L));
+			// then
+			then(rankSnapshotRepository).should().pushDownFrom(1L, 5, 1020, lastGameAt, 100);
+			then(rankSnapshotRepository).should().save(any(RankSnapshot.class));
+			then(rankCacheService).should().evictSeason(1L);
+		}
+
+		@Test
+		@DisplayName("순위가 오른 유저는 사이에 있던 유저들만 한 칸씩 내린다")
+		void moveUp() {
+			// given
+			Rank rank = new Rank(user, season, 1050, 2, 0, "", null);
+			RankSnapshot snapshot = new RankSnapshot(1L, 1L, 10, 1020, lastGameAt.minusDays(1), 80);
+			given(rankRepository.findByUserIdAndSeasonId(1L, 1L)).willReturn(Optional.of(rank));
+			given(rankSnapshotRepository.findBySeasonIdAndUserId(1L, 1L)).willReturn(Optional.of(snapshot));
+			given(rankSnapshotRepository.countRankedAbove(1L, 1L, 1050, lastGameAt, 100)).willReturn(2L);
+			// when
+			rankSnapshotService.refreshUserRanks(season, List.of(1L));
+			// then
+			then(rankSnapshotRepository).should().pushDownBetween(1L, 1L, 3, 10, 1050, lastGameAt, 100);
+			assertThat(snapshot.getRanking()).isEqualTo(3);
+			assertThat(snapshot.getPpp()).isEqualTo(1050);
+			then(rankCacheService).should().evictRanks(1L, 3, 10);
+		}
+
+		@Test
+		@DisplayName("순위가 내려간 유저는 사이에 있던 유저들만 한 칸씩 올린다")
+		void moveDown() {
+			// given
+			Rank rank = new Rank(user, season, 990, 1, 1, "", null);
+			RankSnapshot snapshot = new RankSnapshot(1L, 1L, 3, 1010, lastGameAt.minusDays(1), 80);
+			given(rankRepository.findByUserIdAndSeasonId(1L, 1L)).willReturn(Optional.of(rank));
+			given(rankSnapshotRepository.findBySeasonIdAndUserId(1L, 1L)).willReturn(Optional.of(snapshot));
+			given(rankSnapshotRepository.countRankedAbove(1L, 1L, 990, lastGameAt, 100)).willReturn(7L);
+			// when
+			rankSnapshotService.refreshUserRanks(season, List.of(1L));
+			// then
+			then(rankSnapshotRepository).should().pullUpBetween(1L, 1L, 3, 8, 990, lastGameAt, 100);
+			assertThat(snapshot.getRanking()).isEqualTo(8);
+			then(rankCacheService).should().evictRanks(1L, 3, 8);
+		}
+
+		@Test
+		@DisplayName("랭크 게임 기록이 없어진 유저는 스냅샷에서 제거된다")
+		void notParticipated() {
+			// given
+			Rank rank = new Rank(user, season, 1000, 0, 0, "", null);
+			RankSnapshot snapshot = new RankSnapshot(1L, 1L, 4, 1010, lastGameAt, 100);
+			given(rankRepository.findByUserIdAndSeasonId(1L, 1L)).willReturn(Optional.of(rank));
+			given(rankSnapshotRepository.findBySeasonIdAndUserId(1L, 1L)).willReturn(Optional.of(snapshot));
+			// when
+			rankSnapshotService.refreshUserRanks(season, List.of(1L));
+			// then
+			then(rankSnapshotRepository).should().delete(snapshot);
+			then(rankSnapshotRepository).should().pullUpFrom(1L, 4);
+			then(rankCacheService).should().evictSeason(1L);
+		}
+	}
+}
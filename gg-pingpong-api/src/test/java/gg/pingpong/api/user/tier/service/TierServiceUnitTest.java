@@ -3,8 +3,9 @@ package gg.pingpong.api.user.tier.service;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -12,9 +13,8 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +26,8 @@ import gg.data.pingpong.rank.Rank;
 import gg.data.pingpong.rank.Tier;
 import gg.data.pingpong.season.Season;
 import gg.data.user.User;
+import gg.pingpong.api.user.rank.dto.TierBoundaryDto;
+import gg.pingpong.api.user.rank.service.RankCacheService;
 import gg.pingpong.api.user.rank.service.TierService;
 import gg.repo.rank.RankRepository;
 import gg.repo.rank.TierRepository;
@@ -39,135 +41,131 @@ class TierServiceUnitTest {
 	TierRepository tierRepository;
 	@Mock
 	RankRepository rankRepository;
+	@Mock
+	RankCacheService rankCacheService;
 	@InjectMocks
 	TierService tierService;
 
 	@Nested
-	@DisplayName("UpdateAllTier")
-	class UpdateAllTier {
+	@DisplayName("UpdateTiers")
+	@MockitoSettings(strictness = Strictness.LENIENT)
+	class UpdateTiers {
 		List<Tier> tiers;
 
 		Season season;
 
 		@BeforeEach
 		void init() {
-			tiers = IntStream.range(0, 7).mapToObj((i) -> mock(Tier.class)).collect(Collectors.toList());
+			tiers = IntStream.range(0, 7).mapToObj((i) -> {
+				Tier tier = mock(Tier.class);
+				when(tier.getId()).thenReturn((long)i);
+				return tier;
+			}).collect(Collectors.toList());
 			when(tierRepository.findAll(any(Sort.class))).thenReturn(tiers);
 			season = mock(Season.class);
 			when(season.getId()).thenReturn(1L);
 		}
 
-		@ParameterizedTest
-		@DisplayName("랭크 게임 미참여시 0번 티어")
-		@ValueSource(ints = {1, 3, 5, 7})
-		@MockitoSettings(strictness = Strictness.LENIENT)
-		void notParticipant(int size) {
-			//Arrange
-			List<Rank> rankList = IntStream.range(0, size)
-				.mapToObj((i) -> new Rank(mock(User.class), season, 1000, 0, 0, "", mock(Tier.class)))
-				.collect(Collectors.toList());
-			when(rankRepository.findAllBySeasonIdOrderByPppDesc(any())).thenReturn(rankList);
-			when(rankRepository.countRealRankPlayers(any())).thenReturn(0L);
+		private Rank rank(long userId, int ppp, Tier tier) {
+			User user = mock(User.class);
+			when(user.getId()).thenReturn(userId);
+			return new Rank(user, season, ppp, 1, 0, "", tier);
+		}
 
-			//Act
-			tierService.updateAllTier(season);
+		private Rank notParticipant(long userId, int ppp, Tier tier) {
+			User user = mock(User.class);
+			when(user.getId()).thenReturn(userId);
+			return new Rank(user, season, ppp, 0, 0, "", tier);
+		}
 
-			//Assert
-			Assertions.assertThat(rankList).allMatch((rank) -> rank.getTier().equals(tiers.get(0)));
+		private void givenBoundary(int top30percentPpp, int top10percentPpp, List<Rank> top3) {
+			when(rankRepository.countRealRankPlayers(1L)).thenReturn(10L);
+			when(rankRepository.findPppBySeasonIdAtOffset(1L, 3)).thenReturn(Optional.of(top30percentPpp));
+			when(rankRepository.findPppBySeasonIdAtOffset(1L, 1)).thenReturn(Optional.of(top10percentPpp));
+			when(rankRepository.findTop3BySeasonIdOrderByPppDescIdAsc(1L)).thenReturn(top3);
 		}
 
-		@ParameterizedTest
-		@DisplayName("참여한 유저 중 ppp 최대 3명 6번 티어")
-		@ValueSource(ints = {1, 3, 5, 7})
-		@MockitoSettings(strictness = Strictness.LENIENT)
-		void top3(int size) {
+		@Test
+		@DisplayName("기준값이 그대로면 ppp 가 바뀐 유저의 티어만 다시 계산한다")
+		void sameBoundary() {
 			//Arrange
-			List<Rank> rankList = IntStream.range(0, size)
-				.mapToObj((i) -> new Rank(mock(User.class), season, 900 + 10 * i, 0, 1, "", mock(Tier.class)))
-				.sorted(Comparator.comparing(Rank::getPpp).reversed())
-				.collect(Collectors.toList());
-			when(rankRepository.findAllBySeasonIdOrderByPppDesc(any())).thenReturn(rankList);
-			when(rankRepository.countRealRankPlayers(any())).thenReturn((long)size);
+			List<Rank> top3 = List.of(rank(10L, 1200, tiers.get(6)), rank(11L, 1190, tiers.get(6)),
+				rank(12L, 1180, tiers.get(6)));
+			givenBoundary(1100, 1150, top3);
+			Rank winner = rank(1L, 1012, tiers.get(2));
+			Rank loser = rank(2L, 990, tiers.get(2));
+			when(rankRepository.findAllBySeasonIdAndUserIdIn(eq(1L), any()))
+				.thenReturn(List.of(winner, loser, top3.get(0), top3.get(1), top3.get(2)));
+			TierBoundaryDto before = new TierBoundaryDto(1100, 1150, List.of(10L, 11L, 12L));
 
 			//Act
-			tierService.updateAllTier(season);
-			long cnt = rankList.stream().filter((rank) -> rank.getTier().equals(tiers.get(6))).count();
+			Map<Long, Tier> changed = tierService.updateTiers(season, before, List.of(1L, 2L));
 
 			//Assert
-			Assertions.assertThat(cnt).isEqualTo(Math.min(3, size));
+			Assertions.assertThat(changed).containsOnlyKeys(1L);
+			Assertions.assertThat(winner.getTier()).isEqualTo(tiers.get(3));
+			Assertions.assertThat(loser.getTier()).isEqualTo(tiers.get(2));
+			verify(rankRepository, never()).findAllBySeasonIdAndPppBetween(any(), any(), any());
 		}
 
-		/**
-		 * 개선 필요: 최상위 3명이 기본 ppp보다 낮을 경우 6번 티어가 0명이 된다.
-		 * 게임상 재현은 불가능하지만 코드상 버그로 판단.
-		 */
-		@ParameterizedTest
+		@Test
 		@DisplayName("전체 티어 조건 검증")
-		@ValueSource(ints = {100})
-		@MockitoSettings(strictness = Strictness.LENIENT)
-		void allTierCondition(int size) {
+		void allTierCondition() {
 			//Arrange
-			ArrayList<Rank> rankArrayList = IntStream.range(0, size)
-				.mapToObj((i) -> new Rank(mock(User.class), season, 900 + 10 * i, 1, 0, "", mock(Tier.class)))
-				.collect(Collectors.toCollection(ArrayList::new));
-			when(rankRepository.countRealRankPlayers(any())).thenReturn((long)size);
+			List<Rank> top3 = List.of(rank(10L, 1200, tiers.get(0)), rank(11L, 1190, tiers.get(0)),
+				rank(12L, 1180, tiers.get(0)));
+			givenBoundary(1100, 1150, top3);
+			Rank tier0 = notParticipant(1L, 1000, tiers.get(1));
+			Rank tier1 = rank(2L, 960, tiers.get(0));
+			Rank tier2 = rank(3L, 1000, tiers.get(0));
+			Rank tier3UnderPpp = rank(4L, 1040, tiers.get(0));
+			Rank tier3UnderTop30 = rank(5L, 1090, tiers.get(0));
+			Rank tier4 = rank(6L, 1120, tiers.get(0));
+			Rank tier5 = rank(7L, 1160, tiers.get(0));
+			List<Rank> ranks = new ArrayList<>(
+				List.of(tier0, tier1, tier2, tier3UnderPpp, tier3UnderTop30, tier4, tier5));
+			ranks.addAll(top3);
+			when(rankRepository.findAllBySeasonIdAndUserIdIn(eq(1L), any())).thenReturn(ranks);
+			TierBoundaryDto before = new TierBoundaryDto(1100, 1150, List.of(10L, 11L, 12L));
 
-			IntStream.range(0, 100)
-				.mapToObj((i) -> new Rank(mock(User.class), season, 1000, 0, 0, "", mock(Tier.class)))
-				.forEach(rankArrayList::add);
-			when(rankRepository.countRealRankPlayers(any())).thenReturn((long)size);
+			//Act
+			tierService.updateTiers(season, before, List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+
+			//Assert
+			Assertions.assertThat(tier0.getTier()).isEqualTo(tiers.get(0));
+			Assertions.assertThat(tier1.getTier()).isEqualTo(tiers.get(1));
+			Assertions.assertThat(tier2.getTier()).isEqualTo(tiers.get(2));
+			Assertions.assertThat(tier3UnderPpp.getTier()).isEqualTo(tiers.get(3));
+			Assertions.assertThat(tier3UnderTop30.getTier()).isEqualTo(tiers.get(3));
+			Assertions.assertThat(tier4.getTier()).isEqualTo(tiers.get(4));
+			Assertions.assertThat(tier5.getTier()).isEqualTo(tiers.get(5));
+			Assertions.assertThat(top3).allMatch((rank) -> rank.getTier().equals(tiers.get(6)));
+		}
 
-			List<Rank> rankList = rankArrayList.stream()
-				.sorted(Comparator.comparing(Rank::getPpp).reversed())
-				.collect(Collectors.toList());
-			when(rankRepository.findAllBySeasonIdOrderByPppDesc(any())).thenReturn(rankList);
+		@Test
+		@DisplayName("상위 10% 기준이 바뀌면 기준 사이에 있는 유저만 다시 계산한다")
+		void movedBoundary() {
+			//Arrange
+			List<Rank> top3 = List.of(rank(10L, 1200, tiers.get(6)), rank(11L, 1190, tiers.get(6)),
+				rank(12L, 1180, tiers.get(6)));
+			givenBoundary(1100, 1170, top3);
+			Rank winner = rank(1L, 1170, tiers.get(4));
+			Rank loser = rank(2L, 1080, tiers.get(3));
+			Rank between = rank(3L, 1160, tiers.get(5));
+			when(rankRepository.findAllBySeasonIdAndUserIdIn(eq(1L), any()))
+				.thenReturn(List.of(winner, loser, top3.get(0), top3.get(1), top3.get(2)));
+			when(rankRepository.findAllBySeasonIdAndPppBetween(1L, 1150, 1170))
+				.thenReturn(List.of(winner, between));
+			TierBoundaryDto before = new TierBoundaryDto(1100, 1150, List.of(10L, 11L, 12L));
 
 			//Act
-			tierService.updateAllTier(season);
-
-			List<Rank> tier0 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(0)))
-				.collect(Collectors.toList());
-
-			List<Rank> tier1 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(1)))
-				.collect(Collectors.toList());
-
-			List<Rank> tier2 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(2)))
-				.collect(Collectors.toList());
-
-			List<Rank> tier3 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(3)))
-				.collect(Collectors.toList());
-
-			List<Rank> tier4 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(4)))
-				.sorted(Comparator.comparing(Rank::getPpp))
-				.collect(Collectors.toList());
-			Integer tier4MinPPP = tier4.get(0).getPpp();
-
-			List<Rank> tier5 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(5)))
-				.sorted(Comparator.comparing(Rank::getPpp))
-				.collect(Collectors.toList());
-			Integer tier5MinPPP = tier5.get(0).getPpp();
-
-			List<Rank> tier6 = rankList.stream()
-				.filter((rank) -> rank.getTier().equals(tiers.get(6)))
-				.sorted(Comparator.comparing(Rank::getPpp))
-				.collect(Collectors.toList());
-			Integer tier6MinPPP = tier6.get(0).getPpp();
+			Map<Long, Tier> changed = tierService.updateTiers(season, before, List.of(1L, 2L));
 
 			//Assert
-			Assertions.assertThat(tier0).allMatch((rank) -> rank.getWins() == 0 && rank.getLosses() == 0);
-			Assertions.assertThat(tier1).allMatch((rank) -> rank.getPpp() < 970);
-			Assertions.assertThat(tier2).allMatch((rank) -> rank.getPpp() < 1010);
-			Assertions.assertThat(tier3).allMatch((rank) -> rank.getPpp() < tier4MinPPP);
-			Assertions.assertThat(tier4).allMatch((rank) -> rank.getPpp() < tier5MinPPP);
-			Assertions.assertThat(tier5).allMatch((rank) -> rank.getPpp() <= tier6MinPPP);
-			Assertions.assertThat(tier6.size()).isEqualTo(Math.min(3, size));
+			Assertions.assertThat(changed).containsOnlyKeys(1L, 3L);
+			Assertions.assertThat(winner.getTier()).isEqualTo(tiers.get(5));
+			Assertions.assertThat(between.getTier()).isEqualTo(tiers.get(4));
+			Assertions.assertThat(loser.getTier()).isEqualTo(tiers.get(3));
 		}
 	}
-
 }
@@ -412,6 +412,9 @@ class UserControllerTest {
 			RoleType.USER);
 		String statusMessage = "statusMessage";
 		testDataUtils.createUserRank(newUser, statusMessage, season);
+		Season pastSeason = seasonRepository.save(new Season("past", season.getStartTime().minusMonths(2),
+			season.getStartTime().minusMonths(1), 1000, 300));
+		testDataUtils.createUserRank(newUser, statusMessage, pastSeason);
 		String accessToken = tokenProvider.createToken(newUser.getId());
 		String url = "/pingpong/users/text-color";
 		ItemUpdateRequestDto dto = new ItemUpdateRequestDto("name", "mainContent",
@@ -432,6 +435,12 @@ class UserControllerTest {
 		if (userOptional.isPresent()) {
 			User user = userOptional.get();
 			Assertions.assertThat(user.getTextColor()).isEqualTo(newTextColor);
+			RankRedis userRank = redisRepository.findRankByUserId(RedisKeyManager.getHashKey(season.getId()),
+				user.getId());
+			Assertions.assertThat(userRank.getTextColor()).isEqualTo(newTextColor);
+			RankRedis pastRank = redisRepository.findRankByUserId(RedisKeyManager.getHashKey(pastSeason.getId()),
+				user.getId());
+			Assertions.assertThat(pastRank.getTextColor()).isEqualTo(newTextColor);
 		} else {
 			Assertions.fail("유저 업데이트 실패");
 		}
@@ -1,8 +1,78 @@
 package gg.pingpong.api.user.user.service;
 
+import static gg.pingpong.api.utils.ReflectionUtilsForUnitTest.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import gg.data.pingpong.rank.redis.RankRedis;
+import gg.data.pingpong.season.Season;
+import gg.pingpong.api.user.season.service.SeasonFindService;
+import gg.repo.rank.redis.RankRedisRepository;
+import gg.repo.user.UserRepository;
+import gg.utils.RedisKeyManager;
 import gg.utils.annotation.UnitTest;
 
 @UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserFindServiceUnitTest")
 class UserFindServiceUnitTest {
+	@Mock
+	UserRepository userRepository;
+	@Mock
+	SeasonFindService seasonFindService;
+	@Mock
+	RankRedisRepository rankRedisRepository;
+	@InjectMocks
+	UserFindService userFindService;
+
+	@Nested
+	@DisplayName("getUserStatusMessages 메서드 유닛 테스트")
+	class GetUserStatusMessagesTest {
+		@Test
+		@DisplayName("시즌은 한 번, 랭크는 한 번에 조회하고 랭크가 없는 유저는 빈 문자열")
+		void success() {
+			// given
+			Season season = new Season("season", LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1000, 100);
+			setFieldWithReflection(season, "id", 1L);
+			RankRedis rank = RankRedis.from(1L, "user1", "#000000", 1000, "");
+			rank.setStatusMessage("hello");
+			given(seasonFindService.findCurrentSeason(any(LocalDateTime.class))).willReturn(season);
+			given(rankRedisRepository.findRanksByUserIds(RedisKeyManager.getHashKey(1L), List.of(1L, 2L)))
+				.willReturn(Arrays.asList(rank, null));
+
+			// when
+			Map<Long, String> statusMessages = userFindService.getUserStatusMessages(List.of(1L, 2L));
+
+			// then
+			assertThat(statusMessages).containsEntry(1L, "hello").containsEntry(2L, "");
+			verify(seasonFindService, times(1)).findCurrentSeason(any(LocalDateTime.class));
+			verify(rankRedisRepository, times(1)).findRanksByUserIds(any(), any());
+			verify(rankRedisRepository, never()).findRankByUserId(any(), any());
+		}
+
+		@Test
+		@DisplayName("유저가 없으면 조회하지 않는다")
+		void empty() {
+			// when
+			Map<Long, String> statusMessages = userFindService.getUserStatusMessages(List.of());
 
+			// then
+			assertThat(statusMessages).isEmpty();
+			verify(seasonFindService, never()).findCurrentSeason(any());
+		}
+	}
 }
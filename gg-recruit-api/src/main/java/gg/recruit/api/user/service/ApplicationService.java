@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import gg.auth.utils.LoginUserCache;
 import gg.data.recruit.application.Application;
 import gg.data.recruit.application.ApplicationAnswer;
 import gg.data.recruit.application.ApplicationAnswerCheckList;
@@ -55,6 +56,7 @@ public class ApplicationService {
 	private final QuestionRepository questionRepository;
 	private final CheckListRepository checkListRepository;
 	private final RecruitStatusRepository recruitStatusRepository;
+	private final LoginUserCache loginUserCache;
 
 	public ApplicationListSvcDto findMyApplications(Long userId) {
 		List<Application> res = applicationRepository.findAllByUserId(userId);
@@ -92,6 +94,7 @@ public class ApplicationService {
 			.orElseThrow(() -> new NotExistException("user not found"));
 		if (user.getSnsNotiOpt().equals(SnsType.NONE) || user.getSnsNotiOpt().equals(SnsType.EMAIL)) {
 			user.updateTypes(user.getRacketType(), SnsType.BOTH);
+			loginUserCache.evict(user.getId());
 		}
 		Recruitment recruitments = recruitmentRepository.getById(param.getRecruitId());
 		// recruit가 종료되었는지 확인
@@ -0,0 +1,69 @@
+package gg.repo.game;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import gg.data.pingpong.game.GameHistory;
+import gg.data.pingpong.game.type.Mode;
+import gg.repo.game.out.GameTeamUser;
+
+public interface GameHistoryRepository extends JpaRepository<GameHistory, Long> {
+	List<GameHistory> findAllByGameId(Long gameId);
+
+	@Query("select h.gameId from GameHistory h where h.intraId = :intraId and h.mode in :modes")
+	Slice<Long> findGameIdsByIntraIdAndModeIn(@Param("intraId") String intraId, @Param("modes") List<Mode> modes,
+		Pageable pageable);
+
+	@Query("select h.gameId from GameHistory h "
+		+ "where h.intraId = :intraId and h.seasonId = :seasonId and h.mode = :mode")
+	Slice<Long> findGameIdsByIntraIdAndSeasonIdAndMode(@Param("intraId") String intraId,
+		@Param("seasonId") Long seasonId, @Param("mode") Mode mode, Pageable pageable);
+
+	/**
+	 * 팀 id 가 작은 쪽을 t1 으로 해서 게임마다 한 행씩 돌려준다.
+	 * 이미지, 경험치, 전적은 현재 값이므로 user, ranks 에서 가져온다.
+	 */
+	@Query(value = "select h.game_id gameId, h.start_time startTime, 'END' status, h.mode, "
+		+ "h.team_id t1TeamId, h.intra_id t1IntraId, h.win t1IsWin, h.score t1Score, "
+		+ "u1.image_uri t1Image, u1.total_exp t1Exp, r1.wins t1Wins, r1.losses t1Losses, "
+		+ "h.enemy_team_id t2TeamId, h.enemy_intra_id t2IntraId, h.enemy_win t2IsWin, h.enemy_score t2Score, "
+		+ "u2.image_uri t2Image, u2.total_exp t2Exp, r2.wins t2Wins, r2.losses t2Losses "
+		+ "from game_history h "
+		+ "join user u1 on u1.id = h.user_id "
+		+ "join user u2 on u2.id = h.enemy_user_id "
+		+ "left join ranks r1 on r1.user_id = h.user_id and r1.season_id = h.season_id "
+		+ "left join ranks r2 on r2.user_id = h.enemy_user_id and r2.season_id = h.season_id "
+		+ "where h.game_id in (:gameIds) and h.team_id < h.enemy_team_id "
+		+ "order by h.start_time desc", nativeQuery = true)
+	List<GameTeamUser> findTeamsByGameIdIn(@Param("gameIds") List<Long> gameIds);
+
+	/**
+	 * 게임 기록이 없는 끝난 RANK, NORMAL 게임의 기록을 만든다. V3.5 마이그레이션의 백필과 같은 쿼리이다.
+	 * @return 추가된 행 수
+	 */
+	@Modifying
+	@Query(value = "insert into game_history (game_id, season_id, mode, start_time, "
+		+ "user_id, intra_id, team_id, score, win, "
+		+ "enemy_user_id, enemy_intra_id, enemy_team_id, enemy_score, enemy_win, "
+		+ "created_at, modified_at) "
+		+ "select g.id, g.season_id, g.mode, g.start_time, "
+		+ "tu.user_id, u.intra_id, t.id, t.score, t.win, "
+		+ "etu.user_id, eu.intra_id, et.id, et.score, et.win, "
+		+ "now(), now() "
+		+ "from game g "
+		+ "join team t on t.game_id = g.id "
+		+ "join team_user tu on tu.team_id = t.id "
+		+ "join user u on u.id = tu.user_id "
+		+ "join team et on et.game_id = g.id and et.id <> t.id "
+		+ "join team_user etu on etu.team_id = et.id "
+		+ "join user eu on eu.id = etu.user_id "
+		+ "where g.status = 'END' and g.mode in ('RANK', 'NORMAL') "
+		+ "and not exists (select 1 from game_history h where h.game_id = g.id)", nativeQuery = true)
+	int insertMissingEndGames();
+}
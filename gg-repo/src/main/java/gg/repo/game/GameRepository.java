@@ -11,6 +11,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -94,28 +95,35 @@ public interface GameRepository extends JpaRepository<Game, Long>, GameRepositor
 	Slice<Long> findGamesByUserAndModeInAndStatusIn(@Param("intra") String intra, @Param("mode") List<String> mode,
 		@Param("status") List<String> status, Pageable pageable);
 
-	@Query(value = "select gameId "
-		+ "from v_teamuser "
-		+ "where intraId=:intra and mode=:mode and status=:status", nativeQuery = true)
-	Slice<Long> findGamesByUserAndModeAndStatus(@Param("intra") String intra, @Param("mode") String mode,
-		@Param("status") String status, Pageable pageable);
+	@Query("select g.id from Game g where g.status = :status and g.startTime <= :startTime")
+	List<Long> findIdsByStatusAndStartTimeLessThanEqual(@Param("status") StatusType status,
+		@Param("startTime") LocalDateTime startTime);
 
-	@Query(value = "select gameId "
-		+ "from v_teamuser "
-		+ "where intraId = :intra and mode=:mode and seasonId = :seasonId and status = :status", nativeQuery = true)
-	Slice<Long> findGamesByUserAndModeAndSeason(@Param("intra") String intra, @Param("mode") String mode,
-		@Param("seasonId") Long seasonId, @Param("status") String status, Pageable pageable);
+	@Query("select g.id from Game g where g.status = :status and g.endTime <= :endTime")
+	List<Long> findIdsByStatusAndEndTimeLessThanEqual(@Param("status") StatusType status,
+		@Param("endTime") LocalDateTime endTime);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update Game g set g.status = :to where g.id in :ids and g.status = :from")
+	int updateStatusByIds(@Param("ids") List<Long> ids, @Param("from") StatusType from,
+		@Param("to") StatusType to);
+
+	@Query("select min(g.startTime) from Game g where g.status = :status")
+	Optional<LocalDateTime> findFirstStartTimeByStatus(@Param("status") StatusType status);
 
-	List<Game> findAllByStatusAndStartTimeLessThanEqual(StatusType status, LocalDateTime startTime);
+	@Query("select min(g.startTime) from Game g where g.status = :status and g.startTime > :time")
+	Optional<LocalDateTime> findFirstStartTimeByStatusAfter(@Param("status") StatusType status,
+		@Param("time") LocalDateTime time);
 
-	List<Game> findAllByStatusAndEndTimeLessThanEqual(StatusType status, LocalDateTime endTime);
+	@Query("select min(g.endTime) from Game g where g.status = :status")
+	Optional<LocalDateTime> findFirstEndTimeByStatus(@Param("status") StatusType status);
 
 	@Query(value = "SELECT u.id userId, u.e_mail email, u.intra_id intraId, u.sns_noti_opt snsNotiOpt, g.id gameId "
 		+ "FROM "
-		+ "(SELECT id, status FROM game where start_time<=:time) g, "
+		+ "(SELECT id, status FROM game where start_time=:time) g, "
 		+ "team t, team_user tu, user u "
 		+ "WHERE g.id=t.game_id AND t.id = tu.team_id AND tu.user_id=u.id AND g.status = 'BEFORE'", nativeQuery = true)
-	List<GameUser> findAllByStartTimeLessThanEqual(@Param("time") LocalDateTime time);
+	List<GameUser> findAllByStartTime(@Param("time") LocalDateTime time);
 
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	Optional<Game> findWithPessimisticLockById(Long gameId);
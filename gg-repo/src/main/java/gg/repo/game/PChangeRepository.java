@@ -1,8 +1,11 @@
 package gg.repo.game;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,14 +23,25 @@ public interface PChangeRepository extends JpaRepository<PChange, Long>, PChange
 	@Query(value = "SELECT pc FROM PChange pc join fetch pc.user WHERE pc.user.id =:userId order by pc.id desc")
 	List<PChange> findAllByUserId(@Param("userId") Long userId);
 
-	@Query(value = "SELECT pc FROM PChange pc join fetch pc.user join fetch pc.game "
-		+ "WHERE pc.user.id = :userId and pc.game.mode in :modes "
-		+ "order by pc.id desc")
-	List<PChange> findAllByUserIdGameModeIn(@Param("userId") Long userId, @Param("modes") List<Mode> modes);
+	/**
+	 * 유저가 참여한 게임 id 를 pchange 의 (user_id, created_at, id) 인덱스 순서로 페이지 단위로 가져온다.
+	 * 정렬은 pageable 로 받는다.
+	 */
+	@Query(value = "SELECT pc.game.id FROM PChange pc "
+		+ "WHERE pc.user.id = :userId and pc.game.mode in :modes",
+		countQuery = "SELECT count(pc) FROM PChange pc "
+			+ "WHERE pc.user.id = :userId and pc.game.mode in :modes")
+	Page<Long> findGameIdsByUserIdAndGameModeIn(@Param("userId") Long userId, @Param("modes") List<Mode> modes,
+		Pageable pageable);
 
 	Optional<PChange> findByUserIdAndGameId(Long userId, Long gameId);
 
 	Optional<PChange> findPChangeByUserIdAndGameId(Long userId, Long gameId);
 
 	List<PChange> findPChangesByGameId(Long gameId);
+
+	@Query(value = "SELECT max(pc.createdAt) FROM PChange pc "
+		+ "WHERE pc.user.id = :userId and pc.game.season.id = :seasonId")
+	Optional<LocalDateTime> findLastCreatedAtByUserIdAndSeasonId(@Param("userId") Long userId,
+		@Param("seasonId") Long seasonId);
 }
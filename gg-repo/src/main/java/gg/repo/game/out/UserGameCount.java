@@ -0,0 +1,7 @@
+package gg.repo.game.out;
+
+public interface UserGameCount {
+	Long getUserId();
+
+	Long getGameCount();
+}
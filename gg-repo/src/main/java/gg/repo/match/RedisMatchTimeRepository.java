@@ -1,27 +1,59 @@
 package gg.repo.match;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import gg.data.pingpong.match.RedisMatchUser;
 import gg.data.pingpong.match.type.MatchKey;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * key : MATCH:TIME:startTime
+ * value : 해당 시간에 매칭을 기다리는 유저 list
+ * <p>
+ *     등록된 startTime 은 MATCH:TIME_INDEX sorted set 에 key 이름으로 함께 저장한다. (score : startTime) <br/>
+ *     list 가 비거나 삭제되면 인덱스에서도 지우고, 지난 시간은 score 로 걸러낸다.
+ * </p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class RedisMatchTimeRepository {
+	private static final RedisScript<Long> DELETE_MATCH_USER_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('LREM', KEYS[1], 0, ARGV[1]) "
+			+ "if redis.call('LLEN', KEYS[1]) == 0 then redis.call('ZREM', KEYS[2], KEYS[1]) end "
+			+ "return 1", Long.class);
+
 	private final RedisTemplate<String, RedisMatchUser> redisTemplate;
 
 	public void addMatchUser(LocalDateTime startTime, RedisMatchUser redisMatchUser) {
 		redisTemplate.opsForList().rightPush(MatchKey.getTime(startTime), redisMatchUser);
+		byte[] indexKey = serialize(MatchKey.getTimeIndex());
+		byte[] member = serialize(MatchKey.getTime(startTime));
+		double now = MatchKey.getScore(LocalDateTime.now());
+		redisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.zAdd(indexKey, MatchKey.getScore(startTime), member);
+			connection.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+			return null;
+		});
 	}
 
 	public List<RedisMatchUser> getAllMatchUsers(LocalDateTime startTime) {
@@ -37,16 +69,99 @@ public class RedisMatchTimeRepository {
 
 	public void deleteMatchTime(LocalDateTime startTime) { //매칭이 되거나 시간이 지나면 key를 지워준다.
 		redisTemplate.delete(MatchKey.getTime(startTime));
+		byte[] member = serialize(MatchKey.getTime(startTime));
+		redisTemplate.execute((RedisCallback<Object>)connection ->
+			connection.zRem(serialize(MatchKey.getTimeIndex()), member));
 	}
 
+	/**
+	 * list 에서 유저를 지우고, 남은 유저가 없으면 인덱스에서도 지운다.
+	 */
 	public void deleteMatchUser(LocalDateTime startTime, RedisMatchUser matchUser) {
-		redisTemplate.opsForList().remove(MatchKey.getTime(startTime), 0, matchUser);
+		redisTemplate.execute(DELETE_MATCH_USER_SCRIPT,
+			List.of(MatchKey.getTime(startTime), MatchKey.getTimeIndex()), matchUser);
 	}
 
+	/**
+	 * 아직 시작하지 않은 등록 시간 조회
+	 * <p>
+	 *     KEYS 대신 인덱스 sorted set 을 score 범위로 조회한다. O(log n + m)
+	 * </p>
+	 */
 	public Set<LocalDateTime> getAllEnrolledStartTimes() {
-		Set<String> keys = redisTemplate.keys(MatchKey.getAllTime() + "*");
+		double now = MatchKey.getScore(LocalDateTime.now());
+		Set<byte[]> members = redisTemplate.execute((RedisCallback<Set<byte[]>>)connection ->
+			connection.zRangeByScore(serialize(MatchKey.getTimeIndex()), now, Double.POSITIVE_INFINITY));
+		if (members == null) {
+			return Collections.emptySet();
+		}
 		Integer prefixIdx = MatchKey.getAllTime().length();
-		return keys.stream().map(str -> LocalDateTime.parse(str.substring(prefixIdx)))
+		return members.stream().map(member -> new String(member, StandardCharsets.UTF_8))
+			.map(str -> LocalDateTime.parse(str.substring(prefixIdx)))
 			.collect(Collectors.toSet());
 	}
+
+	/**
+	 * from ~ to 사이에 등록된 시간별 매칭 대기 유저를 조회한다.
+	 * <p>
+	 *     인덱스를 score 범위로 조회한 뒤, 시간별 LRANGE 를 pipeline 한 번으로 보낸다.
+	 * </p>
+	 *
+	 * @param from 조회 시작 시간 (포함)
+	 * @param to 조회 끝 시간 (포함)
+	 * @return startTime -> 등록 순서대로의 매칭 대기 유저
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<LocalDateTime, List<RedisMatchUser>> getAllMatchUsersBetween(LocalDateTime from, LocalDateTime to) {
+		Map<LocalDateTime, List<RedisMatchUser>> matchUsers = new HashMap<>();
+		Set<byte[]> members = redisTemplate.execute((RedisCallback<Set<byte[]>>)connection ->
+			connection.zRangeByScore(serialize(MatchKey.getTimeIndex()), MatchKey.getScore(from),
+				MatchKey.getScore(to)));
+		if (members == null || members.isEmpty()) {
+			return matchUsers;
+		}
+		List<byte[]> keys = new ArrayList<>(members);
+		List<Object> result = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			keys.forEach(key -> connection.lRange(key, 0, -1));
+			return null;
+		});
+		Integer prefixIdx = MatchKey.getAllTime().length();
+		for (int i = 0; i < keys.size(); i++) {
+			List<RedisMatchUser> users = (List<RedisMatchUser>)result.get(i);
+			if (users != null && !users.isEmpty()) {
+				LocalDateTime startTime = LocalDateTime.parse(
+					new String(keys.get(i), StandardCharsets.UTF_8).substring(prefixIdx));
+				matchUsers.put(startTime, users);
+			}
+		}
+		return matchUsers;
+	}
+
+	/**
+	 * 인덱스 도입 이전에 등록된 매칭 list 를 SCAN 으로 찾아 인덱스에 추가한다.
+	 *
+	 * @return 인덱스에 추가한 key 수
+	 */
+	public int migrateIndex() {
+		byte[] indexKey = serialize(MatchKey.getTimeIndex());
+		ScanOptions options = ScanOptions.scanOptions().match(MatchKey.getAllTime() + "*").count(1000).build();
+		Integer prefixIdx = MatchKey.getAllTime().length();
+		Integer count = redisTemplate.execute((RedisCallback<Integer>)connection -> {
+			int added = 0;
+			Cursor<byte[]> cursor = connection.scan(options);
+			while (cursor.hasNext()) {
+				byte[] key = cursor.next();
+				LocalDateTime startTime = LocalDateTime.parse(
+					new String(key, StandardCharsets.UTF_8).substring(prefixIdx));
+				connection.zAdd(indexKey, MatchKey.getScore(startTime), key);
+				added++;
+			}
+			return added;
+		});
+		return Objects.requireNonNullElse(count, 0);
+	}
+
+	private byte[] serialize(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
 }
@@ -1,13 +1,21 @@
 package gg.repo.match;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Repository;
 
 import gg.data.pingpong.match.RedisMatchTime;
@@ -25,6 +33,9 @@ public class RedisMatchUserRepository {
 	 * key : userId : startTime
 	 * value : startTime
 	 * slot의 startTime 각각의 만료기한 설정
+	 * <p>
+	 *     유저가 등록한 key 는 MATCH:USER_INDEX:userId sorted set 에 함께 저장한다. (score : startTime)
+	 * </p>
 	 * **/
 	public void addMatchTime(Long userId, LocalDateTime startTime, Option option) {
 		Duration duration = Duration.between(LocalDateTime.now(), startTime);
@@ -33,28 +44,98 @@ public class RedisMatchUserRepository {
 		}
 		redisTemplate.opsForValue().set(MatchKey.getUserTime(userId, startTime),
 			new RedisMatchTime(startTime, option), duration.getSeconds(), TimeUnit.SECONDS);
-
+		byte[] indexKey = serialize(MatchKey.getUserIndex(userId));
+		byte[] member = serialize(MatchKey.getUserTime(userId, startTime));
+		double now = MatchKey.getScore(LocalDateTime.now());
+		redisTemplate.execute((RedisCallback<Object>)connection -> {
+			connection.zAdd(indexKey, MatchKey.getScore(startTime), member);
+			connection.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+			return null;
+		});
 	}
 
 	public void deleteMatchUser(Long userId) {
-		Set<String> keys = redisTemplate.keys(MatchKey.getUser(userId) + "*");
-		keys.stream().forEach(key -> redisTemplate.delete(key));
+		List<String> keys = findEnrolledKeys(userId);
+		keys.add(MatchKey.getUserIndex(userId));
+		redisTemplate.delete(keys);
 	}
 
 	public void deleteMatchTime(Long userId, LocalDateTime startTime) {
 		redisTemplate.delete(MatchKey.getUserTime(userId, startTime));
+		byte[] member = serialize(MatchKey.getUserTime(userId, startTime));
+		redisTemplate.execute((RedisCallback<Object>)connection ->
+			connection.zRem(serialize(MatchKey.getUserIndex(userId)), member));
 	}
 
+	/**
+	 * 아직 시작하지 않은 등록 시간 수. O(log n)
+	 */
 	public int countMatchTime(Long userId) {
-		return redisTemplate.keys(MatchKey.getUser(userId) + "*").size();
+		double now = MatchKey.getScore(LocalDateTime.now());
+		Long count = redisTemplate.execute((RedisCallback<Long>)connection ->
+			connection.zCount(serialize(MatchKey.getUserIndex(userId)), now, Double.POSITIVE_INFINITY));
+		return Objects.requireNonNullElse(count, 0L).intValue();
 	}
 
+	/**
+	 * 인덱스로 key 를 찾고 MGET 한 번으로 값을 가져온다.
+	 */
 	public Set<RedisMatchTime> getAllMatchTime(Long userId) {
-		Set<String> keys = redisTemplate.keys(MatchKey.getUser(userId) + "*");
-		return keys.stream().map(key -> redisTemplate.opsForValue().get(key)).collect(Collectors.toSet());
+		List<String> keys = findEnrolledKeys(userId);
+		if (keys.isEmpty()) {
+			return Collections.emptySet();
+		}
+		List<RedisMatchTime> matchTimes = redisTemplate.opsForValue().multiGet(keys);
+		if (matchTimes == null) {
+			return Collections.emptySet();
+		}
+		return matchTimes.stream().filter(Objects::nonNull).collect(Collectors.toSet());
 	}
 
 	public Optional<RedisMatchTime> getUserTime(Long userId, LocalDateTime startTime) {
 		return Optional.ofNullable(redisTemplate.opsForValue().get(MatchKey.getUserTime(userId, startTime)));
 	}
+
+	/**
+	 * 인덱스 도입 이전에 등록된 유저별 매칭 key 를 SCAN 으로 찾아 인덱스에 추가한다.
+	 *
+	 * @return 인덱스에 추가한 key 수
+	 */
+	public int migrateIndex() {
+		ScanOptions options = ScanOptions.scanOptions().match(MatchKey.USER + "*").count(1000).build();
+		Integer count = redisTemplate.execute((RedisCallback<Integer>)connection -> {
+			int added = 0;
+			Cursor<byte[]> cursor = connection.scan(options);
+			while (cursor.hasNext()) {
+				byte[] key = cursor.next();
+				// MATCH:USER:userId:startTime
+				String[] tokens = new String(key, StandardCharsets.UTF_8).substring(MatchKey.USER.length())
+					.split(":", 2);
+				if (tokens.length < 2) {
+					continue;
+				}
+				LocalDateTime startTime = LocalDateTime.parse(tokens[1]);
+				connection.zAdd(serialize(MatchKey.getUserIndex(Long.valueOf(tokens[0]))),
+					MatchKey.getScore(startTime), key);
+				added++;
+			}
+			return added;
+		});
+		return Objects.requireNonNullElse(count, 0);
+	}
+
+	private List<String> findEnrolledKeys(Long userId) {
+		double now = MatchKey.getScore(LocalDateTime.now());
+		Set<byte[]> members = redisTemplate.execute((RedisCallback<Set<byte[]>>)connection ->
+			connection.zRangeByScore(serialize(MatchKey.getUserIndex(userId)), now, Double.POSITIVE_INFINITY));
+		if (members == null) {
+			return new ArrayList<>();
+		}
+		return members.stream().map(member -> new String(member, StandardCharsets.UTF_8))
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	private byte[] serialize(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
 }
@@ -1,9 +1,14 @@
 package gg.repo.noti;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import gg.data.noti.Noti;
 import gg.data.user.User;
@@ -15,7 +20,19 @@ public interface NotiRepository extends JpaRepository<Noti, Long>, NotiRepositor
 
 	List<Noti> findAllByUser(User user);
 
-	List<Noti> findAllByUserOrderByIdDesc(User user);
+	/**
+	 * cursor 보다 id 가 작은 유저의 알림을 최신순으로 조회한다. (fk_noti_user_user_id)
+	 */
+	@Query("SELECT n FROM Noti n WHERE n.user.id = :userId AND n.id < :cursor ORDER BY n.id DESC")
+	List<Noti> findPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+	/**
+	 * 유저의 읽지 않은 알림을 UPDATE 한 번으로 읽음 처리한다. (idx_noti_user_id_is_checked)
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Noti n SET n.isChecked = true, n.modifiedAt = :now "
+		+ "WHERE n.user.id = :userId AND n.isChecked = false")
+	int updateAllCheckedByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 
 	void deleteAllByUser(User user);
 }
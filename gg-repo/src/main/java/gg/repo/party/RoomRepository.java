@@ -3,6 +3,7 @@ package gg.repo.party;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,11 +16,40 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
 	List<Room> findByStatus(RoomType status, Sort sort);
 
-	@Query("SELECT r FROM Room r WHERE r.status IN :statuses")
-	List<Room> findByStatusIn(@Param("statuses") List<RoomType> statuses);
-
 	@Query("SELECT r FROM Room r WHERE r.status = :status AND r.startDate < :cutline")
 	List<Room> findByStatusAndStartDate(@Param("status") RoomType status,
 		@Param("cutline") LocalDateTime cutline);
 
+	/**
+	 * status 의 방을 생성일 최신순으로 조회한다. (idx_room_status_created_at_id)
+	 */
+	@Query("SELECT r FROM Room r JOIN FETCH r.category WHERE r.status = :status "
+		+ "ORDER BY r.createdAt DESC, r.id DESC")
+	List<Room> findByStatusOrderByCreatedAtDesc(@Param("status") RoomType status, Pageable pageable);
+
+	/**
+	 * (createdAt, id) 커서 다음의 방을 생성일 최신순으로 조회한다.
+	 */
+	@Query("SELECT r FROM Room r JOIN FETCH r.category WHERE r.status = :status "
+		+ "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+		+ "ORDER BY r.createdAt DESC, r.id DESC")
+	List<Room> findByStatusOrderByCreatedAtDescAfter(@Param("status") RoomType status,
+		@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+	/**
+	 * status 의 방을 시작 시간 최신순으로 조회한다. (idx_room_status_start_date_id)
+	 */
+	@Query("SELECT r FROM Room r JOIN FETCH r.category WHERE r.status = :status "
+		+ "ORDER BY r.startDate DESC, r.id DESC")
+	List<Room> findByStatusOrderByStartDateDesc(@Param("status") RoomType status, Pageable pageable);
+
+	/**
+	 * (startDate, id) 커서 다음의 방을 시작 시간 최신순으로 조회한다.
+	 */
+	@Query("SELECT r FROM Room r JOIN FETCH r.category WHERE r.status = :status "
+		+ "AND (r.startDate < :startDate OR (r.startDate = :startDate AND r.id < :id)) "
+		+ "ORDER BY r.startDate DESC, r.id DESC")
+	List<Room> findByStatusOrderByStartDateDescAfter(@Param("status") RoomType status,
+		@Param("startDate") LocalDateTime startDate, @Param("id") Long id, Pageable pageable);
+
 }
@@ -0,0 +1,47 @@
+package gg.repo.rank;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA 의 IDENTITY 전략으로는 batch insert 가 되지 않아 JDBC 로 rank 를 한 번에 추가한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankJdbcRepository {
+	private static final String INSERT_NEW_SEASON_RANK = "INSERT INTO ranks "
+		+ "(user_id, season_id, tier_id, ppp, wins, losses, status_message, created_at, modified_at) VALUES ";
+	private static final String NEW_SEASON_RANK_VALUES = "(?, ?, ?, ?, 0, 0, '', ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 새 시즌의 rank 를 multi-row INSERT 한 번으로 추가한다.
+	 *
+	 * @param seasonId 시즌 id
+	 * @param tierId 시작 티어 id
+	 * @param ppp 시작 ppp
+	 * @param userIds rank 를 만들 유저 id
+	 * @return 추가된 row 수
+	 */
+	public int insertNewSeasonRanks(Long seasonId, Long tierId, Integer ppp, List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<Object> args = new ArrayList<>(userIds.size() * 6);
+		for (Long userId : userIds) {
+			Collections.addAll(args, userId, seasonId, tierId, ppp, now, now);
+		}
+		String sql = INSERT_NEW_SEASON_RANK + String.join(", ", Collections.nCopies(userIds.size(),
+			NEW_SEASON_RANK_VALUES));
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+}
@@ -1,5 +1,6 @@
 package gg.repo.rank;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,11 +26,44 @@ public interface RankRepository extends JpaRepository<Rank, Long> {
 	@EntityGraph(attributePaths = {"user", "tier"})
 	List<Rank> findAllBySeasonId(Long seasonId);
 
-	List<Rank> findAllBySeasonIdOrderByPppDesc(Long seasonId);
+	List<Rank> findTop3BySeasonIdOrderByPppDescIdAsc(Long seasonId);
+
+	List<Rank> findAllBySeasonIdAndPppBetween(Long seasonId, Integer minPpp, Integer maxPpp);
+
+	List<Rank> findAllBySeasonIdAndUserIdIn(Long seasonId, Collection<Long> userIds);
+
+	@Query("select r.season.id from Rank r where r.user.id=:userId")
+	List<Long> findSeasonIdsByUserId(@Param("userId") Long userId);
+
+	/**
+	 * ppp 내림차순으로 offset 번째 랭크의 ppp
+	 */
+	@Query(value = "SELECT r.ppp FROM ranks r WHERE r.season_id = :seasonId "
+		+ "ORDER BY r.ppp DESC, r.id ASC LIMIT 1 OFFSET :offset", nativeQuery = true)
+	Optional<Integer> findPppBySeasonIdAtOffset(@Param("seasonId") Long seasonId, @Param("offset") int offset);
 
 	@Query(value = "select count(r) from Rank r where r.season.id=:seasonId and not (r.wins = 0 and r.losses = 0)")
 	Long countRealRankPlayers(@Param("seasonId") Long seasonId);
 
+	@Query(value = "SELECT u.intra_id intraId, r.status_message statusMessage, s.ppp, "
+		+ "t.image_uri tierImageUri, u.text_color textColor, s.ranking ranking "
+		+ "FROM rank_snapshot s "
+		+ "INNER JOIN ranks r "
+		+ "ON r.season_id = s.season_id AND r.user_id = s.user_id "
+		+ "INNER JOIN tier t "
+		+ "ON r.tier_id = t.id "
+		+ "INNER JOIN user u "
+		+ "ON s.user_id = u.id "
+		+ "WHERE s.season_id = :seasonId "
+		+ "ORDER BY s.ranking ASC, s.user_id ASC "
+		+ "LIMIT :limit OFFSET :offset ", nativeQuery = true)
+	List<RankV2Dto> findPppRankBySeasonId(@Param("offset") int offset, @Param("limit") int limit,
+		@Param("seasonId") Long seasonId);
+
+	/**
+	 * rank_snapshot 을 거치지 않고 PChange 로부터 랭킹을 직접 계산한다.
+	 * 스냅샷 정합성 검사에만 사용한다.
+	 */
 	@Query(value = "SELECT u.intra_id intraId, r.status_message statusMessage, r.ppp, "
 		+ "t.image_uri tierImageUri, u.text_color textColor, "
 		+ "RANK() OVER(ORDER BY r.ppp DESC, pg.created_at ASC, u.total_exp DESC) AS ranking "
@@ -47,7 +81,7 @@ public interface RankRepository extends JpaRepository<Rank, Long> {
 		+ "ON pg.user_id = u.id "
 		+ "WHERE r.season_id = :seasonId AND (r.losses > 0 OR r.wins > 0) "
 		+ "LIMIT :limit OFFSET :offset ", nativeQuery = true)
-	List<RankV2Dto> findPppRankBySeasonId(@Param("offset") int offset, @Param("limit") int limit,
+	List<RankV2Dto> findLivePppRankBySeasonId(@Param("offset") int offset, @Param("limit") int limit,
 		@Param("seasonId") Long seasonId);
 
 	@Query(value = "SELECT count(*) "
@@ -57,21 +91,8 @@ public interface RankRepository extends JpaRepository<Rank, Long> {
 		+ "WHERE r.season_id = :seasonId AND (r.losses > 0 OR r.wins > 0) ", nativeQuery = true)
 	int countRankUserBySeasonId(@Param("seasonId") Long seasonId);
 
-	@Query(value = "SELECT ranked.ranking "
-		+ "FROM ("
-		+ "SELECT u.id userId, RANK() OVER(ORDER BY r.ppp DESC, pg.created_at ASC, u.total_exp DESC) AS ranking "
-		+ "FROM Ranks r "
-		+ "INNER JOIN User u "
-		+ "ON r.user_id = u.id "
-		+ "INNER JOIN (SELECT MAX(p.created_at) created_at, p.user_id user_id "
-		+ "                FROM PChange p"
-		+ "                INNER JOIN Game g"
-		+ "                ON p.game_id = g.id"
-		+ "            WHERE g.season_id = :seasonId"
-		+ "            GROUP BY p.user_id) pg "
-		+ "ON pg.user_id = u.id "
-		+ "WHERE r.season_id = :seasonId AND (r.losses > 0 OR r.wins > 0) "
-		+ ") ranked "
-		+ "WHERE ranked.userId = :userId", nativeQuery = true)
+	@Query(value = "SELECT s.ranking "
+		+ "FROM rank_snapshot s "
+		+ "WHERE s.season_id = :seasonId AND s.user_id = :userId", nativeQuery = true)
 	Optional<Integer> findRankByUserIdAndSeasonId(@Param("userId") Long userId, @Param("seasonId") Long seasonId);
 }
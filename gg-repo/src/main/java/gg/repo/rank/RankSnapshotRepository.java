@@ -0,0 +1,104 @@
+package gg.repo.rank;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import gg.data.pingpong.rank.RankSnapshot;
+
+public interface RankSnapshotRepository extends JpaRepository<RankSnapshot, Long> {
+	Optional<RankSnapshot> findBySeasonIdAndUserId(Long seasonId, Long userId);
+
+	List<RankSnapshot> findAllBySeasonIdOrderByRankingAsc(Long seasonId);
+
+	/**
+	 * 주어진 정렬 키보다 앞선 순위의 유저 수 (자기 자신 제외)
+	 */
+	@Query("select count(s) from RankSnapshot s where s.seasonId = :seasonId and s.userId <> :userId "
+		+ "and (s.ppp > :ppp "
+		+ "or (s.ppp = :ppp and s.lastGameAt < :lastGameAt) "
+		+ "or (s.ppp = :ppp and s.lastGameAt = :lastGameAt and s.totalExp > :totalExp))")
+	Long countRankedAbove(@Param("seasonId") Long seasonId, @Param("userId") Long userId,
+		@Param("ppp") Integer ppp, @Param("lastGameAt") LocalDateTime lastGameAt,
+		@Param("totalExp") Integer totalExp);
+
+	/**
+	 * 순위가 올라간 유저에게 추월당한 유저들의 순위를 1씩 내린다.
+	 * 새 정렬 키와 동점인 유저는 순위를 유지한다.
+	 */
+	@Modifying
+	@Query("update RankSnapshot s set s.ranking = s.ranking + 1 "
+		+ "where s.seasonId = :seasonId and s.userId <> :userId "
+		+ "and s.ranking >= :newRanking and s.ranking <= :oldRanking "
+		+ "and not (s.ppp = :ppp and s.lastGameAt = :lastGameAt and s.totalExp = :totalExp)")
+	int pushDownBetween(@Param("seasonId") Long seasonId, @Param("userId") Long userId,
+		@Param("newRanking") Integer newRanking, @Param("oldRanking") Integer oldRanking,
+		@Param("ppp") Integer ppp, @Param("lastGameAt") LocalDateTime lastGameAt,
+		@Param("totalExp") Integer totalExp);
+
+	/**
+	 * 순위가 내려간 유저를 추월한 유저들의 순위를 1씩 올린다.
+	 * 새 정렬 키와 동점이 되는 유저도 함께 올린다.
+	 */
+	@Modifying
+	@Query("update RankSnapshot s set s.ranking = s.ranking - 1 "
+		+ "where s.seasonId = :seasonId and s.userId <> :userId "
+		+ "and s.ranking > :oldRanking and s.ranking <= :newRanking + 1 "
+		+ "and (s.ranking <= :newRanking "
+		+ "or (s.ppp = :ppp and s.lastGameAt = :lastGameAt and s.totalExp = :totalExp))")
+	int pullUpBetween(@Param("seasonId") Long seasonId, @Param("userId") Long userId,
+		@Param("oldRanking") Integer oldRanking, @Param("newRanking") Integer newRanking,
+		@Param("ppp") Integer ppp, @Param("lastGameAt") LocalDateTime lastGameAt,
+		@Param("totalExp") Integer totalExp);
+
+	/**
+	 * 새로 랭킹에 진입한 유저보다 뒤에 있는 유저들의 순위를 1씩 내린다.
+	 */
+	@Modifying
+	@Query("update RankSnapshot s set s.ranking = s.ranking + 1 "
+		+ "where s.seasonId = :seasonId and s.ranking >= :newRanking "
+		+ "and not (s.ppp = :ppp and s.lastGameAt = :lastGameAt and s.totalExp = :totalExp)")
+	int pushDownFrom(@Param("seasonId") Long seasonId, @Param("newRanking") Integer newRanking,
+		@Param("ppp") Integer ppp, @Param("lastGameAt") LocalDateTime lastGameAt,
+		@Param("totalExp") Integer totalExp);
+
+	/**
+	 * 랭킹에서 빠진 유저보다 뒤에 있던 유저들의 순위를 1씩 올린다.
+	 */
+	@Modifying
+	@Query("update RankSnapshot s set s.ranking = s.ranking - 1 "
+		+ "where s.seasonId = :seasonId and s.ranking > :oldRanking")
+	int pullUpFrom(@Param("seasonId") Long seasonId, @Param("oldRanking") Integer oldRanking);
+
+	@Modifying
+	@Query("delete from RankSnapshot s where s.seasonId = :seasonId")
+	void deleteAllBySeasonId(@Param("seasonId") Long seasonId);
+
+	/**
+	 * PChange 기준으로 해당 시즌의 스냅샷을 다시 계산해서 저장한다.
+	 * RankRepository.findLivePppRankBySeasonId 와 같은 정렬 기준을 사용한다.
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO rank_snapshot "
+		+ "(season_id, user_id, ranking, ppp, last_game_at, total_exp, created_at, modified_at) "
+		+ "SELECT r.season_id, r.user_id, "
+		+ "RANK() OVER(ORDER BY r.ppp DESC, pg.created_at ASC, IFNULL(u.total_exp, 0) DESC), "
+		+ "r.ppp, pg.created_at, IFNULL(u.total_exp, 0), NOW(), NOW() "
+		+ "FROM ranks r "
+		+ "INNER JOIN user u "
+		+ "ON r.user_id = u.id "
+		+ "INNER JOIN (SELECT MAX(p.created_at) created_at, p.user_id user_id "
+		+ "                FROM pchange p"
+		+ "                INNER JOIN game g"
+		+ "                ON p.game_id = g.id"
+		+ "            WHERE g.season_id = :seasonId"
+		+ "            GROUP BY p.user_id) pg "
+		+ "ON pg.user_id = u.id "
+		+ "WHERE r.season_id = :seasonId AND (r.losses > 0 OR r.wins > 0)", nativeQuery = true)
+	int insertAllBySeasonId(@Param("seasonId") Long seasonId);
+}
@@ -1,13 +1,24 @@
 package gg.repo.rank.redis;
 
-import java.util.Comparator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import gg.data.pingpong.rank.redis.RankRedis;
@@ -15,6 +26,18 @@ import gg.utils.exception.rank.RedisDataNotFoundException;
 
 @Repository
 public class RankRedisRepository {
+	/**
+	 * KEYS[1] : hash key, KEYS[2] : zset key
+	 * ARGV : (hash field, hash value, zset member, score) 를 유저 수만큼 반복
+	 */
+	private static final RedisScript<Long> UPDATE_RANK_SCRIPT = new DefaultRedisScript<>(
+		"for i = 1, #ARGV, 4 do "
+			+ "redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) "
+			+ "redis.call('ZADD', KEYS[2], ARGV[i + 3], ARGV[i + 2]) "
+			+ "end "
+			+ "return #ARGV / 4", Long.class);
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
 	private final ZSetOperations<String, Object> zSetOps;
 	private final HashOperations<String, String, Object> hashOps;
 	private final RedisTemplate<String, Object> redisTemplate;
@@ -115,11 +138,11 @@ public class RankRedisRepository {
 	 */
 	public List<Long> getUserIdsByRangeFromZSet(String key, long startRank, long endRank) {
 		Set<Object> result = zSetOps.reverseRange(key, startRank, endRank);
-		List<String> stringList = result.stream().map(Object::toString).collect(Collectors.toList());
 		if (result == null) {
 			throw new RedisDataNotFoundException();
 		}
-		return stringList.stream()
+		return result.stream()
+			.map(Object::toString)
 			.map(Long::parseLong).collect(Collectors.toList());
 	}
 
@@ -134,6 +157,21 @@ public class RankRedisRepository {
 		hashOps.put(key, userId.toString(), userRank);
 	}
 
+	/**
+	 *
+	 * @param key
+	 * @param userRanks
+	 * redis hash에 여러 user rank데이터를 HSET 한 번으로 추가하는 메소드
+	 */
+	public void addAllRankData(String key, List<RankRedis> userRanks) {
+		if (userRanks.isEmpty()) {
+			return;
+		}
+		Map<String, Object> ranks = new LinkedHashMap<>();
+		userRanks.forEach(userRank -> ranks.put(userRank.getUserId().toString(), userRank));
+		hashOps.putAll(key, ranks);
+	}
+
 	/**
 	 *
 	 * @param key
@@ -161,6 +199,48 @@ public class RankRedisRepository {
 		hashOps.put(key, userId.toString(), userRank);
 	}
 
+	/**
+	 *
+	 * @param hashKey
+	 * @param zSetKey
+	 * @param userId
+	 * @param userRank
+	 *
+	 * 해당 유저의 rank데이터와 ZSET의 ppp를 Lua script 한 번으로 함께 업데이트하는 메소드
+	 */
+	public void updateRankDataAndScore(String hashKey, String zSetKey, Long userId, RankRedis userRank) {
+		redisTemplate.execute(UPDATE_RANK_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+			List.of(hashKey, zSetKey), rankScriptArgs(userId, userRank).toArray());
+	}
+
+	/**
+	 *
+	 * @param hashKey
+	 * @param zSetKey
+	 * @param userRanks
+	 *
+	 * 여러 유저(게임의 두 유저)의 rank데이터와 ZSET의 ppp를 Lua script 한 번으로 함께 업데이트하는 메소드
+	 */
+	public void updateAllRankDataAndScore(String hashKey, String zSetKey, List<RankRedis> userRanks) {
+		List<byte[]> args = new ArrayList<>();
+		userRanks.forEach(userRank -> args.addAll(rankScriptArgs(userRank.getUserId(), userRank)));
+		redisTemplate.execute(UPDATE_RANK_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+			List.of(hashKey, zSetKey), args.toArray());
+	}
+
+	private List<byte[]> rankScriptArgs(Long userId, RankRedis userRank) {
+		return List.of(
+			serialize(redisTemplate.getHashKeySerializer(), userId.toString()),
+			serialize(redisTemplate.getHashValueSerializer(), userRank),
+			serialize(redisTemplate.getValueSerializer(), userId.toString()),
+			String.valueOf(userRank.getPpp()).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serialize(RedisSerializer serializer, Object value) {
+		return Objects.requireNonNull(serializer.serialize(value));
+	}
+
 	/**
 	 *
 	 * @param key
@@ -188,15 +268,59 @@ public class RankRedisRepository {
 		return objects.stream().map(RankRedis.class::cast).collect(Collectors.toList());
 	}
 
-	public List<RankRedis> findAllRanksOrderByPppDesc(String key) {
-		List<Object> objects = hashOps.values(key);
-		if (objects == null) {
-			throw new RedisDataNotFoundException();
+	/**
+	 *
+	 * @param zSetKey
+	 * @param hashKey
+	 * @param startRank
+	 * @param endRank
+	 *
+	 * ZSET 순위 범위의 userId 로 hash 에서 해당 유저의 rank데이터만 HMGET 으로 조회하는 메소드
+	 * startRank -> 0부터 시작, ppp가 높은순. hash 에 없는 유저는 null
+	 */
+	public List<RankRedis> findRanksByRange(String zSetKey, String hashKey, long startRank, long endRank) {
+		List<Long> userIds = getUserIdsByRangeFromZSet(zSetKey, startRank, endRank);
+		if (userIds.isEmpty()) {
+			return new ArrayList<>();
 		}
-		return objects.stream()
-			.map(RankRedis.class::cast)
-			.sorted(Comparator.comparing(RankRedis::getPpp).reversed())
-			.collect(Collectors.toList());
+		return findRanksByUserIds(hashKey, userIds);
+	}
+
+	/**
+	 *
+	 * @param zSetKey
+	 * @param hashKey
+	 * @param chunkSize 한 번에 읽을 유저 수
+	 *
+	 * 시즌 전체 rank데이터를 ppp가 높은순으로 chunkSize 명씩 나눠 읽는 Iterator를 반환하는 메소드
+	 * chunk 마다 ZSET 범위 조회와 HMGET 을 한 번씩 하고, hash 에 없는 유저는 건너뛴다.
+	 * 읽는 도중 순위가 바뀌면 chunk 경계의 유저가 빠지거나 두 번 나올 수 있다.
+	 */
+	public Iterator<RankRedis> iterateRanksOrderByPppDesc(String zSetKey, String hashKey, int chunkSize) {
+		return new Iterator<>() {
+			private long nextRank = 0;
+			private boolean lastChunk = false;
+			private Iterator<RankRedis> chunk = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!chunk.hasNext() && !lastChunk) {
+					List<RankRedis> ranks = findRanksByRange(zSetKey, hashKey, nextRank, nextRank + chunkSize - 1);
+					lastChunk = ranks.size() < chunkSize;
+					nextRank += chunkSize;
+					chunk = ranks.stream().filter(Objects::nonNull).iterator();
+				}
+				return chunk.hasNext();
+			}
+
+			@Override
+			public RankRedis next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return chunk.next();
+			}
+		};
 	}
 
 	public Long countTotalRank(String zSetKey) {
@@ -4,7 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -23,4 +26,6 @@ public interface SeasonRepository extends JpaRepository<Season, Long> {
 	@Query("select s from Season s where s.startTime <= :now and s.endTime >= :now or s.startTime > :now")
 	List<Season> findCurrentAndNewSeason(@Param("now") LocalDateTime now);
 
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Season> findWithPessimisticLockById(Long seasonId);
 }
@@ -113,6 +113,7 @@ public enum ErrorCode {
 	SLOT_NOT_FOUND(404, "MA100", "SLOT NOT FOUND"),
 	PENALTY_USER_ENROLLED(400, "MA302", "PENALTY USER ENROLLED"),
 	SLOT_PAST(400, "MA303", "PAST SLOT ENROLLED"),
+	SLOT_BUSY(409, "MA304", "SLOT IS BUSY"),
 	MODE_INVALID(400, "MA200", "MODE INVALID"),
 
 	/**
@@ -148,6 +149,9 @@ public enum ErrorCode {
 	SLACK_JSON_PARSE_ERR(400, "SL002", "json parse error"),
 	SLACK_SEND_FAIL(400, "SL003", "fail to send notification"),
 
+	// noti
+	NOTI_JOB_NOT_FOUND(404, "NT100", "NOTIFICATION JOB NOT FOUND"),
+
 	// Tournament
 	TOURNAMENT_INVALID_TIME(400, "TN001", "유효한 토너먼트 기간이 아닙니다."),
 	TOURNAMENT_CAN_NOT_UPDATE(403, "TN002", "토너먼트를 업데이트 할 수 없는 기간입니다."),
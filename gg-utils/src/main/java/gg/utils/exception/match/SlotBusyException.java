@@ -0,0 +1,10 @@
+package gg.utils.exception.match;
+
+import gg.utils.exception.ErrorCode;
+import gg.utils.exception.custom.BusinessException;
+
+public class SlotBusyException extends BusinessException {
+	public SlotBusyException() {
+		super("다른 매칭 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", ErrorCode.SLOT_BUSY);
+	}
+}
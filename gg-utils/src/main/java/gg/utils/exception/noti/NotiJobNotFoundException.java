@@ -0,0 +1,10 @@
+package gg.utils.exception.noti;
+
+import gg.utils.exception.ErrorCode;
+import gg.utils.exception.custom.NotExistException;
+
+public class NotiJobNotFoundException extends NotExistException {
+	public NotiJobNotFoundException() {
+		super("알림 전송 작업을 찾을 수 없습니다.", ErrorCode.NOTI_JOB_NOT_FOUND);
+	}
+}
@@ -7,4 +7,12 @@ public interface MessageSender {
 	void send(String intraUsername, String message);
 
 	void sendGroup(List<String> intraUsernames, String message);
+
+	/**
+	 * 전체 공지처럼 여러 사람에게 같은 메시지를 각각 보낼 때 쓴다.
+	 * 기다리지 않고 send, sendGroup 과 다른 큐에 넣으며, send, sendGroup 으로 쌓인 메시지가 없을 때만 보낸다.
+	 *
+	 * @return 모두 큐에 넣었으면 true, 큐가 가득 차서 하나도 넣지 않았으면 false
+	 */
+	boolean sendBulk(List<String> intraUsernames, String message);
 }
@@ -0,0 +1,69 @@
+package gg.utils.sns.slack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * intraId -> 슬랙 유저 id, 슬랙 유저 id 목록 -> DM 채널 id 캐시.
+ * <p>
+ *     슬랙 유저 id 와 DM 채널 id 는 바뀌지 않으므로 Redis hash 에 만료 없이 저장한다. <br/>
+ *     처음 보는 유저, 채널만 슬랙 API 를 호출하고, 채널이 사라진 경우 evictChannel 로 지운다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SlackIdCache {
+	private static final String USER_ID_KEY = "slack:userId";
+	private static final String CHANNEL_ID_KEY = "slack:channelId";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final SlackbotApiUtils slackbotApiUtils;
+
+	/**
+	 * intraId 의 슬랙 유저 id 를 한 번에 조회한다.
+	 *
+	 * @param intraIds intraId 목록
+	 * @return intraIds 와 같은 순서의 슬랙 유저 id
+	 */
+	public List<String> getUserIds(List<String> intraIds) {
+		HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+		List<String> cached = hash.multiGet(USER_ID_KEY, intraIds);
+		List<String> userIds = new ArrayList<>(intraIds.size());
+		for (int i = 0; i < intraIds.size(); i++) {
+			String userId = cached.get(i);
+			if (userId == null) {
+				userId = slackbotApiUtils.findSlackUserIdByIntraId(intraIds.get(i));
+				hash.put(USER_ID_KEY, intraIds.get(i), userId);
+			}
+			userIds.add(userId);
+		}
+		return userIds;
+	}
+
+	/**
+	 * 슬랙 유저들과의 DM 채널 id 를 조회한다. 한 명이면 1:1 DM, 여러 명이면 그룹 DM 이다.
+	 *
+	 * @param slackUserIds 슬랙 유저 id 목록
+	 * @return DM 채널 id
+	 */
+	public String getChannelId(List<String> slackUserIds) {
+		String users = String.join(",", slackUserIds);
+		HashOperations<String, String, String> hash = stringRedisTemplate.opsForHash();
+		String channelId = hash.get(CHANNEL_ID_KEY, users);
+		if (channelId == null) {
+			channelId = slackbotApiUtils.createChannel(users);
+			hash.put(CHANNEL_ID_KEY, users, channelId);
+		}
+		return channelId;
+	}
+
+	public void evictChannel(List<String> slackUserIds) {
+		stringRedisTemplate.opsForHash().delete(CHANNEL_ID_KEY, String.join(",", slackUserIds));
+	}
+}
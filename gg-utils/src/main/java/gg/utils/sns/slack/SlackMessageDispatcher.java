@@ -0,0 +1,259 @@
+package gg.utils.sns.slack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import gg.utils.sns.MessageSender;
+import gg.utils.sns.slack.response.MessageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 슬랙 메시지를 큐에 모아 한 스레드에서 보내는 MessageSender.
+ * <p>
+ *     받는 사람(intraId 목록) 단위로 메시지를 모으고, 앞 메시지를 보내는 동안 쌓인 메시지는 최대 maxCoalesce 개까지
+ *     한 메시지로 합쳐서 보낸다. <br/>
+ *     메시지는 intervalMillis 간격으로 보내고, 429 응답을 받으면 Retry-After 만큼 쉬고 다시 보낸다. <br/>
+ *     send, sendGroup 의 큐에는 최대 capacity 개까지 쌓이고, 넘치는 메시지는 버린다. <br/>
+ *     sendBulk 의 메시지는 받는 사람 최대 bulkCapacity 명까지 따로 쌓아 두고,
+ *     send, sendGroup 의 큐가 비어 있을 때만 한 명씩 보낸다. 공지가 매칭 알림을 밀어내지 않게 하기 위함이다. <br/>
+ *     슬랙 유저 id, DM 채널 id 는 SlackIdCache 를 사용한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlackMessageDispatcher implements MessageSender {
+	private static final String MESSAGE_SEPARATOR = "\n\n";
+	private static final long DEFAULT_RETRY_AFTER_SECONDS = 1L;
+	private static final Set<String> STALE_CHANNEL_ERRORS = Set.of("channel_not_found", "is_archived");
+
+	@Value("${slack.dispatcher.capacity:10000}")
+	private int capacity;
+
+	@Value("${slack.dispatcher.bulkCapacity:100000}")
+	private int bulkCapacity;
+
+	@Value("${slack.dispatcher.intervalMillis:100}")
+	private long intervalMillis;
+
+	@Value("${slack.dispatcher.maxCoalesce:10}")
+	private int maxCoalesce;
+
+	private final SlackbotApiUtils slackbotApiUtils;
+	private final SlackIdCache slackIdCache;
+
+	private final Map<List<String>, Deque<String>> pending = new LinkedHashMap<>();
+	private int pendingCount;
+	private final Deque<BulkMessage> bulk = new ArrayDeque<>();
+	private int bulkCount;
+	private long nextSendAt;
+	private ExecutorService worker;
+
+	@PostConstruct
+	public void start() {
+		worker = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "slack-dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		worker.execute(this::run);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		worker.shutdownNow();
+		synchronized (pending) {
+			if (pendingCount + bulkCount > 0) {
+				log.warn("slack dispatcher stopped with {} messages", pendingCount + bulkCount);
+			}
+		}
+	}
+
+	@Override
+	public void send(String intraUsername, String message) {
+		enqueue(List.of(intraUsername), message);
+	}
+
+	@Override
+	public void sendGroup(List<String> intraUsernames, String message) {
+		enqueue(intraUsernames.stream().distinct().sorted().collect(Collectors.toList()), message);
+	}
+
+	@Override
+	public boolean sendBulk(List<String> intraUsernames, String message) {
+		if (intraUsernames.isEmpty()) {
+			return true;
+		}
+		synchronized (pending) {
+			if (bulkCount + intraUsernames.size() > bulkCapacity) {
+				log.error("slack bulk queue is full, drop message to {} users", intraUsernames.size());
+				return false;
+			}
+			bulk.add(new BulkMessage(message, new ArrayDeque<>(intraUsernames)));
+			bulkCount += intraUsernames.size();
+			pending.notifyAll();
+			return true;
+		}
+	}
+
+	private void enqueue(List<String> intraIds, String message) {
+		synchronized (pending) {
+			if (pendingCount >= capacity) {
+				log.error("slack queue is full, drop message to {}", intraIds);
+				return;
+			}
+			pending.computeIfAbsent(intraIds, key -> new ArrayDeque<>()).add(message);
+			pendingCount++;
+			pending.notifyAll();
+		}
+	}
+
+	private void run() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Batch batch = take();
+				dispatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				log.error("slack dispatch failed : {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 가장 먼저 쌓인 받는 사람의 메시지를 꺼낸다. 남은 메시지는 큐의 맨 뒤로 보내 다른 사람이 밀리지 않게 한다.
+	 * send, sendGroup 의 큐가 비어 있으면 sendBulk 의 메시지를 한 명 몫 꺼낸다.
+	 */
+	private Batch take() throws InterruptedException {
+		synchronized (pending) {
+			while (pending.isEmpty() && bulk.isEmpty()) {
+				pending.wait();
+			}
+			if (pending.isEmpty()) {
+				return takeBulk();
+			}
+			Iterator<Map.Entry<List<String>, Deque<String>>> iterator = pending.entrySet().iterator();
+			Map.Entry<List<String>, Deque<String>> first = iterator.next();
+			iterator.remove();
+			Deque<String> queued = first.getValue();
+			List<String> messages = new ArrayList<>();
+			while (!queued.isEmpty() && messages.size() < maxCoalesce) {
+				messages.add(queued.poll());
+			}
+			if (!queued.isEmpty()) {
+				pending.put(first.getKey(), queued);
+			}
+			pendingCount -= messages.size();
+			return new Batch(first.getKey(), messages, false);
+		}
+	}
+
+	private Batch takeBulk() {
+		BulkMessage first = bulk.peekFirst();
+		String intraId = first.intraIds.poll();
+		if (first.intraIds.isEmpty()) {
+			bulk.pollFirst();
+		}
+		bulkCount--;
+		return new Batch(List.of(intraId), List.of(first.message), true);
+	}
+
+	private void requeueFirst(Batch batch) {
+		synchronized (pending) {
+			if (batch.bulk) {
+				bulk.addFirst(new BulkMessage(batch.messages.get(0), new ArrayDeque<>(batch.intraIds)));
+				bulkCount++;
+				return;
+			}
+			Deque<String> messages = new ArrayDeque<>(batch.messages);
+			Deque<String> queued = pending.remove(batch.intraIds);
+			if (queued != null) {
+				messages.addAll(queued);
+			}
+			Map<List<String>, Deque<String>> others = new LinkedHashMap<>(pending);
+			pending.clear();
+			pending.put(batch.intraIds, messages);
+			pending.putAll(others);
+			pendingCount += batch.messages.size();
+		}
+	}
+
+	private void dispatch(Batch batch) throws InterruptedException {
+		String text = String.join(MESSAGE_SEPARATOR, batch.messages);
+		try {
+			awaitTurn();
+			List<String> slackUserIds = slackIdCache.getUserIds(batch.intraIds);
+			MessageResponse res = slackbotApiUtils.sendSlackMessage(text, slackIdCache.getChannelId(slackUserIds));
+			if (isStaleChannel(res)) {
+				slackIdCache.evictChannel(slackUserIds);
+				awaitTurn();
+				res = slackbotApiUtils.sendSlackMessage(text, slackIdCache.getChannelId(slackUserIds));
+			}
+			if (Objects.isNull(res) || !Boolean.TRUE.equals(res.getOk())) {
+				log.error("slack send failed to {} : {}", batch.intraIds, Objects.isNull(res) ? null : res.getError());
+			}
+		} catch (HttpClientErrorException.TooManyRequests e) {
+			requeueFirst(batch);
+			long retryAfter = retryAfterSeconds(e.getResponseHeaders());
+			log.warn("slack rate limited, retry after {}s", retryAfter);
+			nextSendAt = System.currentTimeMillis() + retryAfter * 1000L;
+		}
+	}
+
+	/**
+	 * 직전 호출에서 intervalMillis(429 이후에는 Retry-After) 가 지날 때까지 기다린다.
+	 */
+	private void awaitTurn() throws InterruptedException {
+		long wait = nextSendAt - System.currentTimeMillis();
+		if (wait > 0) {
+			Thread.sleep(wait);
+		}
+		nextSendAt = System.currentTimeMillis() + intervalMillis;
+	}
+
+	private static boolean isStaleChannel(MessageResponse res) {
+		return Objects.nonNull(res) && Objects.nonNull(res.getError()) && STALE_CHANNEL_ERRORS.contains(res.getError());
+	}
+
+	private static long retryAfterSeconds(HttpHeaders headers) {
+		String retryAfter = Objects.isNull(headers) ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+		try {
+			return Objects.isNull(retryAfter) ? DEFAULT_RETRY_AFTER_SECONDS : Long.parseLong(retryAfter);
+		} catch (NumberFormatException e) {
+			return DEFAULT_RETRY_AFTER_SECONDS;
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Batch {
+		private final List<String> intraIds;
+		private final List<String> messages;
+		private final boolean bulk;
+	}
+
+	@RequiredArgsConstructor
+	private static class BulkMessage {
+		private final String message;
+		private final Deque<String> intraIds;
+	}
+}
@@ -1,7 +1,6 @@
 package gg.utils.sns.slack;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -16,6 +15,7 @@ import org.springframework.util.MultiValueMap;
 import gg.utils.external.ApiUtil;
 import gg.utils.sns.slack.constant.SlackConstant;
 import gg.utils.sns.slack.response.ConversationResponse;
+import gg.utils.sns.slack.response.MessageResponse;
 import gg.utils.sns.slack.response.SlackUserInfoResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +26,9 @@ public class SlackbotApiUtils {
 	@Value("${slack.xoxbToken}")
 	private String authenticationToken;
 
+	@Value("${slack.apiUrl:https://slack.com/api}")
+	private String apiUrl;
+
 	private final ApiUtil apiUtil;
 
 	public String findSlackUserIdByIntraId(String intraId) {
@@ -37,7 +40,7 @@ public class SlackbotApiUtils {
 		params.add("email", convertToIntraEmail(intraId));
 
 		SlackUserInfoResponse res = apiUtil.apiCall(
-			SlackConstant.GET_USER_ID_URL.getValue(),
+			apiUrl + SlackConstant.GET_USER_ID_PATH.getValue(),
 			SlackUserInfoResponse.class,
 			httpHeaders,
 			params,
@@ -63,7 +66,7 @@ public class SlackbotApiUtils {
 		params.put("users", slackUser);
 
 		ConversationResponse res = apiUtil.apiCall(
-			SlackConstant.CONVERSATION_URL.getValue(),
+			apiUrl + SlackConstant.CONVERSATION_PATH.getValue(),
 			ConversationResponse.class,
 			httpHeaders,
 			params,
@@ -76,29 +79,7 @@ public class SlackbotApiUtils {
 		return res.getChannel().getId();
 	}
 
-	public String createGroupChannel(List<String> slackUserNames) {
-		HttpHeaders httpHeaders = new HttpHeaders();
-		httpHeaders.setBearerAuth(authenticationToken);
-		httpHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-		params.add("users", String.join(",", slackUserNames));
-
-		ConversationResponse res = apiUtil.apiCall(
-			SlackConstant.CONVERSATION_URL.getValue(),
-			ConversationResponse.class,
-			httpHeaders,
-			params,
-			HttpMethod.POST
-		);
-
-		if (Objects.isNull(res) || Objects.isNull(res.getChannel())) {
-			throw new RuntimeException("슬랙 API 고장으로 인한 NULL 참조" + slackUserNames);
-		}
-		return res.getChannel().getId();
-	}
-
-	public void sendSlackMessage(String message, String channelId) {
+	public MessageResponse sendSlackMessage(String message, String channelId) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.setBearerAuth(authenticationToken);
 		headers.setContentType(MediaType.APPLICATION_JSON);
@@ -107,9 +88,9 @@ public class SlackbotApiUtils {
 		params.put("channel", channelId);
 		params.put("text", message);
 
-		apiUtil.apiCall(
-			SlackConstant.SEND_MESSAGE_URL.getValue(),
-			String.class,
+		return apiUtil.apiCall(
+			apiUrl + SlackConstant.SEND_MESSAGE_PATH.getValue(),
+			MessageResponse.class,
 			headers,
 			params,
 			HttpMethod.POST
@@ -10,6 +10,9 @@ public enum SlackConstant {
 	CONVERSATION_URL("https://slack.com/api/conversations.open"),
 	SEND_MESSAGE_URL("https://slack.com/api/chat.postMessage"),
 	GET_USER_ID_URL("https://slack.com/api/users.lookupByEmail"),
+	CONVERSATION_PATH("/conversations.open"),
+	SEND_MESSAGE_PATH("/chat.postMessage"),
+	GET_USER_ID_PATH("/users.lookupByEmail"),
 	INTRA_EMAIL_SUFFIX("@student.42seoul.kr");
 
 	private final String value;
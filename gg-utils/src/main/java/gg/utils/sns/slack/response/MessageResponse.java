@@ -0,0 +1,11 @@
+package gg.utils.sns.slack.response;
+
+import lombok.Getter;
+
+@Getter
+public class MessageResponse {
+
+	private Boolean ok;
+
+	private String error;
+}
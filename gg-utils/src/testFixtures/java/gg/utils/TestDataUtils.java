@@ -28,6 +28,7 @@ import gg.data.party.UserReport;
 import gg.data.party.UserRoom;
 import gg.data.party.type.RoomType;
 import gg.data.pingpong.game.Game;
+import gg.data.pingpong.game.GameHistory;
 import gg.data.pingpong.game.PChange;
 import gg.data.pingpong.game.Team;
 import gg.data.pingpong.game.TeamUser;
@@ -60,8 +61,10 @@ import gg.data.user.type.RoleType;
 import gg.data.user.type.SnsType;
 import gg.pingpong.api.admin.tournament.controller.request.TournamentAdminCreateRequestDto;
 import gg.pingpong.api.admin.tournament.controller.request.TournamentAdminUpdateRequestDto;
+import gg.pingpong.api.user.store.service.CoinPolicyCache;
 import gg.pingpong.api.user.tournament.controller.response.TournamentResponseDto;
 import gg.pingpong.api.user.user.dto.UserImageDto;
+import gg.repo.game.GameHistoryRepository;
 import gg.repo.game.GameRepository;
 import gg.repo.game.PChangeRepository;
 import gg.repo.game.TeamRepository;
@@ -103,6 +106,7 @@ public class TestDataUtils {
 	private final NotiRepository notiRepository;
 	private final SeasonRepository seasonRepository;
 	private final GameRepository gameRepository;
+	private final GameHistoryRepository gameHistoryRepository;
 	private final TeamUserRepository teamUserRepository;
 	private final TeamRepository teamRepository;
 	private final RankRedisRepository redisRepository;
@@ -114,6 +118,7 @@ public class TestDataUtils {
 	private final TournamentUserRepository tournamentUserRepository;
 	private final AnnouncementRepository announcementRepository;
 	private final CoinPolicyRepository coinPolicyRepository;
+	private final CoinPolicyCache coinPolicyCache;
 	private final UserImageRepository userImageRepository;
 	private final SlotManagementRepository slotManagementRepository;
 	private final RoomRepository roomRepository;
@@ -305,6 +310,9 @@ public class TestDataUtils {
 		createUserRank(curUser, "statusMessage", season);
 		createUserRank(enemyUser, "enemyUserMeassage", season);
 		gameRepository.save(game);
+		if (game.getStatus() == StatusType.END) {
+			saveGameHistory(game, teamUser, enemyTeamUser);
+		}
 		return new GameInfoDto(game.getId(), myTeam.getId(), curUser.getId(), enemyTeam.getId(), enemyUser.getId());
 	}
 
@@ -326,7 +334,7 @@ public class TestDataUtils {
 		String zSetKey = RedisKeyManager.getZSetKey(season.getId());
 		String hashKey = RedisKeyManager.getHashKey(season.getId());
 		redisRepository.addRankData(hashKey, newUser.getId(),
-			new RankRedis(newUser.getId(), "aa", season.getStartPpp(), 0, 0, statusMessage,
+			new RankRedis(newUser.getId(), newUser.getIntraId(), season.getStartPpp(), 0, 0, statusMessage,
 				"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000"));
 		Rank userRank = Rank.builder()
 			.user(newUser)
@@ -346,7 +354,7 @@ public class TestDataUtils {
 		String zSetKey = RedisKeyManager.getZSetKey(season.getId());
 		String hashKey = RedisKeyManager.getHashKey(season.getId());
 		redisRepository.addRankData(hashKey, newUser.getId(),
-			new RankRedis(newUser.getId(), "aa", season.getStartPpp(), 0, 0, statusMessage,
+			new RankRedis(newUser.getId(), newUser.getIntraId(), season.getStartPpp(), 0, 0, statusMessage,
 				"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000"));
 		Rank userRank = Rank.builder()
 			.user(newUser)
@@ -366,7 +374,7 @@ public class TestDataUtils {
 		Tier tier = tierRepository.findStartTier().get();
 		redisRepository.addToZSet(zSetKey, newUser.getId(), ppp);
 		redisRepository.addRankData(hashKey, newUser.getId(),
-			new RankRedis(newUser.getId(), "aa", ppp, 1, 0, statusMessage,
+			new RankRedis(newUser.getId(), newUser.getIntraId(), ppp, 1, 0, statusMessage,
 				"https://42gg-public-image.s3.ap-northeast-2.amazonaws.com/images/nheo.jpeg", "#000000"));
 		Rank userRank = Rank.builder()
 			.user(newUser)
@@ -397,6 +405,7 @@ public class TestDataUtils {
 
 		PChange pChange1 = new PChange(game, newUser, 1100, true);
 		PChange pChange2 = new PChange(game, enemyUser, 900, true);
+		saveGameHistory(game, teamUser, enemyTeamUser);
 		pChangeRepository.save(pChange1);
 		pChangeRepository.save(pChange2);
 	}
@@ -416,6 +425,7 @@ public class TestDataUtils {
 
 		PChange pChange1 = new PChange(game, newUser, 1100, true);
 		PChange pChange2 = new PChange(game, enemyUser, 900, true);
+		saveGameHistory(game, teamUser, enemyTeamUser);
 
 		pChangeRepository.save(pChange1);
 		pChangeRepository.save(pChange2);
@@ -437,6 +447,7 @@ public class TestDataUtils {
 
 		PChange pChange1 = new PChange(game, newUser, 1100, true);
 		PChange pChange2 = new PChange(game, enemyUser, 900, true);
+		saveGameHistory(game, teamUser, enemyTeamUser);
 
 		pChangeRepository.save(pChange1);
 		pChangeRepository.save(pChange2);
@@ -459,12 +470,24 @@ public class TestDataUtils {
 
 		PChange pChange1 = new PChange(game, newUser, 1100, true);
 		PChange pChange2 = new PChange(game, enemyUser, 900, true);
+		saveGameHistory(game, teamUser, enemyTeamUser);
 
 		pChangeRepository.save(pChange1);
 		pChangeRepository.save(pChange2);
 		return game;
 	}
 
+	/**
+	 * GameHistoryService.record 와 같이 RANK, NORMAL 게임만 기록한다.
+	 */
+	private void saveGameHistory(Game game, TeamUser teamUser, TeamUser enemyTeamUser) {
+		if (game.getMode() != Mode.RANK && game.getMode() != Mode.NORMAL) {
+			return;
+		}
+		gameHistoryRepository.save(new GameHistory(game, teamUser, enemyTeamUser));
+		gameHistoryRepository.save(new GameHistory(game, enemyTeamUser, teamUser));
+	}
+
 	/**
 	 * <p>테스트용 토너먼트 반환. 매개변수 값들만 초기화</p>
 	 * @param startTime 시작 시간
@@ -743,6 +766,7 @@ public class TestDataUtils {
 			.rankLose(rankLose)
 			.build();
 		coinPolicyRepository.save(coinPolicy);
+		coinPolicyCache.evict();
 		return coinPolicy;
 	}
 